@@ -0,0 +1,20 @@
+private class A begin
+end
+MAIN class B inherits A begin
+    public field string new_var
+    field double x
+    field double x
+
+    public func new_var (p: bool[]) returns double begin
+        while (a) begin
+            var s = "s"
+            var t = 0
+            var h = s
+            if (a) begin
+                while (v) begin
+                    var v = 9
+                    break
+                end
+            end
+        end
+    end
@@ -0,0 +1,9 @@
+private class A begin
+end
+MAIN class B inherits A begin
+    public field string new_var
+    field double x
+    field double x
+
+    public func new_var (p: bool[]) returns double begin
+        while (a) begin
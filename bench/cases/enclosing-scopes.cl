@@ -0,0 +1,28 @@
+MAIN class A begin
+    func f (n: double) returns double begin
+        var x = 1
+        if (n) var z = 5
+        while (n) var w = "w"
+        if (n) begin
+            var y = 2
+        end
+        else var e = 3
+        if (n) begin
+            var v = 4
+        end
+        elif (x) var u = 6
+        return x
+    end
+
+    func g (n: double) returns string begin
+        var s = 1
+        while (n) begin
+            var b = s
+            if (b) begin
+                s = "s"
+                var c = s
+            end
+        end
+        return s
+    end
+end
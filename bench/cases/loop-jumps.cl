@@ -0,0 +1,30 @@
+class A begin
+    func f (n: double) returns double begin
+        var a = 1
+        while (n) begin
+            while (a) begin
+                continue
+            end
+            break
+        end
+        continue
+        return a
+    end
+end
+MAIN class B begin
+    func g (n: double) returns double begin
+        var b = 2
+        while (n) begin
+            if (b) begin
+                break
+            end
+            continue
+        end
+        return b
+    end
+
+    func h (n: double) returns double begin
+        break
+        return n
+    end
+end
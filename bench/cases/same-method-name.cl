@@ -0,0 +1,26 @@
+class A begin
+    func f (n: double) returns double begin
+        var a = 1
+        while (n) begin
+            var w = 2
+            while (a) begin
+                var u = "u"
+            end
+        end
+        return a
+    end
+end
+MAIN class B begin
+    func f (s: string) returns string begin
+        var b = "b"
+        if (s) begin
+            var i = 3
+        end
+        return b
+    end
+
+    func g (s: string) returns double begin
+        var c = 4
+        return c
+    end
+end
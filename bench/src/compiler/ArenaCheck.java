@@ -0,0 +1,220 @@
+package compiler;
+
+import gen.japyLexer;
+import gen.japyParser;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static compiler.AstArena.NONE;
+
+/*
+ * Checks that ArenaTyper types an AstArena the way ExpressionTyper types the object AST lowered from the same parse
+ * tree: every expression, in source order, gets the same type. Variables resolve to a type picked from their name,
+ * the same one on both sides, and each input is checked once per type with every name shifted to the next one, so
+ * each variable is seen as every type and indexes and arrays take every path of the typers. Runs on the benchmark
+ * inputs, on bench/cases and on any files given, and exits with 1 on the first difference.
+ *
+ *   java -cp target/benchmarks.jar compiler.ArenaCheck [files...]
+ */
+public final class ArenaCheck {
+    private static final String[] VARIABLE_TYPES = {null, "double", "string", "boolean", "double[]", "string[]", "bool[]", "A"};
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> inputs = new LinkedHashMap<>();
+        for (String file : args) inputs.put(file, read(Paths.get(file)));
+        for (String size : new String[]{"small", "medium", "expressions"}) inputs.put(size, BenchInputs.source(size));
+        try (DirectoryStream<Path> cases = Files.newDirectoryStream(Paths.get("bench/cases"), "*.cl")) {
+            for (Path file : cases) inputs.put(file.toString(), read(file));
+        }
+
+        long expressions = 0;
+        for (Map.Entry<String, String> input : inputs.entrySet()) {
+            for (int shift = 0; shift < VARIABLE_TYPES.length; shift++) expressions += check(input.getKey(), input.getValue(), shift);
+        }
+        System.out.println("same types on " + inputs.size() + " inputs (" + expressions + " expressions over " + VARIABLE_TYPES.length + " variable typings)");
+    }
+
+    // the number of expressions typed alike, exits on the first one typed differently
+    private static int check(String input, String text, int shift) {
+        Function<String, String> variables = name -> VARIABLE_TYPES[Math.floorMod(name.hashCode() + shift, VARIABLE_TYPES.length)];
+        japyLexer lexer = new japyLexer(CharStreams.fromString(text));
+        lexer.removeErrorListeners();
+        japyParser parser = new japyParser(new CommonTokenStream(lexer));
+        parser.removeErrorListeners();
+        japyParser.ProgramContext tree = parser.program();
+
+        List<String> expected = new ArrayList<>();
+        Ast.Program program = AstBuilder.lower(tree);
+        int roots = new ExpressionTyper(variables).typeAll(program);
+        for (Ast.ClassDecl classDecl : program.classes) {
+            for (Ast.Decl member : classDecl.members) {
+                if (member instanceof Ast.MethodDecl) {
+                    for (Ast.Stmt statement : ((Ast.MethodDecl) member).body) statement.accept(new ObjectTypes(expected));
+                }
+            }
+        }
+
+        List<String> actual = new ArrayList<>();
+        AstArena arena = AstArenaBuilder.build(tree);
+        int arenaRoots = new ArenaTyper(arena, variables).typeAll(0);
+        arenaTypes(arena, 0, actual);
+
+        int first = 0;
+        while (first < expected.size() && first < actual.size() && expected.get(first).equals(actual.get(first))) first++;
+        if (roots != arenaRoots || first < expected.size() || first < actual.size()) {
+            System.out.println("MISMATCH in " + input + " (variable typing " + shift + "): " + roots + " expressions typed on the object AST, "
+                    + arenaRoots + " on the arena; expression " + first);
+            System.out.println("  ExpressionTyper: " + (first < expected.size() ? expected.get(first) : "<end>"));
+            System.out.println("  ArenaTyper:      " + (first < actual.size() ? actual.get(first) : "<end>"));
+            System.exit(1);
+        }
+        return expected.size();
+    }
+
+    // every expression below `node` with its type, outermost first
+    private static void arenaTypes(AstArena arena, int node, List<String> types) {
+        if (arena.kind[node] >= AstArena.NUM) types.add(arena.kind[node] + " " + arena.names.name(arena.type[node]));
+        for (int child = arena.firstChild[node]; child != NONE; child = arena.nextSibling[child]) arenaTypes(arena, child, types);
+    }
+
+    private static String read(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+
+    // the same listing for the object AST, with each expression's arena kind so both sides read alike
+    private static final class ObjectTypes implements Ast.Visitor<Void> {
+        private final List<String> types;
+
+        ObjectTypes(List<String> types) {
+            this.types = types;
+        }
+
+        @Override
+        public Void visitBlock(Ast.Block node) {
+            for (Ast.Stmt statement : node.body) statement.accept(this);
+            return null;
+        }
+
+        @Override
+        public Void visitIf(Ast.If node) {
+            for (Ast.Branch branch : node.branches) {
+                branch.condition.accept(this);
+                branch.body.accept(this);
+            }
+            if (node.elseBody != null) node.elseBody.accept(this);
+            return null;
+        }
+
+        @Override
+        public Void visitWhile(Ast.While node) {
+            node.condition.accept(this);
+            return node.body.accept(this);
+        }
+
+        @Override
+        public Void visitWrite(Ast.Write node) { return node.value.accept(this); }
+
+        @Override
+        public Void visitAssign(Ast.Assign node) {
+            node.left.accept(this);
+            return node.right.accept(this);
+        }
+
+        @Override
+        public Void visitReturn(Ast.Return node) { return node.value.accept(this); }
+
+        @Override
+        public Void visitVarDef(Ast.VarDef node) {
+            for (Ast.Expr value : node.values) value.accept(this);
+            return null;
+        }
+
+        @Override
+        public Void visitInc(Ast.Inc node) { return node.target.accept(this); }
+
+        @Override
+        public Void visitDec(Ast.Dec node) { return node.target.accept(this); }
+
+        @Override
+        public Void visitLiteral(Ast.Literal node) {
+            int kind;
+            switch (node.kind) {
+                case NUM: kind = AstArena.NUM; break;
+                case STR: kind = AstArena.STR; break;
+                case TRUE: kind = AstArena.TRUE; break;
+                case FALSE: kind = AstArena.FALSE; break;
+                default: kind = AstArena.THIS;
+            }
+            return add(kind, node);
+        }
+
+        @Override
+        public Void visitName(Ast.Name node) { return add(AstArena.NAME, node); }
+
+        @Override
+        public Void visitBinary(Ast.Binary node) {
+            add(AstArena.BINARY, node);
+            node.left.accept(this);
+            return node.right.accept(this);
+        }
+
+        @Override
+        public Void visitUnary(Ast.Unary node) {
+            add(AstArena.UNARY, node);
+            return node.operand.accept(this);
+        }
+
+        @Override
+        public Void visitCall(Ast.Call node) {
+            add(AstArena.CALL, node);
+            if (node.target != null) node.target.accept(this);
+            for (Ast.Expr arg : node.args) arg.accept(this);
+            return null;
+        }
+
+        @Override
+        public Void visitField(Ast.Field node) {
+            add(AstArena.FIELD_ACCESS, node);
+            return node.target.accept(this);
+        }
+
+        @Override
+        public Void visitIndex(Ast.Index node) {
+            add(AstArena.INDEX, node);
+            node.target.accept(this);
+            return node.index.accept(this);
+        }
+
+        @Override
+        public Void visitNewArray(Ast.NewArray node) {
+            add(AstArena.NEW_ARRAY, node);
+            return node.size.accept(this);
+        }
+
+        @Override
+        public Void visitNewObject(Ast.NewObject node) { return add(AstArena.NEW_OBJECT, node); }
+
+        @Override
+        public Void visitParen(Ast.Paren node) {
+            add(AstArena.PAREN, node);
+            return node.inner.accept(this);
+        }
+
+        private Void add(int kind, Ast.Expr node) {
+            types.add(kind + " " + node.type);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package compiler;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/*
+ * Benchmark inputs: "small" is sample/test.cl as is, "medium" and "huge" repeat its classes with a per-copy
+ * suffix on every class name, keeping MAIN on the first copy only. "expressions" is a generated program of
+ * about medium's size whose statements are long operator chains.
+ */
+final class BenchInputs {
+    static final String SAMPLE = "sample/test.cl";
+
+    private BenchInputs() {}
+
+    static String source(String size) {
+        String sample = read(SAMPLE);
+        switch (size) {
+            case "small": return sample;
+            case "medium": return repeat(sample, 100);
+            case "huge": return repeat(sample, 1000);
+            case "expressions": return ProgramGenerator.generate(ProgramShape.parse(new String[]{
+                    "--classes", "10", "--statements", "24", "--nesting-depth", "1", "--expression-depth", "12"}));
+            default: throw new IllegalArgumentException("unknown input size " + size);
+        }
+    }
+
+    static int lines(String source) {
+        int lines = 1;
+        for (int i = 0; i < source.length(); i++) {
+            if (source.charAt(i) == '\n') lines++;
+        }
+        return lines;
+    }
+
+    private static String repeat(String sample, int copies) {
+        StringBuilder sb = new StringBuilder(sample.length() * copies);
+        for (int i = 0; i < copies; i++) {
+            String copy = sample.replaceAll("\\b(class|inherits) (\\w+)", "$1 $2_" + i);
+            if (i > 0) copy = copy.replace("MAIN ", "");
+            sb.append(copy).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static String read(String path) {
+        try {
+            return new String(Files.readAllBytes(Paths.get(path)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("benchmarks read " + path + " relative to the repository root", e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package compiler;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+import java.util.Map;
+
+/*
+ * Runs PhaseBenchmark (or whatever the usual JMH command line selects) with the GC profiler and
+ * restates each result per source line: lines/sec from ops/sec, bytes/line from gc.alloc.rate.norm.
+ */
+public class BenchReport {
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+        if (commandLine.getIncludes().isEmpty()) builder.include(PhaseBenchmark.class.getSimpleName());
+        Options options = builder.parent(commandLine).addProfiler(GCProfiler.class).build();
+        Collection<RunResult> results = new Runner(options).run();
+
+        System.out.println();
+        System.out.printf("%-20s %-12s %8s %16s %12s%n", "phase", "input", "lines", "lines/sec", "bytes/line");
+        for (RunResult result : results) {
+            String benchmark = result.getParams().getBenchmark();
+            String grammar = result.getParams().getParam("grammar");
+            String size = result.getParams().getParam("size");
+            // only a benchmark over a BenchInputs size has lines to restate its score in; JMH printed the rest above
+            if (size == null) continue;
+            int lines = BenchInputs.lines(BenchInputs.source(size));
+            double opsPerSecond = result.getPrimaryResult().getScore();
+            String phase = benchmark.substring(benchmark.lastIndexOf('.') + 1) + (grammar != null ? "/" + grammar : "");
+            System.out.printf("%-20s %-12s %8d %16.0f %12.1f%n", phase, size, lines,
+                    opsPerSecond * lines, allocatedPerOp(result.getSecondaryResults()) / lines);
+        }
+    }
+
+    // JMH hands out the secondary results as a raw Map<String, Result>
+    private static double allocatedPerOp(Map<String, ?> secondary) {
+        for (Map.Entry<String, ?> entry : secondary.entrySet()) {
+            if (entry.getKey().endsWith("gc.alloc.rate.norm")) return ((Result<?>) entry.getValue()).getScore();
+        }
+        return Double.NaN;
+    }
+}
@@ -0,0 +1,114 @@
+package compiler;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/*
+ * Compiles every `<name>.cl` under `--cases` (bench/cases by default) as a fresh process and checks its stdout
+ * against `<name>.out` and its stderr against `<name>.err` (empty when there is none), then compiles it again with
+ * --stream and checks that it prints the same. Exits with 1 if any case differs; --update rewrites the expected
+ * files from what the buffered compile prints instead.
+ *
+ *   java -cp target/benchmarks.jar compiler.CaseCheck [--cases bench/cases] [--update] [names...]
+ */
+public final class CaseCheck {
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Path cases = Paths.get("bench/cases");
+        boolean update = false;
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--cases")) cases = Paths.get(args[++i]);
+            else if (args[i].equals("--update")) update = true;
+            else names.add(args[i]);
+        }
+        if (names.isEmpty()) {
+            try (DirectoryStream<Path> sources = Files.newDirectoryStream(cases, "*.cl")) {
+                for (Path source : sources) names.add(source.getFileName().toString().replaceFirst("\\.cl$", ""));
+            }
+            names.sort(null);
+        }
+
+        int failed = 0;
+        for (String name : names) {
+            Path source = cases.resolve(name + ".cl");
+            Path out = cases.resolve(name + ".out");
+            Path err = cases.resolve(name + ".err");
+            String[] buffered = compile(source);
+            if (update) {
+                Files.write(out, buffered[0].getBytes(StandardCharsets.UTF_8));
+                if (buffered[1].isEmpty()) Files.deleteIfExists(err);
+                else Files.write(err, buffered[1].getBytes(StandardCharsets.UTF_8));
+                System.out.println("updated " + name);
+                continue;
+            }
+            String[] expected = {read(out), Files.exists(err) ? read(err) : ""};
+            String difference = difference("stdout", expected[0], buffered[0]);
+            if (difference == null) difference = difference("stderr", expected[1], buffered[1]);
+            if (difference == null) {
+                String[] streamed = compile(source, "--stream");
+                difference = difference("--stream stdout", buffered[0], streamed[0]);
+                if (difference == null) difference = difference("--stream stderr", buffered[1], streamed[1]);
+            }
+            if (difference != null) {
+                System.out.println("MISMATCH in " + name + ": " + difference);
+                failed++;
+            }
+        }
+        if (failed > 0) {
+            System.out.println(failed + " of " + names.size() + " cases differ");
+            System.exit(1);
+        }
+        if (!update) System.out.println("all " + names.size() + " cases print what they should, buffered and with --stream");
+    }
+
+    // stdout and stderr of compiling `source` with `options`
+    private static String[] compile(Path source, String... options) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(Compiler.class.getName());
+        command.addAll(List.of(options));
+        command.add(source.toString());
+
+        Process process = new ProcessBuilder(command).start();
+        CompletableFuture<String> err = CompletableFuture.supplyAsync(() -> drain(process.getErrorStream()));
+        String out = drain(process.getInputStream());
+        process.waitFor();
+        return new String[]{out, err.join()};
+    }
+
+    private static String drain(InputStream in) {
+        try (InputStream stream = in) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            stream.transferTo(bytes);
+            return bytes.toString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String read(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+
+    // the first line where `actual` differs from `expected`, or null when they are the same
+    private static String difference(String what, String expected, String actual) {
+        if (expected.equals(actual)) return null;
+        String[] expectedLines = expected.split("\n", -1);
+        String[] actualLines = actual.split("\n", -1);
+        int line = 0;
+        while (line < expectedLines.length && line < actualLines.length && expectedLines[line].equals(actualLines[line])) line++;
+        return what + " line " + (line + 1) + "\n  expected: " + (line < expectedLines.length ? expectedLines[line] : "<end>")
+                + "\n  actual:   " + (line < actualLines.length ? actualLines[line] : "<end>");
+    }
+}
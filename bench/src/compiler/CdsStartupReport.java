@@ -0,0 +1,93 @@
+package compiler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * Starts the compiler as a fresh process `--runs` times per class-data-sharing setup, the setups interleaved,
+ * and reports the time from spawning the JVM to the first byte of output (the first diagnostic) and to exit:
+ *   off   -Xshare:off, every class loaded and verified from its jar
+ *   jdk   the JDK's default CDS archive only, i.e. plain `java -jar`
+ *   app   the AppCDS archive from `mvn -Pcds package` on top of it, as bin/japyc runs
+ *
+ *   java -cp target/benchmarks.jar compiler.CdsStartupReport [--runs 20] [--archive target/japy.jsa]
+ *        [--jar target/japy-compiler-1.0-SNAPSHOT.jar] [compiler arguments, default sample/test.cl]
+ */
+public class CdsStartupReport {
+    private static final String[] SETUPS = {"off", "jdk", "app"};
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        List<String> rest = new ArrayList<>(Arrays.asList(args));
+        int runs = Integer.parseInt(option(rest, "--runs", "20"));
+        Path archive = Paths.get(option(rest, "--archive", "target/japy.jsa"));
+        Path jar = Paths.get(option(rest, "--jar", "target/japy-compiler-1.0-SNAPSHOT.jar"));
+        if (rest.isEmpty()) rest.add(BenchInputs.SAMPLE);
+        if (!Files.exists(archive)) throw new IllegalArgumentException(archive + " not found, run mvn -Pcds package first");
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+
+        double[][] firstOutput = new double[SETUPS.length][runs];
+        double[][] exit = new double[SETUPS.length][runs];
+        run(java, "jdk", archive, jar, rest);
+        for (int i = 0; i < runs; i++) {
+            for (int s = 0; s < SETUPS.length; s++) {
+                double[] times = run(java, SETUPS[s], archive, jar, rest);
+                firstOutput[s][i] = times[0];
+                exit[s][i] = times[1];
+            }
+        }
+
+        System.out.println("compiler arguments: " + String.join(" ", rest) + ", " + runs + " runs per setup");
+        System.out.printf("%-6s %18s %18s %12s %12s%n", "setup", "first output p50", "first output p90", "exit p50", "exit p90");
+        for (int s = 0; s < SETUPS.length; s++) {
+            Arrays.sort(firstOutput[s]);
+            Arrays.sort(exit[s]);
+            System.out.printf("%-6s %15.1f ms %15.1f ms %9.1f ms %9.1f ms%n", SETUPS[s],
+                    percentile(firstOutput[s], 50), percentile(firstOutput[s], 90), percentile(exit[s], 50), percentile(exit[s], 90));
+        }
+    }
+
+    // milliseconds from start to the first byte on stdout and to exit
+    private static double[] run(String java, String setup, Path archive, Path jar, List<String> compilerArgs)
+            throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        if (setup.equals("off")) command.add("-Xshare:off");
+        if (setup.equals("app")) command.add("-XX:SharedArchiveFile=" + archive);
+        command.add("-jar");
+        command.add(jar.toString());
+        command.addAll(compilerArgs);
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.DISCARD).start();
+        double firstOutput = Double.NaN;
+        try (InputStream out = process.getInputStream()) {
+            byte[] buffer = new byte[8192];
+            if (out.read() >= 0) firstOutput = (System.nanoTime() - start) / 1e6;
+            while (out.read(buffer) >= 0) {
+                // drained so the compiler never blocks on a full pipe
+            }
+        }
+        int status = process.waitFor();
+        double exit = (System.nanoTime() - start) / 1e6;
+        if (status != 0) throw new IllegalStateException(String.join(" ", command) + " exited with " + status);
+        return new double[]{firstOutput, exit};
+    }
+
+    private static String option(List<String> args, String name, String fallback) {
+        int at = args.indexOf(name);
+        if (at < 0) return fallback;
+        String value = args.get(at + 1);
+        args.subList(at, at + 2).clear();
+        return value;
+    }
+
+    private static double percentile(double[] sorted, int percent) {
+        return sorted[Math.min(sorted.length - 1, sorted.length * percent / 100)];
+    }
+}
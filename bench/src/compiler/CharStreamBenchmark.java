@@ -0,0 +1,150 @@
+package compiler;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Source loading: CharStreams.fromFileName against MappedCharStream (--mmap), on a file of `megabytes` MB of
+ * repeated sample classes that is all ASCII, or that has one non-ASCII comment on its first line. That comment
+ * holds a character outside the BMP, which makes fromFileName store 4 bytes per char for the whole file, while
+ * MappedCharStream decodes just the comment. `load` opens the file and reads every char through LA/consume.
+ *
+ *   java -jar target/benchmarks.jar CharStreamBenchmark -p megabytes=500
+ *
+ * main first loads each file once and prints the heap the stream keeps (the mapped pages are page cache,
+ * outside the heap), then runs the benchmark with any JMH options given:
+ *
+ *   java -cp target/benchmarks.jar compiler.CharStreamBenchmark [-p megabytes=500 ...]
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class CharStreamBenchmark {
+    private static final String[] LOADERS = {"antlr", "mapped"};
+    private static final String[] TEXTS = {"ascii", "unicode"};
+    private static final String UNICODE_HEADER = "## naïve ✓ 😀\n";
+
+    @Param({"antlr", "mapped"})
+    public String loader;
+
+    @Param({"ascii", "unicode"})
+    public String text;
+
+    @Param({"64"})
+    public int megabytes;
+
+    private Path file;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = write(text, megabytes);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long load() throws IOException {
+        return scan(open(loader, file));
+    }
+
+    public static void main(String[] args) throws Exception {
+        int megabytes = 64;
+        for (int i = 0; i + 1 < args.length; i++) {
+            if (args[i].equals("-p") && args[i + 1].startsWith("megabytes=")) megabytes = Integer.parseInt(args[i + 1].substring("megabytes=".length()));
+        }
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.out.printf("%-8s %-8s %8s %10s %12s%n", "loader", "text", "MB", "load ms", "heap MB");
+        for (String text : TEXTS) {
+            Path file = write(text, megabytes);
+            try {
+                for (String loader : LOADERS) {
+                    long before = heapUsed(memory);
+                    long start = System.nanoTime();
+                    CharStream stream = open(loader, file);
+                    scan(stream);
+                    double millis = (System.nanoTime() - start) / 1e6;
+                    long retained = heapUsed(memory) - before;
+                    System.out.printf("%-8s %-8s %8d %10.1f %12.1f%n", loader, text, megabytes, millis, retained / 1e6);
+                    if (stream.size() < 0) System.out.println(stream);
+                }
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+        System.out.println();
+        String[] jmhArgs = Arrays.copyOf(args, args.length + 1);
+        jmhArgs[args.length] = CharStreamBenchmark.class.getSimpleName();
+        org.openjdk.jmh.Main.main(jmhArgs);
+    }
+
+    private static CharStream open(String loader, Path file) throws IOException {
+        switch (loader) {
+            case "antlr": return CharStreams.fromFileName(file.toString());
+            case "mapped": return MappedCharStream.open(file);
+            default: throw new IllegalArgumentException("unknown loader " + loader);
+        }
+    }
+
+    private static long scan(CharStream stream) {
+        long sum = 0;
+        for (int c = stream.LA(1); c != IntStream.EOF; c = stream.LA(1)) {
+            sum += c;
+            stream.consume();
+        }
+        return sum;
+    }
+
+    private static Path write(String text, int megabytes) throws IOException {
+        Path file = Files.createTempFile("japy-load-" + text, ".cl");
+        byte[] chunk = BenchInputs.source("huge").getBytes(StandardCharsets.US_ASCII);
+        long target = (long) megabytes << 20;
+        try (OutputStream out = Files.newOutputStream(file)) {
+            long written = 0;
+            if (text.equals("unicode")) {
+                byte[] header = UNICODE_HEADER.getBytes(StandardCharsets.UTF_8);
+                out.write(header);
+                written += header.length;
+            }
+            while (written < target) {
+                int length = (int) Math.min(chunk.length, target - written);
+                out.write(chunk, 0, length);
+                written += length;
+            }
+        }
+        return file;
+    }
+
+    private static long heapUsed(MemoryMXBean memory) {
+        for (int i = 0; i < 3; i++) System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
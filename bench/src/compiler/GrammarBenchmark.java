@@ -0,0 +1,137 @@
+package compiler;
+
+import gen.japyLexer;
+import gen.japyParser;
+import gen.japyPrecedenceParser;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * japy.g4's layered expression rules against japyPrecedenceParser's single left-recursive `expression`, on the
+ * same pre-lexed tokens:
+ *   parse   tokens -> parse tree
+ *   lower   tokens -> parse tree -> Ast (the same Ast for both grammars)
+ *
+ *   java -jar target/benchmarks.jar GrammarBenchmark
+ *
+ * main prints each grammar's parse tree size (rule nodes, terminals, depth) before running the benchmarks with
+ * any JMH options given:
+ *
+ *   java -cp target/benchmarks.jar compiler.GrammarBenchmark [-wi 3 -i 5 ...]
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class GrammarBenchmark {
+    private static final String[] SIZES = {"medium", "expressions"};
+
+    @Param({"japy", "precedence"})
+    public String grammar;
+
+    @Param({"medium", "expressions"})
+    public String size;
+
+    private List<? extends Token> tokens;
+
+    @Setup
+    public void setUp() {
+        tokens = lex(BenchInputs.source(size));
+    }
+
+    @Benchmark
+    public Object parse() {
+        return parse(grammar, tokens);
+    }
+
+    @Benchmark
+    public Object lower() {
+        ParserRuleContext tree = parse(grammar, tokens);
+        return grammar.equals("japy")
+                ? AstBuilder.lower((japyParser.ProgramContext) tree)
+                : PrecedenceAstBuilder.lower((japyPrecedenceParser.ProgramContext) tree);
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.out.printf("%-12s %-11s %10s %10s %10s %6s%n", "input", "grammar", "rules", "terminals", "rules/line", "depth");
+        for (String size : SIZES) {
+            String source = BenchInputs.source(size);
+            List<? extends Token> tokens = lex(source);
+            for (String grammar : new String[]{"japy", "precedence"}) {
+                TreeStats stats = new TreeStats(parse(grammar, tokens));
+                System.out.printf("%-12s %-11s %10d %10d %10.1f %6d%n", size, grammar, stats.rules, stats.terminals,
+                        (double) stats.rules / BenchInputs.lines(source), stats.depth);
+            }
+        }
+        System.out.println();
+        String[] jmhArgs = Arrays.copyOf(args, args.length + 1);
+        jmhArgs[args.length] = GrammarBenchmark.class.getSimpleName();
+        BenchReport.main(jmhArgs);
+    }
+
+    private static List<? extends Token> lex(String source) {
+        CommonTokenStream lexed = new CommonTokenStream(new japyLexer(CharStreams.fromString(source)));
+        lexed.fill();
+        return lexed.getTokens();
+    }
+
+    private static ParserRuleContext parse(String grammar, List<? extends Token> tokens) {
+        CommonTokenStream stream = new CommonTokenStream(new ListTokenSource(tokens));
+        switch (grammar) {
+            case "japy": return new japyParser(stream).program();
+            case "precedence": return new japyPrecedenceParser(stream).program();
+            default: throw new IllegalArgumentException("unknown grammar " + grammar);
+        }
+    }
+
+    // walked with an explicit stack, the japy.g4 trees of long operator chains are deep
+    static final class TreeStats {
+        long rules;
+        long terminals;
+        int depth;
+
+        TreeStats(ParseTree root) {
+            Deque<ParseTree> nodes = new ArrayDeque<>();
+            Deque<Integer> depths = new ArrayDeque<>();
+            nodes.push(root);
+            depths.push(1);
+            while (!nodes.isEmpty()) {
+                ParseTree node = nodes.pop();
+                int at = depths.pop();
+                depth = Math.max(depth, at);
+                if (node.getChildCount() == 0 && !(node instanceof ParserRuleContext)) {
+                    terminals++;
+                    continue;
+                }
+                rules++;
+                for (int i = 0; i < node.getChildCount(); i++) {
+                    nodes.push(node.getChild(i));
+                    depths.push(at + 1);
+                }
+            }
+        }
+    }
+}
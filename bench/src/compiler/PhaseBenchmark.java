@@ -0,0 +1,116 @@
+package compiler;
+
+import gen.japyLexer;
+import gen.japyParser;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.Token;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * One benchmark per compiler phase, each fed the previous phase's output prepared once per trial:
+ *   lex / scan   source -> tokens (japyLexer, JapyScanner)
+ *   parse        pre-lexed tokens -> parse tree
+ *   lower        parse tree -> Ast
+ *   analyse      parse tree -> Ast -> ProgramPrinter (lowered again every time, the typer memoizes into the Ast)
+ *   compile      source file -> printed output, the same path as Compiler.main
+ * ProgramPrinter's output goes to a discarding System.out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class PhaseBenchmark {
+    @Param({"small", "medium", "huge"})
+    public String size;
+
+    private CharStream chars;
+    private List<? extends Token> tokens;
+    private japyParser.ProgramContext tree;
+    private Path file;
+    private PrintStream stdout;
+
+    @Setup
+    public void setUp() throws IOException {
+        String source = BenchInputs.source(size);
+        chars = CharStreams.fromString(source);
+        CommonTokenStream lexed = new CommonTokenStream(new japyLexer(chars));
+        lexed.fill();
+        tokens = lexed.getTokens();
+        tree = new japyParser(new CommonTokenStream(new ListTokenSource(tokens))).program();
+        file = Files.createTempFile("japy-" + size, ".cl");
+        Files.write(file, source.getBytes());
+
+        stdout = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        System.setOut(stdout);
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public int lex() {
+        chars.seek(0);
+        japyLexer lexer = new japyLexer(chars);
+        int count = 0;
+        while (lexer.nextToken().getType() != Token.EOF) count++;
+        return count;
+    }
+
+    @Benchmark
+    public int scan() {
+        chars.seek(0);
+        JapyScanner scanner = new JapyScanner(chars, true);
+        int count = 0;
+        for (int i = scanner.next(); scanner.type[i] != Token.EOF; i = scanner.next()) count++;
+        return count;
+    }
+
+    @Benchmark
+    public Object parse() {
+        return new japyParser(new CommonTokenStream(new ListTokenSource(tokens))).program();
+    }
+
+    @Benchmark
+    public Object lower() {
+        return AstBuilder.lower(tree);
+    }
+
+    @Benchmark
+    public void analyse() {
+        new ProgramPrinter().visitProgram(AstBuilder.lower(tree));
+    }
+
+    @Benchmark
+    public void compile() throws IOException {
+        CompilerOptions options = new CompilerOptions();
+        options.source = file.toString();
+        new ProgramPrinter().visitProgram(Compiler.lower(options));
+    }
+}
@@ -0,0 +1,240 @@
+package compiler;
+
+import java.util.Random;
+
+/*
+ * Knobs for ProgramGenerator. Classes come in inheritance chains of `inheritanceDepth`; every method gets
+ * `statements` top-level statements, the compound ones nest if/elif/else and while `nestingDepth` deep, and
+ * every expression is an operator chain `expressionDepth` operators long.
+ */
+class ProgramShape {
+    int classes = 10;
+    int inheritanceDepth = 3;
+    int fields = 4;
+    int methods = 4;
+    int statements = 12;
+    int nestingDepth = 2;
+    int expressionDepth = 3;
+    // the share of classes, in percent, that redeclare an earlier class's name
+    int redefinedPercent = 0;
+    long seed = 1;
+
+    static ProgramShape parse(String[] args) {
+        ProgramShape shape = new ProgramShape();
+        for (int i = 0; i < args.length; i += 2) {
+            if (i + 1 == args.length) throw new IllegalArgumentException("missing value for " + args[i]);
+            shape.set(args[i].replaceFirst("^--", ""), Long.parseLong(args[i + 1]));
+        }
+        return shape;
+    }
+
+    void set(String knob, long value) {
+        switch (knob) {
+            case "classes": classes = (int) value; break;
+            case "inheritance-depth": inheritanceDepth = (int) value; break;
+            case "fields": fields = (int) value; break;
+            case "methods": methods = (int) value; break;
+            case "statements": statements = (int) value; break;
+            case "nesting-depth": nestingDepth = (int) value; break;
+            case "expression-depth": expressionDepth = (int) value; break;
+            case "redefined-percent": redefinedPercent = (int) value; break;
+            case "seed": seed = value; break;
+            default: throw new IllegalArgumentException("unknown knob " + knob);
+        }
+    }
+
+    ProgramShape copy() {
+        ProgramShape copy = new ProgramShape();
+        copy.classes = classes;
+        copy.inheritanceDepth = inheritanceDepth;
+        copy.fields = fields;
+        copy.methods = methods;
+        copy.statements = statements;
+        copy.nestingDepth = nestingDepth;
+        copy.expressionDepth = expressionDepth;
+        copy.redefinedPercent = redefinedPercent;
+        copy.seed = seed;
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        return "classes=" + classes + " inheritance-depth=" + inheritanceDepth + " fields=" + fields + " methods=" + methods
+                + " statements=" + statements + " nesting-depth=" + nestingDepth + " expression-depth=" + expressionDepth
+                + " redefined-percent=" + redefinedPercent;
+    }
+}
+
+/*
+ * Emits syntactically valid japy programs of a given ProgramShape. Every name is declared before it is used
+ * and unique within its method, so the semantic phases see realistic, mostly error-free input. With
+ * --redefined-percent the last classes reuse the names of the first ones, which ProgramPrinter reports and renames.
+ *
+ *   java -cp target/benchmarks.jar compiler.ProgramGenerator --classes 1000 --nesting-depth 4 > big.cl
+ */
+class ProgramGenerator {
+    private static final String[] ARITHMETIC = {"+", "-", "*", "/", "%"};
+    private static final String[] COMPARISON = {"<", ">", "==", "<>"};
+
+    private final ProgramShape shape;
+    private final Random random;
+    private final StringBuilder out = new StringBuilder();
+    private int indent;
+    private int locals;
+    // classes with a name of their own; the rest redeclare C0, C1, ...
+    private final int unique;
+
+    ProgramGenerator(ProgramShape shape) {
+        this.shape = shape;
+        this.random = new Random(shape.seed);
+        this.unique = Math.max(1, shape.classes - shape.classes * shape.redefinedPercent / 100);
+    }
+
+    public static void main(String[] args) {
+        System.out.print(generate(ProgramShape.parse(args)));
+    }
+
+    static String generate(ProgramShape shape) {
+        return new ProgramGenerator(shape).program();
+    }
+
+    private String program() {
+        for (int c = 0; c < shape.classes; c++) classDeclaration(c);
+        line("MAIN class Main begin");
+        indent++;
+        line("public func main (args: string[]) returns double begin");
+        indent++;
+        locals = 0;
+        for (int c = 0; c < Math.min(unique, shape.classes); c++) line("var o" + c + " = new C" + c + "()");
+        line("return 0");
+        indent--;
+        line("end");
+        indent--;
+        line("end");
+        return out.toString();
+    }
+
+    private void classDeclaration(int c) {
+        int depth = Math.max(1, shape.inheritanceDepth);
+        String header = (c % 2 == 0 ? "public " : "") + "class " + className(c);
+        if (c % depth != 0) header += " inherits " + className(c - 1);
+        line(header + " begin");
+        indent++;
+        for (int f = 0; f < shape.fields; f++) {
+            line((f % 3 == 0 ? "private " : "") + "field " + (f % 2 == 0 ? "double" : "string") + " f" + f);
+        }
+        for (int m = 0; m < shape.methods; m++) method(m);
+        indent--;
+        line("end");
+    }
+
+    private String className(int c) {
+        return "C" + (c < unique ? c : c - unique);
+    }
+
+    private void method(int m) {
+        line("public func m" + m + " (p: double, q: bool) returns double begin");
+        indent++;
+        locals = 0;
+        line("var v0 = p");
+        locals++;
+        for (int s = 0; s < shape.statements; s++) statement(s, shape.nestingDepth);
+        line("return " + arithmetic(shape.expressionDepth));
+        indent--;
+        line("end");
+    }
+
+    // only the first branch of a compound statement nests further, so size stays linear in nesting depth
+    private void statement(int s, int depth) {
+        switch (s % 6) {
+            case 0:
+                line("var v" + locals + " = " + arithmetic(shape.expressionDepth));
+                locals++;
+                break;
+            case 1:
+                line(local() + " = " + arithmetic(shape.expressionDepth));
+                break;
+            case 2:
+                if (depth > 0) {
+                    conditional(depth);
+                    break;
+                }
+                line("sout(" + arithmetic(shape.expressionDepth) + ")");
+                break;
+            case 3:
+                line(local() + (s % 4 == 3 ? "++" : "--"));
+                break;
+            case 4:
+                if (depth > 0) {
+                    loop(depth);
+                    break;
+                }
+                line("sout(\"s" + s + "\")");
+                break;
+            default:
+                line("sout(" + condition() + ")");
+        }
+    }
+
+    private void conditional(int depth) {
+        line("if (" + condition() + ") begin");
+        body(depth - 1);
+        for (int e = 0; e < 1 + random.nextInt(2); e++) {
+            line("end");
+            line("elif (" + condition() + ") begin");
+            body(0);
+        }
+        line("end");
+        line("else begin");
+        body(0);
+        line("end");
+    }
+
+    private void loop(int depth) {
+        line("while (" + condition() + ") begin");
+        body(depth - 1);
+        indent++;
+        line("break");
+        indent--;
+        line("end");
+    }
+
+    // a nested body is one compound statement (alternating if and while by depth) followed by simple ones
+    private void body(int depth) {
+        indent++;
+        for (int s = 0; s < 3; s++) {
+            if (s == 0 && depth > 0) statement(depth % 2 == 0 ? 2 : 4, depth);
+            else statement(2 * s + 1, 0);
+        }
+        indent--;
+    }
+
+    private String condition() {
+        return local() + " " + COMPARISON[random.nextInt(COMPARISON.length)] + " " + arithmetic(shape.expressionDepth - 1);
+    }
+
+    // right-nested operator chain with `depth` operators, every other level parenthesised
+    private String arithmetic(int depth) {
+        if (depth <= 0) return operand();
+        String rest = arithmetic(depth - 1);
+        if (depth % 2 == 0) rest = "(" + rest + ")";
+        return operand() + " " + ARITHMETIC[random.nextInt(ARITHMETIC.length)] + " " + rest;
+    }
+
+    private String operand() {
+        switch (random.nextInt(4)) {
+            case 0: return String.valueOf(1 + random.nextInt(99));
+            case 1: return "p";
+            default: return local();
+        }
+    }
+
+    private String local() {
+        return "v" + random.nextInt(locals);
+    }
+
+    private void line(String text) {
+        for (int i = 0; i < indent; i++) out.append("    ");
+        out.append(text).append('\n');
+    }
+}
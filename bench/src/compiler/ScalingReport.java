@@ -0,0 +1,183 @@
+package compiler;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * Sweeps each ProgramShape knob over 1x..16x of its base value (other knobs fixed), compiles every generated
+ * program end to end and reports wall time, allocation and peak heap per point. The growth column is the
+ * exponent k in time ~ value^k between neighbouring points; every knob grows the program at most linearly,
+ * so anything well above 1 is a scaling cliff. `--knobs` sweeps only the named knobs, `--factors` replaces the
+ * 1x..16x multipliers, `--parallel` checks classes on that many threads as Compiler --parallel does, and `--check`
+ * exits with status 1 if any point grew super-linearly. Give it a fixed heap, or the heap growing between points
+ * shows up as growth. The statement sweep keeps ProgramPrinter's scope stack lookups linear in statement count,
+ * the class sweep up to 50k small classes, a fifth of them redefinitions, keeps class registration constant per class:
+ *
+ *   java -cp target/benchmarks.jar compiler.ScalingReport [--csv scaling.csv] [--knobs k1,k2] [--factors f1,f2]
+ *        [--parallel threads] [--check] [--knob value ...]
+ *   java -Xms2g -Xmx2g -cp target/benchmarks.jar compiler.ScalingReport --knobs statements --check
+ *   java -Xms6g -Xmx6g -cp target/benchmarks.jar compiler.ScalingReport --knobs classes --factors 50,500,5000
+ *        --fields 1 --methods 1 --statements 2 --nesting-depth 0 --redefined-percent 20 --parallel 4 --check
+ */
+public class ScalingReport {
+    private static final String[] KNOBS = {
+            "classes", "inheritance-depth", "fields", "methods", "statements", "nesting-depth", "expression-depth"};
+    private static final String FACTORS = "1,2,4,8,16";
+    private static final int WARMUP = 10;
+    private static final int RUNS = 5;
+    private static final double SUPERLINEAR = 1.25;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    static class Point {
+        String knob;
+        long value;
+        int lines;
+        double millis;
+        long allocated;
+        long peakHeap;
+        double growth = Double.NaN;
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<String> shapeArgs = new ArrayList<>(Arrays.asList(args));
+        String csvName = option(shapeArgs, "--csv", null);
+        Path csv = csvName == null ? null : Paths.get(csvName);
+        String[] knobs = option(shapeArgs, "--knobs", String.join(",", KNOBS)).split(",");
+        String[] factors = option(shapeArgs, "--factors", FACTORS).split(",");
+        int parallelism = Integer.parseInt(option(shapeArgs, "--parallel", "0"));
+        boolean check = shapeArgs.remove("--check");
+        ProgramShape base = ProgramShape.parse(shapeArgs.toArray(new String[0]));
+
+        PrintStream report = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        List<Point> points = new ArrayList<>();
+        boolean superlinear = false;
+        try {
+            report.println("base shape: " + base);
+            for (int i = 0; i < WARMUP; i++) measure("warmup", 1, ProgramGenerator.generate(base), parallelism);
+            report.printf("%-18s %8s %9s %10s %10s %12s %12s %8s%n",
+                    "knob", "value", "lines", "ms", "us/line", "alloc MB", "peak MB", "growth");
+            for (String knob : knobs) {
+                Point previous = null;
+                for (String factorText : factors) {
+                    int factor = Integer.parseInt(factorText);
+                    ProgramShape shape = base.copy();
+                    long value = knob.endsWith("depth") ? factor : (long) baseValue(base, knob) * factor;
+                    shape.set(knob, value);
+                    Point point = measure(knob, value, ProgramGenerator.generate(shape), parallelism);
+                    if (previous != null) {
+                        point.growth = Math.log(point.millis / previous.millis) / Math.log((double) point.value / previous.value);
+                    }
+                    points.add(point);
+                    superlinear |= point.growth > SUPERLINEAR;
+                    print(report, point);
+                    previous = point;
+                }
+            }
+        } finally {
+            System.setOut(report);
+        }
+        if (csv != null) writeCsv(csv, points);
+        if (check && superlinear) {
+            System.err.println("super-linear growth (k > " + SUPERLINEAR + ") at the points marked !");
+            System.exit(1);
+        }
+    }
+
+    // removes `name value` from args and returns the value
+    private static String option(List<String> args, String name, String fallback) {
+        int at = args.indexOf(name);
+        if (at < 0) return fallback;
+        String value = args.get(at + 1);
+        args.subList(at, at + 2).clear();
+        return value;
+    }
+
+    private static int baseValue(ProgramShape shape, String knob) {
+        switch (knob) {
+            case "classes": return shape.classes;
+            case "fields": return shape.fields;
+            case "methods": return shape.methods;
+            case "statements": return shape.statements;
+            default: throw new IllegalArgumentException(knob);
+        }
+    }
+
+    // best of RUNS after one untimed compile; heap is the summed peak of the heap pools during the run
+    private static Point measure(String knob, long value, String source, int parallelism) throws IOException {
+        Path file = Files.createTempFile("japy-scaling", ".cl");
+        try {
+            Files.write(file, source.getBytes());
+            CompilerOptions options = new CompilerOptions();
+            options.source = file.toString();
+            options.parallelism = parallelism;
+            compile(options);
+
+            Point point = new Point();
+            point.knob = knob;
+            point.value = value;
+            point.lines = BenchInputs.lines(source);
+            point.millis = Double.MAX_VALUE;
+            long thread = Thread.currentThread().getId();
+            for (int run = 0; run < RUNS; run++) {
+                System.gc();
+                for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) pool.resetPeakUsage();
+                long allocated = THREADS.getThreadAllocatedBytes(thread);
+                long start = System.nanoTime();
+                compile(options);
+                point.millis = Math.min(point.millis, (System.nanoTime() - start) / 1e6);
+                point.allocated = THREADS.getThreadAllocatedBytes(thread) - allocated;
+                point.peakHeap = Math.max(point.peakHeap, heapPeak());
+            }
+            return point;
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void compile(CompilerOptions options) throws IOException {
+        Ast.Program program = Compiler.lower(options);
+        ProgramPrinter printer = new ProgramPrinter();
+        printer.begin();
+        Compiler.symbols(options, printer, program);
+        printer.end();
+    }
+
+    private static long heapPeak() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) peak += pool.getPeakUsage().getUsed();
+        }
+        return peak;
+    }
+
+    private static void print(PrintStream report, Point point) {
+        String growth = Double.isNaN(point.growth) ? "" : String.format("%.2f", point.growth);
+        if (point.growth > SUPERLINEAR) growth += " !";
+        report.printf("%-18s %8d %9d %10.1f %10.2f %12.1f %12.1f %8s%n", point.knob, point.value, point.lines, point.millis,
+                point.millis * 1000 / point.lines, point.allocated / 1e6, point.peakHeap / 1e6, growth);
+    }
+
+    private static void writeCsv(Path csv, List<Point> points) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(csv))) {
+            out.println("knob,value,lines,ms,allocated_bytes,peak_heap_bytes,growth");
+            for (Point point : points) {
+                out.println(point.knob + "," + point.value + "," + point.lines + "," + point.millis + ","
+                        + point.allocated + "," + point.peakHeap + "," + (Double.isNaN(point.growth) ? "" : point.growth));
+            }
+        }
+    }
+}
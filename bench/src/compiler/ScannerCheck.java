@@ -0,0 +1,104 @@
+package compiler;
+
+import gen.japyLexer;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/*
+ * Checks that --scanner sees what japyLexer sees: the same tokens (type, text span, line, column) and the same
+ * recognition errors at the same places, on the benchmark inputs, on hand-picked edge cases, on random strings
+ * over the characters the grammar cares about, and on any files given. Exits with 1 on the first difference.
+ *
+ *   java -cp target/benchmarks.jar compiler.ScannerCheck [--random <n>] [--seed <n>] [files...]
+ */
+public final class ScannerCheck {
+    private static final String[] EDGE_CASES = {
+            "", "\n", "\r\n", "\r", "a\rb", "\t x",
+            "#", "##", "## comment", "###", "####", "###\n###", "### a\nb ### c", "### never closed\nclass A",
+            "## a ### b\n", "###a###b", "#x",
+            "\"", "\"open", "\"\"", "\"a\nb\"", "\"é ✓\"",
+            "0", "00", "0123", "1", "1.", "1.5", "1.5.2", "12.x", "9..1",
+            "|", "||", "|||", "&", "&&", "&&&", "=", "==", "===", "<>", "<<>", "<", ">", "++", "+++", "--", "---",
+            "class", "classes", "Class", "if", "iff", "_", "_1", "a_b9", "while1", "é", "a\u0000b", "@", "$x",
+            "x.y[0](1,2):3%4/5*6!", "class A inherits B\n  def f(x:int):int\n    return x\n  end\nend\n",
+    };
+    private static final String ALPHABET = "ab_ 19.0\"#\n\r\t|&=<>+-()[],:*/%!éclasifdowhenr";
+
+    public static void main(String[] args) throws IOException {
+        int randomCases = 20000;
+        long seed = 42;
+        Map<String, String> inputs = new LinkedHashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--random")) randomCases = Integer.parseInt(args[++i]);
+            else if (args[i].equals("--seed")) seed = Long.parseLong(args[++i]);
+            else inputs.put(args[i], new String(Files.readAllBytes(Paths.get(args[i])), StandardCharsets.UTF_8));
+        }
+        for (String size : new String[]{"small", "medium", "expressions"}) inputs.put(size, BenchInputs.source(size));
+        for (int i = 0; i < EDGE_CASES.length; i++) inputs.put("edge case " + i, EDGE_CASES[i]);
+        Random random = new Random(seed);
+        for (int i = 0; i < randomCases; i++) {
+            StringBuilder sb = new StringBuilder();
+            for (int n = random.nextInt(40); n > 0; n--) sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            inputs.put("random " + i, sb.toString());
+        }
+
+        long tokens = 0;
+        for (Map.Entry<String, String> input : inputs.entrySet()) {
+            List<String> expected = lex(input.getValue(), false);
+            List<String> actual = lex(input.getValue(), true);
+            int first = 0;
+            while (first < expected.size() && first < actual.size() && expected.get(first).equals(actual.get(first))) first++;
+            if (first < expected.size() || first < actual.size()) {
+                System.out.println("MISMATCH in " + input.getKey() + ": " + quote(input.getValue()));
+                System.out.println("  japyLexer:   " + (first < expected.size() ? expected.get(first) : "<end>"));
+                System.out.println("  JapyScanner: " + (first < actual.size() ? actual.get(first) : "<end>"));
+                System.exit(1);
+            }
+            tokens += expected.size();
+        }
+        System.out.println("same tokens and errors on " + inputs.size() + " inputs (" + tokens + " tokens and errors)");
+    }
+
+    // every token and recognition error, in order
+    private static List<String> lex(String text, boolean scanner) {
+        List<String> seen = new ArrayList<>();
+        BaseErrorListener errors = new BaseErrorListener() {
+            @Override
+            public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int column,
+                                    String message, RecognitionException e) {
+                seen.add("error " + line + ":" + column + " " + message);
+            }
+        };
+        TokenSource source;
+        if (scanner) {
+            JapyScanner scan = new JapyScanner(CharStreams.fromString(text), false);
+            scan.errorListener = errors;
+            source = new JapyTokenSource(scan);
+        } else {
+            source = Compiler.listen(new japyLexer(CharStreams.fromString(text)), errors);
+        }
+        for (Token token = source.nextToken(); ; token = source.nextToken()) {
+            seen.add("token " + token.getType() + " " + token.getStartIndex() + ".." + token.getStopIndex()
+                    + " " + token.getLine() + ":" + token.getCharPositionInLine() + " " + quote(token.getText()));
+            if (token.getType() == Token.EOF) return seen;
+        }
+    }
+
+    private static String quote(String text) {
+        return "'" + text.replace("\r", "\\r").replace("\n", "\\n").replace("\t", "\\t") + "'";
+    }
+}
@@ -0,0 +1,64 @@
+package compiler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * The first Compiler.main of a fresh JVM, with the parsers starting cold (`--no-dfa`) or from the DFA snapshot
+ * bundled in the jar. Every fork measures one compile, so nothing the parsers learn outlives it; the score is
+ * the average over the forks. Loading the snapshot is part of the measured compile.
+ *
+ *   java -jar target/benchmarks.jar StartupBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 20, jvmArgsAppend = "-Xmx2g")
+public class StartupBenchmark {
+    @Param({"none", "bundled"})
+    public String dfa;
+
+    @Param({"small", "medium"})
+    public String size;
+
+    private Path file;
+    private PrintStream stdout;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("japy-" + size, ".cl");
+        Files.write(file, BenchInputs.source(size).getBytes());
+        stdout = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        System.setOut(stdout);
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void coldCompile() throws IOException {
+        Compiler.main(dfa.equals("none") ? new String[]{"--no-dfa", file.toString()} : new String[]{file.toString()});
+    }
+}
@@ -0,0 +1,115 @@
+package compiler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * SymbolMap against the LinkedHashMap<Integer, SymbolTableEntry> SymbolTable used before, on `entries` var
+ * keys built the way ProgramPrinter builds them (dense interned ids packed with the kind):
+ *   insert   a fresh map filled with every key
+ *   lookup   every key looked up once, in shuffled order, plus as many misses
+ *   iterate  one insertion-order walk, the PHASE 2 dump's access pattern
+ *
+ *   java -cp target/benchmarks.jar org.openjdk.jmh.Main SymbolMapBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SymbolMapBenchmark {
+    @Param({"8", "64", "4096", "1048576"})
+    public int entries;
+
+    private int[] keys;
+    private int[] probes;
+    private SymbolTableEntry[] values;
+    private LinkedHashMap<Integer, SymbolTableEntry> linked;
+    private SymbolMap open;
+
+    @Setup
+    public void setUp() {
+        Names names = new Names();
+        keys = new int[entries];
+        values = new SymbolTableEntry[entries];
+        for (int i = 0; i < entries; i++) {
+            int id = names.intern("v" + i);
+            keys[i] = SymbolTable.key(SymbolKind.VAR, id);
+            values[i] = new SymbolTableEntry(names, id, "", names.intern("double"), i, i);
+        }
+
+        // hits in random order interleaved with misses (same ids, another kind)
+        probes = new int[2 * entries];
+        Random random = new Random(1);
+        for (int i = 0; i < entries; i++) {
+            probes[2 * i] = keys[i];
+            probes[2 * i + 1] = keys[i] ^ SymbolKind.VAR.ordinal() ^ SymbolKind.FIELD.ordinal();
+        }
+        for (int i = probes.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = probes[i];
+            probes[i] = probes[j];
+            probes[j] = t;
+        }
+
+        linked = insertLinked();
+        open = insertOpen();
+    }
+
+    @Benchmark
+    public LinkedHashMap<Integer, SymbolTableEntry> insertLinked() {
+        LinkedHashMap<Integer, SymbolTableEntry> map = new LinkedHashMap<>();
+        for (int i = 0; i < keys.length; i++) map.put(keys[i], values[i]);
+        return map;
+    }
+
+    @Benchmark
+    public SymbolMap insertOpen() {
+        SymbolMap map = new SymbolMap();
+        for (int i = 0; i < keys.length; i++) map.put(keys[i], values[i]);
+        return map;
+    }
+
+    @Benchmark
+    public int lookupLinked() {
+        int hits = 0;
+        for (int key : probes) if (linked.get(key) != null) hits++;
+        return hits;
+    }
+
+    @Benchmark
+    public int lookupOpen() {
+        int hits = 0;
+        for (int key : probes) if (open.get(key) != null) hits++;
+        return hits;
+    }
+
+    @Benchmark
+    public int iterateLinked() {
+        int lines = 0;
+        for (Map.Entry<Integer, SymbolTableEntry> entry : linked.entrySet()) lines += entry.getKey() ^ entry.getValue().startLine;
+        return lines;
+    }
+
+    @Benchmark
+    public int iterateOpen() {
+        int lines = 0;
+        for (int i = 0; i < open.size(); i++) lines += open.key(i) ^ open.value(i).startLine;
+        return lines;
+    }
+}
@@ -0,0 +1,160 @@
+parser grammar japyPrecedenceParser;
+
+// The japy grammar with its expression rules replaced by one directly left-recursive rule: alternatives are
+// listed from the tightest binding to the loosest, and every binary operator is left-associative. Tokens
+// come from japyLexer (or JapyScanner); AstBuilder lowers both grammars to the same Ast.
+options { tokenVocab = japy; }
+
+program:
+ (c1 = classDeclaration)*
+ mainclass = entryClassDeclaration
+ (c3 = classDeclaration)* EOF
+	;
+
+classDeclaration:
+	access_modifier? 'class' className= ID ('inherits' classParent= ID)? 'begin'
+	(fieldDeclaration | methodDeclaration)*
+    'end'
+	;
+
+entryClassDeclaration:
+	('MAIN') classDeclaration;
+
+
+fieldDeclaration:
+	access_modifier? 'field' fieldType = japyType fieldName = ID (',' ii = ID)*
+	;
+
+access_modifier:
+	'public'| 'private' | 'protected'
+	;
+
+methodDeclaration:
+    methodAccessModifier = access_modifier? 'func' methodName = ID
+    '(' ( param1 = ID ':' typeP1 = japyType (',' param2 = ID ':' typeP2 = japyType)*)?')'
+    'returns' t = japyType
+    'begin' (s = statement)* 'end'
+    ;
+
+closedStatement :
+    s1 = statementBlock
+    | conditionalStat=closedConditional
+    | s3 = statementClosedLoop
+    | s4 = statementWrite
+    | s5 = statementAssignment
+    | s6 = statementReturn
+    | s7 = statementVarDef
+    | s8 = statementContinue
+    | s9 = statementBreak
+    | incStat=statementInc
+    | decStat=statementDec
+;
+
+closedConditional :
+    'if' '(' ifExp=expression ')' ifStat=closedStatement
+    ('elif' '(' elifExp=expression ')' elifStat=closedStatement)*
+    'else' elseStmt=closedStatement
+;
+
+openConditional:
+    'if' '(' ifExp=expression ')' ifStat=statement
+    | (
+    'if' '(' ifExp=expression ')' secondIfStat=closedStatement
+    ('elif' '(' elifExp=expression ')' elifStat=closedStatement )*
+    'elif' '(' lastElifExp=expression ')' lastElifStmt=statement
+    )
+    | (
+    'if' '(' ifExp=expression ')' thirdIfStat=closedStatement
+    ('elif' '(' elifExp=expression ')' elifStat=closedStatement)*
+    'else' elseStmt=openStatement
+    )
+;
+
+openStatement :
+    s1 = statementOpenLoop
+    | conditionalStat=openConditional
+    ;
+
+
+statement:
+	s1 = closedStatement
+	| s2 = openStatement
+	;
+
+statementVarDef:
+	    'var' i1 = ID '=' e1 = expression (',' i2 = ID '=' e2 = expression)*
+	    ;
+
+statementBlock:
+	'begin' (s = statement )* 'end';
+
+statementContinue:
+	myContinue='continue';
+
+statementBreak:
+	myBreak='break'
+	;
+
+statementReturn:
+	myReturn='return'
+		e = expression
+	;
+
+statementClosedLoop:
+	'while' '(' e = expression ')' s = closedStatement;
+
+statementOpenLoop:
+    'while' '(' e = expression ')' s = openStatement
+;
+
+statementWrite:
+	printLine='sout' '(' e = expression ')'
+	;
+
+statementAssignment:
+	left=expression assignOp='=' right = expression
+;
+
+statementInc:
+    lvalExpr=expression incOp='++'
+;
+
+
+statementDec:
+    lvalExpr=expression decOp='--'
+;
+
+expression:
+	target = expression '.' name = ID '(' (args += expression (',' args += expression)*)? ')'   #callExpression
+	| target = expression '.' name = ID                                                    #fieldExpression
+	| target = expression '[' index = expression ']'                                         #indexExpression
+	| op = ('!' | '-') operand = expression                                                   #unaryExpression
+	| left = expression op = ('*' | '/' | '%') right = expression                            #binaryExpression
+	| left = expression op = ('+' | '-') right = expression                                  #binaryExpression
+	| left = expression op = ('<' | '>') right = expression                                  #binaryExpression
+	| left = expression op = ('==' | '<>') right = expression                                #binaryExpression
+	| left = expression op = '&&' right = expression                                         #binaryExpression
+	| left = expression op = '||' right = expression                                         #binaryExpression
+	| n = CONST_NUM                                                                          #literalExpression
+	| s = CONST_STR                                                                          #literalExpression
+	| selfModifier = 'this'                                                                  #literalExpression
+	| trueModifier = 'true'                                                                  #literalExpression
+	| falseModifier = 'false'                                                                #literalExpression
+	| 'new' st = singleType '[' size = expression ']'                                        #newArrayExpression
+	| 'new' type = ID '(' ')'                                                                #newObjectExpression
+	| name = ID '(' (args += expression (',' args += expression)*)? ')'                      #functionCallExpression
+	| name = ID                                                                              #nameExpression
+	| '(' inner = expression ')'                                                             #parenExpression
+	;
+
+japyType:
+	st = singleType ('[' ']')?
+	;
+
+singleType: (
+		'double'
+		| 'bool'
+		| 'string'
+		| i = ID
+	);
+
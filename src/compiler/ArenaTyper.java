@@ -0,0 +1,115 @@
+package compiler;
+
+import java.util.function.Function;
+
+import static compiler.AstArena.NONE;
+
+/*
+ * ExpressionTyper over AstArena: the same rules and type names, visiting node indexes instead of Ast.Expr objects.
+ * Every node is typed at most once, the result is kept as a name id in the arena's `type` column.
+ */
+class ArenaTyper implements AstArena.Visitor<String> {
+    private final AstArena arena;
+    private final Function<String, String> variables;
+
+    ArenaTyper(AstArena arena, Function<String, String> variables) {
+        this.arena = arena;
+        this.variables = variables;
+    }
+
+    String typeOf(int node) {
+        if (arena.type[node] == NONE) arena.type[node] = arena.names.intern(arena.accept(node, this));
+        return arena.names.name(arena.type[node]);
+    }
+
+    // types every expression below `node` and returns how many expressions it typed from the top
+    int typeAll(int node) {
+        if (arena.kind[node] >= AstArena.NUM) {
+            typeOf(node);
+            return 1;
+        }
+        int count = 0;
+        for (int child = arena.firstChild[node]; child != NONE; child = arena.nextSibling[child]) count += typeAll(child);
+        return count;
+    }
+
+    @Override
+    public String visitLiteral(int node) {
+        switch (arena.kind[node]) {
+            case AstArena.NUM: return "double";
+            case AstArena.STR: return "string";
+            case AstArena.TRUE:
+            case AstArena.FALSE: return "boolean";
+            default: return "var";
+        }
+    }
+
+    @Override
+    public String visitName(int node) {
+        return variable(arena.name(node));
+    }
+
+    @Override
+    public String visitBinary(int node) {
+        int leftNode = arena.firstChild[node];
+        String left = typeOf(leftNode);
+        String right = typeOf(arena.nextSibling[leftNode]);
+        switch (arena.name(node)) {
+            case "+": return left.equals("string") || right.equals("string") ? "string" : "double";
+            case "-":
+            case "*":
+            case "/":
+            case "%": return "double";
+            default: return "boolean";
+        }
+    }
+
+    @Override
+    public String visitUnary(int node) {
+        String operand = typeOf(arena.firstChild[node]);
+        return arena.name(node).equals("!") ? "boolean" : operand;
+    }
+
+    // the target, when there is one, is the first child, the arguments follow
+    @Override
+    public String visitCall(int node) {
+        for (int child = arena.firstChild[node]; child != NONE; child = arena.nextSibling[child]) typeOf(child);
+        return "function";
+    }
+
+    @Override
+    public String visitFieldAccess(int node) {
+        typeOf(arena.firstChild[node]);
+        return "var";
+    }
+
+    @Override
+    public String visitIndex(int node) {
+        int target = arena.firstChild[node];
+        String arrayType = typeOf(target);
+        if (!typeOf(arena.nextSibling[target]).equals("double")) return "error";
+        if (arrayType.endsWith("[]")) return arrayType.substring(0, arrayType.length() - 2);
+        return "array";
+    }
+
+    @Override
+    public String visitNewArray(int node) {
+        if (!typeOf(arena.firstChild[node]).equals("double")) return "error";
+        return arena.extra[node] == 1 ? arena.name(node) + "[]" : "array";
+    }
+
+    @Override
+    public String visitNewObject(int node) {
+        return arena.name(node);
+    }
+
+    @Override
+    public String visitParen(int node) {
+        return typeOf(arena.firstChild[node]);
+    }
+
+    private String variable(String name) {
+        String type = variables.apply(name);
+        return type != null ? type : "var";
+    }
+}
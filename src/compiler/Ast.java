@@ -0,0 +1,454 @@
+package compiler;
+
+import java.util.List;
+
+/*
+ * Compact AST lowered from the japy parse tree by AstBuilder.
+ * Binary operators are folded left-associative, empty *Temp rules and single-child chains disappear.
+ * Statements and declarations keep the source positions the semantic checks report,
+ * expressions only carry the type the ExpressionTyper annotates them with.
+ */
+final class Ast {
+    private Ast() {}
+
+    interface Visitor<R> {
+        default R visitBlock(Block node) { return null; }
+        default R visitIf(If node) { return null; }
+        default R visitWhile(While node) { return null; }
+        default R visitWrite(Write node) { return null; }
+        default R visitAssign(Assign node) { return null; }
+        default R visitReturn(Return node) { return null; }
+        default R visitVarDef(VarDef node) { return null; }
+        default R visitContinue(Continue node) { return null; }
+        default R visitBreak(Break node) { return null; }
+        default R visitInc(Inc node) { return null; }
+        default R visitDec(Dec node) { return null; }
+
+        default R visitLiteral(Literal node) { return null; }
+        default R visitName(Name node) { return null; }
+        default R visitBinary(Binary node) { return null; }
+        default R visitUnary(Unary node) { return null; }
+        default R visitCall(Call node) { return null; }
+        default R visitField(Field node) { return null; }
+        default R visitIndex(Index node) { return null; }
+        default R visitNewArray(NewArray node) { return null; }
+        default R visitNewObject(NewObject node) { return null; }
+        default R visitParen(Paren node) { return null; }
+    }
+
+    /////////////////////////////////////////////////////////////////////
+    //                           DECLARATIONS                          //
+    /////////////////////////////////////////////////////////////////////
+    static class Program {
+        List<ClassDecl> classes;
+
+        Program(List<ClassDecl> classes) {
+            this.classes = classes;
+        }
+    }
+
+    abstract static class Decl {
+        int line;
+        int column;
+        int stopLine;
+    }
+
+    static class ClassDecl extends Decl {
+        String access;
+        String name;
+        String parent;
+        boolean entry;
+        List<Decl> members;
+
+        ClassDecl(String access, String name, String parent, boolean entry, List<Decl> members) {
+            this.access = access;
+            this.name = name;
+            this.parent = parent;
+            this.entry = entry;
+            this.members = members;
+        }
+    }
+
+    static class FieldDecl extends Decl {
+        String access;
+        String type;
+        List<String> names;
+
+        FieldDecl(String access, String type, List<String> names) {
+            this.access = access;
+            this.type = type;
+            this.names = names;
+        }
+    }
+
+    static class MethodDecl extends Decl {
+        String access;
+        String name;
+        List<Param> params;
+        String returnType;
+        List<Stmt> body;
+
+        MethodDecl(String access, String name, List<Param> params, String returnType, List<Stmt> body) {
+            this.access = access;
+            this.name = name;
+            this.params = params;
+            this.returnType = returnType;
+            this.body = body;
+        }
+    }
+
+    static class Param {
+        String name;
+        String type;
+
+        Param(String name, String type) {
+            this.name = name;
+            this.type = type;
+        }
+    }
+
+    /////////////////////////////////////////////////////////////////////
+    //                            STATEMENTS                           //
+    /////////////////////////////////////////////////////////////////////
+    abstract static class Stmt {
+        int line;
+        int column;
+        int stopLine;
+        int stopColumn;
+
+        abstract <R> R accept(Visitor<R> visitor);
+    }
+
+    static class Block extends Stmt {
+        List<Stmt> body;
+
+        Block(List<Stmt> body) {
+            this.body = body;
+        }
+
+        <R> R accept(Visitor<R> visitor) { return visitor.visitBlock(this); }
+    }
+
+    // `if` is the first branch, every `elif` adds one more; elseBody is null without an `else`
+    static class If extends Stmt {
+        List<Branch> branches;
+        Stmt elseBody;
+
+        If(List<Branch> branches, Stmt elseBody) {
+            this.branches = branches;
+            this.elseBody = elseBody;
+        }
+
+        <R> R accept(Visitor<R> visitor) { return visitor.visitIf(this); }
+    }
+
+    static class Branch {
+        Expr condition;
+        Stmt body;
+        int conditionLine;
+
+        Branch(Expr condition, Stmt body, int conditionLine) {
+            this.condition = condition;
+            this.body = body;
+            this.conditionLine = conditionLine;
+        }
+    }
+
+    static class While extends Stmt {
+        Expr condition;
+        Stmt body;
+
+        While(Expr condition, Stmt body) {
+            this.condition = condition;
+            this.body = body;
+        }
+
+        <R> R accept(Visitor<R> visitor) { return visitor.visitWhile(this); }
+    }
+
+    static class Write extends Stmt {
+        Expr value;
+
+        Write(Expr value) {
+            this.value = value;
+        }
+
+        <R> R accept(Visitor<R> visitor) { return visitor.visitWrite(this); }
+    }
+
+    static class Assign extends Stmt {
+        Expr left;
+        Expr right;
+
+        Assign(Expr left, Expr right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        <R> R accept(Visitor<R> visitor) { return visitor.visitAssign(this); }
+    }
+
+    static class Return extends Stmt {
+        Expr value;
+
+        Return(Expr value) {
+            this.value = value;
+        }
+
+        <R> R accept(Visitor<R> visitor) { return visitor.visitReturn(this); }
+    }
+
+    static class VarDef extends Stmt {
+        List<String> names;
+        List<Expr> values;
+
+        VarDef(List<String> names, List<Expr> values) {
+            this.names = names;
+            this.values = values;
+        }
+
+        <R> R accept(Visitor<R> visitor) { return visitor.visitVarDef(this); }
+    }
+
+    static class Continue extends Stmt {
+        <R> R accept(Visitor<R> visitor) { return visitor.visitContinue(this); }
+    }
+
+    static class Break extends Stmt {
+        <R> R accept(Visitor<R> visitor) { return visitor.visitBreak(this); }
+    }
+
+    static class Inc extends Stmt {
+        Expr target;
+
+        Inc(Expr target) {
+            this.target = target;
+        }
+
+        <R> R accept(Visitor<R> visitor) { return visitor.visitInc(this); }
+    }
+
+    static class Dec extends Stmt {
+        Expr target;
+
+        Dec(Expr target) {
+            this.target = target;
+        }
+
+        <R> R accept(Visitor<R> visitor) { return visitor.visitDec(this); }
+    }
+
+    /////////////////////////////////////////////////////////////////////
+    //                           EXPRESSIONS                           //
+    /////////////////////////////////////////////////////////////////////
+    abstract static class Expr {
+        String type;
+
+        abstract <R> R accept(Visitor<R> visitor);
+    }
+
+    enum LiteralKind { NUM, STR, TRUE, FALSE, THIS }
+
+    static class Literal extends Expr {
+        LiteralKind kind;
+        String text;
+
+        Literal(LiteralKind kind, String text) {
+            this.kind = kind;
+            this.text = text;
+        }
+
+        <R> R accept(Visitor<R> visitor) { return visitor.visitLiteral(this); }
+    }
+
+    static class Name extends Expr {
+        String name;
+
+        Name(String name) {
+            this.name = name;
+        }
+
+        <R> R accept(Visitor<R> visitor) { return visitor.visitName(this); }
+    }
+
+    static class Binary extends Expr {
+        String op;
+        Expr left;
+        Expr right;
+
+        Binary(String op, Expr left, Expr right) {
+            this.op = op;
+            this.left = left;
+            this.right = right;
+        }
+
+        <R> R accept(Visitor<R> visitor) { return visitor.visitBinary(this); }
+    }
+
+    static class Unary extends Expr {
+        String op;
+        Expr operand;
+
+        Unary(String op, Expr operand) {
+            this.op = op;
+            this.operand = operand;
+        }
+
+        <R> R accept(Visitor<R> visitor) { return visitor.visitUnary(this); }
+    }
+
+    // target is null for a plain `name(args)` call
+    static class Call extends Expr {
+        Expr target;
+        String name;
+        List<Expr> args;
+
+        Call(Expr target, String name, List<Expr> args) {
+            this.target = target;
+            this.name = name;
+            this.args = args;
+        }
+
+        <R> R accept(Visitor<R> visitor) { return visitor.visitCall(this); }
+    }
+
+    static class Field extends Expr {
+        Expr target;
+        String name;
+
+        Field(Expr target, String name) {
+            this.target = target;
+            this.name = name;
+        }
+
+        <R> R accept(Visitor<R> visitor) { return visitor.visitField(this); }
+    }
+
+    static class Index extends Expr {
+        Expr target;
+        Expr index;
+
+        Index(Expr target, Expr index) {
+            this.target = target;
+            this.index = index;
+        }
+
+        <R> R accept(Visitor<R> visitor) { return visitor.visitIndex(this); }
+    }
+
+    static class NewArray extends Expr {
+        String elementType;
+        boolean primitive;
+        Expr size;
+
+        NewArray(String elementType, boolean primitive, Expr size) {
+            this.elementType = elementType;
+            this.primitive = primitive;
+            this.size = size;
+        }
+
+        <R> R accept(Visitor<R> visitor) { return visitor.visitNewArray(this); }
+    }
+
+    static class NewObject extends Expr {
+        String className;
+
+        NewObject(String className) {
+            this.className = className;
+        }
+
+        <R> R accept(Visitor<R> visitor) { return visitor.visitNewObject(this); }
+    }
+
+    static class Paren extends Expr {
+        Expr inner;
+
+        Paren(Expr inner) {
+            this.inner = inner;
+        }
+
+        <R> R accept(Visitor<R> visitor) { return visitor.visitParen(this); }
+    }
+
+    /////////////////////////////////////////////////////////////////////
+    //                              TEXT                               //
+    /////////////////////////////////////////////////////////////////////
+    // same spelling as ParseTree.getText(): tokens concatenated without whitespace
+    static String text(Expr expr) {
+        StringBuilder sb = new StringBuilder();
+        expr.accept(new TextVisitor(sb));
+        return sb.toString();
+    }
+
+    private static class TextVisitor implements Visitor<Void> {
+        private final StringBuilder sb;
+
+        TextVisitor(StringBuilder sb) {
+            this.sb = sb;
+        }
+
+        public Void visitLiteral(Literal node) { sb.append(node.text); return null; }
+
+        public Void visitName(Name node) { sb.append(node.name); return null; }
+
+        public Void visitBinary(Binary node) {
+            node.left.accept(this);
+            sb.append(node.op);
+            node.right.accept(this);
+            return null;
+        }
+
+        public Void visitUnary(Unary node) {
+            sb.append(node.op);
+            node.operand.accept(this);
+            return null;
+        }
+
+        public Void visitCall(Call node) {
+            if (node.target != null) {
+                node.target.accept(this);
+                sb.append('.');
+            }
+            sb.append(node.name).append('(');
+            for (int i = 0; i < node.args.size(); i++) {
+                if (i > 0) sb.append(',');
+                node.args.get(i).accept(this);
+            }
+            sb.append(')');
+            return null;
+        }
+
+        public Void visitField(Field node) {
+            node.target.accept(this);
+            sb.append('.').append(node.name);
+            return null;
+        }
+
+        public Void visitIndex(Index node) {
+            node.target.accept(this);
+            sb.append('[');
+            node.index.accept(this);
+            sb.append(']');
+            return null;
+        }
+
+        public Void visitNewArray(NewArray node) {
+            sb.append("new").append(node.elementType).append('[');
+            node.size.accept(this);
+            sb.append(']');
+            return null;
+        }
+
+        public Void visitNewObject(NewObject node) {
+            sb.append("new").append(node.className).append("()");
+            return null;
+        }
+
+        public Void visitParen(Paren node) {
+            sb.append('(');
+            node.inner.accept(this);
+            sb.append(')');
+            return null;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package compiler;
+
+import java.util.Arrays;
+
+/*
+ * The same tree as Ast, stored as struct-of-arrays: a node is an index into parallel int arrays.
+ * Children are a linked list (firstChild / nextSibling), positions are packed as line << 10 | column
+ * (lines up to 2^22 - 1, larger ones are rejected; columns past 1023 are clamped to 1023 and counted in
+ * clampedColumns), identifiers and spellings are ids in `names`.
+ *
+ * Only --arena-stats builds it, to measure it and ArenaTyper against the object AST; the compiler itself runs on
+ * Ast. Visitor / accept dispatch on a node index the way Ast.Visitor does on a node object.
+ *
+ *   kind          name          extra              type           children
+ *   PROGRAM       -             -                  -              CLASS*
+ *   CLASS         class name    access modifier    parent class   FIELD / METHOD*
+ *   FIELD         -             access modifier    field type     IDENT*
+ *   METHOD        method name   access modifier    return type    PARAM* statement*
+ *   PARAM         param name    -                  param type     -
+ *   IF            -             -                  -              BRANCH* ELSE?
+ *   BRANCH        -             -                  -              condition, body
+ *   ELSE          -             -                  -              body
+ *   WHILE         -             -                  -              condition, body
+ *   VARDEF        -             -                  -              VAR*
+ *   VAR           var name      -                  -              value
+ *   literals      spelling      -                  (typer)        -
+ *   NAME          var name      -                  (typer)        -
+ *   BINARY/UNARY  operator      -                  (typer)        operands
+ *   CALL          method name   1 if it has target (typer)        target? args*
+ *   FIELD_ACCESS  field name    -                  (typer)        target
+ *   NEW_ARRAY     element type  1 if primitive     (typer)        size
+ *   NEW_OBJECT    class name    -                  (typer)        -
+ *
+ * Any other statement or expression kind keeps its operands as children in source order.
+ */
+final class AstArena {
+    static final int NONE = -1;
+
+    static final int PROGRAM = 0;
+    static final int CLASS = 1;
+    static final int ENTRY_CLASS = 2;
+    static final int FIELD = 3;
+    static final int IDENT = 4;
+    static final int METHOD = 5;
+    static final int PARAM = 6;
+    static final int BLOCK = 7;
+    static final int IF = 8;
+    static final int BRANCH = 9;
+    static final int ELSE = 10;
+    static final int WHILE = 11;
+    static final int WRITE = 12;
+    static final int ASSIGN = 13;
+    static final int RETURN = 14;
+    static final int VARDEF = 15;
+    static final int VAR = 16;
+    static final int CONTINUE = 17;
+    static final int BREAK = 18;
+    static final int INC = 19;
+    static final int DEC = 20;
+    static final int NUM = 21;
+    static final int STR = 22;
+    static final int TRUE = 23;
+    static final int FALSE = 24;
+    static final int THIS = 25;
+    static final int NAME = 26;
+    static final int BINARY = 27;
+    static final int UNARY = 28;
+    static final int CALL = 29;
+    static final int FIELD_ACCESS = 30;
+    static final int INDEX = 31;
+    static final int NEW_ARRAY = 32;
+    static final int NEW_OBJECT = 33;
+    static final int PAREN = 34;
+
+    private static final int INT_ARRAYS = 8;
+    private static final int MAX_LINE = (1 << 22) - 1;
+    private static final int MAX_COLUMN = 1023;
+
+    final Names names;
+    int size;
+    int[] kind;
+    int[] firstChild;
+    int[] nextSibling;
+    int[] start;
+    int[] stop;
+    int[] name;
+    int[] extra;
+    int[] type;
+    // positions whose column did not fit and reads back as MAX_COLUMN
+    int clampedColumns;
+
+    AstArena(Names names, int capacity) {
+        this.names = names;
+        kind = new int[capacity];
+        firstChild = new int[capacity];
+        nextSibling = new int[capacity];
+        start = new int[capacity];
+        stop = new int[capacity];
+        name = new int[capacity];
+        extra = new int[capacity];
+        type = new int[capacity];
+    }
+
+    int add(int nodeKind, int nameId) {
+        if (size == kind.length) grow();
+        int node = size++;
+        kind[node] = nodeKind;
+        firstChild[node] = NONE;
+        nextSibling[node] = NONE;
+        name[node] = nameId;
+        extra[node] = NONE;
+        type[node] = NONE;
+        return node;
+    }
+
+    // links child after prev (or as first child when prev is NONE) and returns it as the new prev
+    int append(int parent, int prev, int child) {
+        if (prev == NONE) firstChild[parent] = child;
+        else nextSibling[prev] = child;
+        return child;
+    }
+
+    void position(int node, int startLine, int startColumn, int stopLine, int stopColumn) {
+        start[node] = pack(startLine, startColumn);
+        stop[node] = pack(stopLine, stopColumn);
+    }
+
+    int line(int node) { return start[node] >>> 10; }
+    int column(int node) { return start[node] & 1023; }
+    int stopLine(int node) { return stop[node] >>> 10; }
+    int stopColumn(int node) { return stop[node] & 1023; }
+
+    String name(int node) { return names.name(name[node]); }
+
+    int child(int node, int index) {
+        int child = firstChild[node];
+        for (int i = 0; i < index && child != NONE; i++) child = nextSibling[child];
+        return child;
+    }
+
+    int childCount(int node) {
+        int count = 0;
+        for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) count++;
+        return count;
+    }
+
+    // drops the unused tail unless it is small enough not to be worth another copy
+    void trim() {
+        if (kind.length - size <= kind.length / 8) return;
+        kind = Arrays.copyOf(kind, size);
+        firstChild = Arrays.copyOf(firstChild, size);
+        nextSibling = Arrays.copyOf(nextSibling, size);
+        start = Arrays.copyOf(start, size);
+        stop = Arrays.copyOf(stop, size);
+        name = Arrays.copyOf(name, size);
+        extra = Arrays.copyOf(extra, size);
+        type = Arrays.copyOf(type, size);
+    }
+
+    // payload bytes held by the node arrays, the name table is reported separately
+    long bytes() {
+        return (long) kind.length * INT_ARRAYS * Integer.BYTES;
+    }
+
+    private void grow() {
+        int capacity = Math.max(16, kind.length * 2);
+        kind = Arrays.copyOf(kind, capacity);
+        firstChild = Arrays.copyOf(firstChild, capacity);
+        nextSibling = Arrays.copyOf(nextSibling, capacity);
+        start = Arrays.copyOf(start, capacity);
+        stop = Arrays.copyOf(stop, capacity);
+        name = Arrays.copyOf(name, capacity);
+        extra = Arrays.copyOf(extra, capacity);
+        type = Arrays.copyOf(type, capacity);
+    }
+
+    private int pack(int line, int column) {
+        if (line < 0 || line > MAX_LINE) throw new IllegalArgumentException("line " + line + " does not fit the arena's 22-bit line field");
+        if (column > MAX_COLUMN) clampedColumns++;
+        return line << 10 | Math.min(column, MAX_COLUMN);
+    }
+
+    /////////////////////////////////////////////////////////////////////
+    //                             VISITOR                             //
+    /////////////////////////////////////////////////////////////////////
+    // one method per Ast.Visitor method, taking the node index instead of the node object
+    interface Visitor<R> {
+        default R visitProgram(int node) { return null; }
+        default R visitClass(int node) { return null; }
+        default R visitField(int node) { return null; }
+        default R visitMethod(int node) { return null; }
+
+        default R visitBlock(int node) { return null; }
+        default R visitIf(int node) { return null; }
+        default R visitWhile(int node) { return null; }
+        default R visitWrite(int node) { return null; }
+        default R visitAssign(int node) { return null; }
+        default R visitReturn(int node) { return null; }
+        default R visitVarDef(int node) { return null; }
+        default R visitContinue(int node) { return null; }
+        default R visitBreak(int node) { return null; }
+        default R visitInc(int node) { return null; }
+        default R visitDec(int node) { return null; }
+
+        default R visitLiteral(int node) { return null; }
+        default R visitName(int node) { return null; }
+        default R visitBinary(int node) { return null; }
+        default R visitUnary(int node) { return null; }
+        default R visitCall(int node) { return null; }
+        default R visitFieldAccess(int node) { return null; }
+        default R visitIndex(int node) { return null; }
+        default R visitNewArray(int node) { return null; }
+        default R visitNewObject(int node) { return null; }
+        default R visitParen(int node) { return null; }
+    }
+
+    <R> R accept(int node, Visitor<R> visitor) {
+        switch (kind[node]) {
+            case PROGRAM: return visitor.visitProgram(node);
+            case CLASS:
+            case ENTRY_CLASS: return visitor.visitClass(node);
+            case FIELD: return visitor.visitField(node);
+            case METHOD: return visitor.visitMethod(node);
+            case BLOCK: return visitor.visitBlock(node);
+            case IF: return visitor.visitIf(node);
+            case WHILE: return visitor.visitWhile(node);
+            case WRITE: return visitor.visitWrite(node);
+            case ASSIGN: return visitor.visitAssign(node);
+            case RETURN: return visitor.visitReturn(node);
+            case VARDEF: return visitor.visitVarDef(node);
+            case CONTINUE: return visitor.visitContinue(node);
+            case BREAK: return visitor.visitBreak(node);
+            case INC: return visitor.visitInc(node);
+            case DEC: return visitor.visitDec(node);
+            case NUM:
+            case STR:
+            case TRUE:
+            case FALSE:
+            case THIS: return visitor.visitLiteral(node);
+            case NAME: return visitor.visitName(node);
+            case BINARY: return visitor.visitBinary(node);
+            case UNARY: return visitor.visitUnary(node);
+            case CALL: return visitor.visitCall(node);
+            case FIELD_ACCESS: return visitor.visitFieldAccess(node);
+            case INDEX: return visitor.visitIndex(node);
+            case NEW_ARRAY: return visitor.visitNewArray(node);
+            case NEW_OBJECT: return visitor.visitNewObject(node);
+            case PAREN: return visitor.visitParen(node);
+            default: throw new IllegalStateException("node " + node + " of kind " + kind[node] + " is not visitable");
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package compiler;
+
+import gen.japyParser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import java.util.List;
+
+import static compiler.AstArena.*;
+
+/*
+ * Builds an AstArena straight from japyParser contexts, following the same lowering rules as AstBuilder.
+ */
+class AstArenaBuilder {
+    private final AstArena arena;
+    private final Names names;
+
+    private AstArenaBuilder(AstArena arena) {
+        this.arena = arena;
+        this.names = arena.names;
+    }
+
+    static AstArena build(japyParser.ProgramContext ctx) {
+        // japy code lowers to roughly three nodes per four tokens
+        int capacity = Math.max(16, (ctx.getStop().getTokenIndex() + 1) * 3 / 4);
+        AstArena arena = new AstArena(new Names(), capacity);
+        new AstArenaBuilder(arena).program(ctx);
+        arena.trim();
+        return arena;
+    }
+
+    private void program(japyParser.ProgramContext ctx) {
+        int program = arena.add(PROGRAM, NONE);
+        int prev = NONE;
+        for (ParseTree child : ctx.children) {
+            if (child instanceof japyParser.ClassDeclarationContext) {
+                prev = arena.append(program, prev, classDeclaration((japyParser.ClassDeclarationContext) child, false));
+            } else if (child instanceof japyParser.EntryClassDeclarationContext) {
+                prev = arena.append(program, prev, classDeclaration(((japyParser.EntryClassDeclarationContext) child).classDeclaration(), true));
+            }
+        }
+    }
+
+    private int classDeclaration(japyParser.ClassDeclarationContext ctx, boolean entry) {
+        int node = arena.add(entry ? ENTRY_CLASS : CLASS, names.intern(ctx.className.getText()));
+        if (ctx.access_modifier() != null) arena.extra[node] = names.intern(ctx.access_modifier().getText());
+        if (ctx.classParent != null) arena.type[node] = names.intern(ctx.classParent.getText());
+        position(node, ctx);
+
+        int prev = NONE;
+        for (ParseTree child : ctx.children) {
+            if (child instanceof japyParser.FieldDeclarationContext) {
+                prev = arena.append(node, prev, fieldDeclaration((japyParser.FieldDeclarationContext) child));
+            } else if (child instanceof japyParser.MethodDeclarationContext) {
+                prev = arena.append(node, prev, methodDeclaration((japyParser.MethodDeclarationContext) child));
+            }
+        }
+        return node;
+    }
+
+    private int fieldDeclaration(japyParser.FieldDeclarationContext ctx) {
+        int node = arena.add(FIELD, NONE);
+        if (ctx.access_modifier() != null) arena.extra[node] = names.intern(ctx.access_modifier().getText());
+        arena.type[node] = names.intern(ctx.japyType().getText());
+        position(node, ctx);
+
+        int prev = NONE;
+        for (TerminalNode id : ctx.ID()) {
+            prev = arena.append(node, prev, arena.add(IDENT, names.intern(id.getText())));
+        }
+        return node;
+    }
+
+    private int methodDeclaration(japyParser.MethodDeclarationContext ctx) {
+        int node = arena.add(METHOD, names.intern(ctx.methodName.getText()));
+        if (ctx.methodAccessModifier != null) arena.extra[node] = names.intern(ctx.methodAccessModifier.getText());
+        arena.type[node] = names.intern(ctx.t.getText());
+        position(node, ctx);
+
+        int prev = NONE;
+        for (int i = 1; i < ctx.ID().size(); i++) {
+            int param = arena.add(PARAM, names.intern(ctx.ID(i).getText()));
+            arena.type[param] = names.intern(ctx.japyType(i - 1).getText());
+            prev = arena.append(node, prev, param);
+        }
+        for (japyParser.StatementContext s : ctx.statement()) prev = arena.append(node, prev, statement(s));
+        return node;
+    }
+
+    /////////////////////////////////////////////////////////////////////
+    //                            STATEMENTS                           //
+    /////////////////////////////////////////////////////////////////////
+    private int statement(ParserRuleContext ctx) {
+        if (ctx instanceof japyParser.StatementContext) {
+            japyParser.StatementContext s = (japyParser.StatementContext) ctx;
+            return s.s1 != null ? statement(s.s1) : statement(s.s2);
+        }
+        if (ctx instanceof japyParser.OpenStatementContext) {
+            japyParser.OpenStatementContext s = (japyParser.OpenStatementContext) ctx;
+            if (s.s1 != null) return statement(WHILE, s.s1, expression(s.s1.e), statement(s.s1.s));
+            return conditional(s.conditionalStat);
+        }
+
+        japyParser.ClosedStatementContext s = (japyParser.ClosedStatementContext) ctx;
+        if (s.s1 != null) {
+            int node = arena.add(BLOCK, NONE);
+            position(node, s.s1);
+            int prev = NONE;
+            for (japyParser.StatementContext child : s.s1.statement()) prev = arena.append(node, prev, statement(child));
+            return node;
+        }
+        if (s.conditionalStat != null) return conditional(s.conditionalStat);
+        if (s.s3 != null) return statement(WHILE, s.s3, expression(s.s3.e), statement(s.s3.s));
+        if (s.s4 != null) return statement(WRITE, s.s4, expression(s.s4.e), NONE);
+        if (s.s5 != null) return statement(ASSIGN, s.s5, expression(s.s5.left), expression(s.s5.right));
+        if (s.s6 != null) return statement(RETURN, s.s6, expression(s.s6.e), NONE);
+        if (s.s7 != null) {
+            int node = arena.add(VARDEF, NONE);
+            position(node, s.s7);
+            int prev = NONE;
+            for (int i = 0; i < s.s7.ID().size(); i++) {
+                int var = arena.add(VAR, names.intern(s.s7.ID(i).getText()));
+                arena.append(var, NONE, expression(s.s7.expression(i)));
+                prev = arena.append(node, prev, var);
+            }
+            return node;
+        }
+        if (s.s8 != null) return statement(CONTINUE, s.s8, NONE, NONE);
+        if (s.s9 != null) return statement(BREAK, s.s9, NONE, NONE);
+        if (s.incStat != null) return statement(INC, s.incStat, expression(s.incStat.lvalExpr), NONE);
+        return statement(DEC, s.decStat, expression(s.decStat.lvalExpr), NONE);
+    }
+
+    private int statement(int kind, ParserRuleContext ctx, int first, int second) {
+        int node = arena.add(kind, NONE);
+        position(node, ctx);
+        int prev = NONE;
+        if (first != NONE) prev = arena.append(node, prev, first);
+        if (second != NONE) arena.append(node, prev, second);
+        return node;
+    }
+
+    private int conditional(ParserRuleContext ctx) {
+        int node = arena.add(IF, NONE);
+        position(node, ctx);
+        int prev = NONE;
+        int condition = NONE;
+        for (ParseTree child : ctx.children) {
+            if (child instanceof japyParser.ExpressionContext) {
+                condition = expression((japyParser.ExpressionContext) child);
+                position(condition, (ParserRuleContext) child);
+            } else if (child instanceof ParserRuleContext) {
+                int body = statement((ParserRuleContext) child);
+                int branch;
+                if (condition != NONE) {
+                    branch = arena.add(BRANCH, NONE);
+                    arena.append(branch, arena.append(branch, NONE, condition), body);
+                    condition = NONE;
+                } else {
+                    branch = arena.add(ELSE, NONE);
+                    arena.append(branch, NONE, body);
+                }
+                prev = arena.append(node, prev, branch);
+            }
+        }
+        return node;
+    }
+
+    /////////////////////////////////////////////////////////////////////
+    //                           EXPRESSIONS                           //
+    /////////////////////////////////////////////////////////////////////
+    private int expression(japyParser.ExpressionContext ctx) {
+        japyParser.ExpressionOrContext or = ctx.e;
+        int left = and(or.a);
+        for (japyParser.ExpressionOrTempContext t = or.ot; t.orOp != null; t = t.ot) {
+            left = binary("||", left, and(t.a));
+        }
+        return left;
+    }
+
+    private int and(japyParser.ExpressionAndContext ctx) {
+        int left = eq(ctx.e);
+        for (japyParser.ExpressionAndTempContext t = ctx.at; t.andOp != null; t = t.at) {
+            left = binary("&&", left, eq(t.e));
+        }
+        return left;
+    }
+
+    private int eq(japyParser.ExpressionEqContext ctx) {
+        int left = cmp(ctx.c);
+        for (japyParser.ExpressionEqTempContext t = ctx.et; t.c != null; t = t.et) {
+            left = binary(t.eqOp != null ? "==" : "<>", left, cmp(t.c));
+        }
+        return left;
+    }
+
+    private int cmp(japyParser.ExpressionCmpContext ctx) {
+        int left = add(ctx.a);
+        for (japyParser.ExpressionCmpTempContext t = ctx.ct; t.a != null; t = t.ct) {
+            left = binary(t.ltOp != null ? "<" : ">", left, add(t.a));
+        }
+        return left;
+    }
+
+    private int add(japyParser.ExpressionAddContext ctx) {
+        int left = mult(ctx.m);
+        for (japyParser.ExpressionAddTempContext t = ctx.at; t.m != null; t = t.at) {
+            left = binary(t.addOp != null ? "+" : "-", left, mult(t.m));
+        }
+        return left;
+    }
+
+    private int mult(japyParser.ExpressionMultModContext ctx) {
+        int left = unary(ctx.u);
+        for (japyParser.ExpressionMultModTempContext t = ctx.mt; t.u != null; t = t.mt) {
+            left = binary(t.mulOp != null ? "*" : t.divOp != null ? "/" : "%", left, unary(t.u));
+        }
+        return left;
+    }
+
+    private int unary(japyParser.ExpressionUnaryContext ctx) {
+        if (ctx.notOp != null || ctx.negOp != null) {
+            int node = arena.add(UNARY, names.intern(ctx.notOp != null ? "!" : "-"));
+            arena.append(node, NONE, unary(ctx.u));
+            return node;
+        }
+
+        int target = other(ctx.m.o);
+        for (japyParser.ExpressionMethodsTempContext t = ctx.m.mt; t.mt != null; t = t.mt) {
+            int node;
+            if (t.i != null) {
+                node = arena.add(CALL, names.intern(t.i.getText()));
+                arena.extra[node] = 1;
+                arguments(node, arena.append(node, NONE, target), t.expression());
+            } else if (t.ii != null) {
+                node = arena.add(FIELD_ACCESS, names.intern(t.ii.getText()));
+                arena.append(node, NONE, target);
+            } else {
+                node = arena.add(INDEX, NONE);
+                arena.append(node, arena.append(node, NONE, target), expression(t.e3));
+            }
+            target = node;
+        }
+        return target;
+    }
+
+    private int other(japyParser.ExpressionOtherContext ctx) {
+        if (ctx.n != null) return arena.add(NUM, names.intern(ctx.n.getText()));
+        if (ctx.s != null) return arena.add(STR, names.intern(ctx.s.getText()));
+        if (ctx.trueModifier != null) return arena.add(TRUE, names.intern("true"));
+        if (ctx.falseModifier != null) return arena.add(FALSE, names.intern("false"));
+        if (ctx.selfModifier != null) return arena.add(THIS, names.intern("this"));
+        if (ctx.st != null) {
+            int node = arena.add(NEW_ARRAY, names.intern(ctx.st.getText()));
+            arena.extra[node] = ctx.st.i == null ? 1 : 0;
+            arena.append(node, NONE, expression(ctx.size));
+            return node;
+        }
+        if (ctx.newModifier != null) return arena.add(NEW_OBJECT, names.intern(ctx.i.getText()));
+        if (ctx.i1 != null) return arena.add(NAME, names.intern(ctx.i1.getText()));
+        if (ctx.i2 != null) {
+            int node = arena.add(INDEX, NONE);
+            arena.append(node, arena.append(node, NONE, arena.add(NAME, names.intern(ctx.i2.getText()))), expression(ctx.e));
+            return node;
+        }
+        if (ctx.ee != null) {
+            int node = arena.add(PAREN, NONE);
+            arena.append(node, NONE, expression(ctx.ee));
+            return node;
+        }
+        int node = arena.add(CALL, names.intern(ctx.i3.getText()));
+        arena.extra[node] = 0;
+        arguments(node, NONE, ctx.expression());
+        return node;
+    }
+
+    private void arguments(int call, int prev, List<japyParser.ExpressionContext> args) {
+        for (japyParser.ExpressionContext arg : args) prev = arena.append(call, prev, expression(arg));
+    }
+
+    private int binary(String op, int left, int right) {
+        int node = arena.add(BINARY, names.intern(op));
+        arena.append(node, arena.append(node, NONE, left), right);
+        return node;
+    }
+
+    private void position(int node, ParserRuleContext ctx) {
+        Token start = ctx.getStart();
+        Token stop = ctx.getStop();
+        arena.position(node, start.getLine(), start.getCharPositionInLine(), stop.getLine(), stop.getCharPositionInLine());
+    }
+}
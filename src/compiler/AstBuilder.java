@@ -0,0 +1,234 @@
+package compiler;
+
+import gen.japyParser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Lowers a japyParser.ProgramContext into the compact Ast.
+ * Nothing in the returned tree points back into the parse tree, so the parse tree
+ * (and the token stream behind it) can be dropped as soon as lowering is done.
+ */
+class AstBuilder {
+
+    static Ast.Program lower(japyParser.ProgramContext ctx) {
+        List<Ast.ClassDecl> classes = new ArrayList<>();
+        for (ParseTree child : ctx.children) {
+            if (child instanceof japyParser.ClassDeclarationContext) {
+                classes.add(classDeclaration((japyParser.ClassDeclarationContext) child, false));
+            } else if (child instanceof japyParser.EntryClassDeclarationContext) {
+                classes.add(classDeclaration(((japyParser.EntryClassDeclarationContext) child).classDeclaration(), true));
+            }
+        }
+        return new Ast.Program(classes);
+    }
+
+    static Ast.ClassDecl classDeclaration(japyParser.ClassDeclarationContext ctx, boolean entry) {
+        List<Ast.Decl> members = new ArrayList<>();
+        for (ParseTree child : ctx.children) {
+            if (child instanceof japyParser.FieldDeclarationContext) {
+                members.add(fieldDeclaration((japyParser.FieldDeclarationContext) child));
+            } else if (child instanceof japyParser.MethodDeclarationContext) {
+                members.add(methodDeclaration((japyParser.MethodDeclarationContext) child));
+            }
+        }
+        String access = ctx.access_modifier() != null ? ctx.access_modifier().getText() : null;
+        String parent = ctx.classParent != null ? ctx.classParent.getText() : null;
+        Ast.ClassDecl node = new Ast.ClassDecl(access, ctx.className.getText(), parent, entry, members);
+        return position(node, ctx);
+    }
+
+    private static Ast.FieldDecl fieldDeclaration(japyParser.FieldDeclarationContext ctx) {
+        List<String> names = new ArrayList<>();
+        for (TerminalNode id : ctx.ID()) names.add(id.getText());
+        String access = ctx.access_modifier() != null ? ctx.access_modifier().getText() : null;
+        return position(new Ast.FieldDecl(access, ctx.japyType().getText(), names), ctx);
+    }
+
+    private static Ast.MethodDecl methodDeclaration(japyParser.MethodDeclarationContext ctx) {
+        List<Ast.Param> params = new ArrayList<>();
+        for (int i = 1; i < ctx.ID().size(); i++) {
+            params.add(new Ast.Param(ctx.ID(i).getText(), ctx.japyType(i - 1).getText()));
+        }
+        List<Ast.Stmt> body = new ArrayList<>();
+        for (japyParser.StatementContext s : ctx.statement()) body.add(statement(s));
+        String access = ctx.methodAccessModifier != null ? ctx.methodAccessModifier.getText() : null;
+        Ast.MethodDecl node = new Ast.MethodDecl(access, ctx.methodName.getText(), params, ctx.t.getText(), body);
+        return position(node, ctx);
+    }
+
+    /////////////////////////////////////////////////////////////////////
+    //                            STATEMENTS                           //
+    /////////////////////////////////////////////////////////////////////
+    private static Ast.Stmt statement(ParserRuleContext ctx) {
+        if (ctx instanceof japyParser.StatementContext) {
+            japyParser.StatementContext s = (japyParser.StatementContext) ctx;
+            return s.s1 != null ? statement(s.s1) : statement(s.s2);
+        }
+        if (ctx instanceof japyParser.OpenStatementContext) {
+            japyParser.OpenStatementContext s = (japyParser.OpenStatementContext) ctx;
+            if (s.s1 != null) return loop(s.s1, s.s1.e, s.s1.s);
+            return conditional(s.conditionalStat);
+        }
+
+        japyParser.ClosedStatementContext s = (japyParser.ClosedStatementContext) ctx;
+        if (s.s1 != null) {
+            List<Ast.Stmt> body = new ArrayList<>();
+            for (japyParser.StatementContext child : s.s1.statement()) body.add(statement(child));
+            return position(new Ast.Block(body), s.s1);
+        }
+        if (s.conditionalStat != null) return conditional(s.conditionalStat);
+        if (s.s3 != null) return loop(s.s3, s.s3.e, s.s3.s);
+        if (s.s4 != null) return position(new Ast.Write(expression(s.s4.e)), s.s4);
+        if (s.s5 != null) return position(new Ast.Assign(expression(s.s5.left), expression(s.s5.right)), s.s5);
+        if (s.s6 != null) return position(new Ast.Return(expression(s.s6.e)), s.s6);
+        if (s.s7 != null) {
+            List<String> names = new ArrayList<>();
+            for (TerminalNode id : s.s7.ID()) names.add(id.getText());
+            List<Ast.Expr> values = new ArrayList<>();
+            for (japyParser.ExpressionContext e : s.s7.expression()) values.add(expression(e));
+            return position(new Ast.VarDef(names, values), s.s7);
+        }
+        if (s.s8 != null) return position(new Ast.Continue(), s.s8);
+        if (s.s9 != null) return position(new Ast.Break(), s.s9);
+        if (s.incStat != null) return position(new Ast.Inc(expression(s.incStat.lvalExpr)), s.incStat);
+        return position(new Ast.Dec(expression(s.decStat.lvalExpr)), s.decStat);
+    }
+
+    private static Ast.Stmt loop(ParserRuleContext ctx, japyParser.ExpressionContext condition, ParserRuleContext body) {
+        return position(new Ast.While(expression(condition), statement(body)), ctx);
+    }
+
+    // closed and open conditionals only differ in which statement rule follows the last `else`/`elif`,
+    // so both are lowered by pairing each condition with the statement after it
+    private static Ast.Stmt conditional(ParserRuleContext ctx) {
+        List<Ast.Branch> branches = new ArrayList<>();
+        Ast.Stmt elseBody = null;
+        japyParser.ExpressionContext condition = null;
+        for (ParseTree child : ctx.children) {
+            if (child instanceof japyParser.ExpressionContext) {
+                condition = (japyParser.ExpressionContext) child;
+            } else if (child instanceof ParserRuleContext) {
+                Ast.Stmt body = statement((ParserRuleContext) child);
+                if (condition != null) {
+                    branches.add(new Ast.Branch(expression(condition), body, condition.getStart().getLine()));
+                    condition = null;
+                } else {
+                    elseBody = body;
+                }
+            }
+        }
+        return position(new Ast.If(branches, elseBody), ctx);
+    }
+
+    /////////////////////////////////////////////////////////////////////
+    //                           EXPRESSIONS                           //
+    /////////////////////////////////////////////////////////////////////
+    static Ast.Expr expression(japyParser.ExpressionContext ctx) {
+        japyParser.ExpressionOrContext or = ctx.e;
+        Ast.Expr left = and(or.a);
+        for (japyParser.ExpressionOrTempContext t = or.ot; t.orOp != null; t = t.ot) {
+            left = new Ast.Binary("||", left, and(t.a));
+        }
+        return left;
+    }
+
+    private static Ast.Expr and(japyParser.ExpressionAndContext ctx) {
+        Ast.Expr left = eq(ctx.e);
+        for (japyParser.ExpressionAndTempContext t = ctx.at; t.andOp != null; t = t.at) {
+            left = new Ast.Binary("&&", left, eq(t.e));
+        }
+        return left;
+    }
+
+    private static Ast.Expr eq(japyParser.ExpressionEqContext ctx) {
+        Ast.Expr left = cmp(ctx.c);
+        for (japyParser.ExpressionEqTempContext t = ctx.et; t.c != null; t = t.et) {
+            left = new Ast.Binary(t.eqOp != null ? "==" : "<>", left, cmp(t.c));
+        }
+        return left;
+    }
+
+    private static Ast.Expr cmp(japyParser.ExpressionCmpContext ctx) {
+        Ast.Expr left = add(ctx.a);
+        for (japyParser.ExpressionCmpTempContext t = ctx.ct; t.a != null; t = t.ct) {
+            left = new Ast.Binary(t.ltOp != null ? "<" : ">", left, add(t.a));
+        }
+        return left;
+    }
+
+    private static Ast.Expr add(japyParser.ExpressionAddContext ctx) {
+        Ast.Expr left = mult(ctx.m);
+        for (japyParser.ExpressionAddTempContext t = ctx.at; t.m != null; t = t.at) {
+            left = new Ast.Binary(t.addOp != null ? "+" : "-", left, mult(t.m));
+        }
+        return left;
+    }
+
+    private static Ast.Expr mult(japyParser.ExpressionMultModContext ctx) {
+        Ast.Expr left = unary(ctx.u);
+        for (japyParser.ExpressionMultModTempContext t = ctx.mt; t.u != null; t = t.mt) {
+            String op = t.mulOp != null ? "*" : t.divOp != null ? "/" : "%";
+            left = new Ast.Binary(op, left, unary(t.u));
+        }
+        return left;
+    }
+
+    private static Ast.Expr unary(japyParser.ExpressionUnaryContext ctx) {
+        if (ctx.notOp != null) return new Ast.Unary("!", unary(ctx.u));
+        if (ctx.negOp != null) return new Ast.Unary("-", unary(ctx.u));
+
+        Ast.Expr target = other(ctx.m.o);
+        for (japyParser.ExpressionMethodsTempContext t = ctx.m.mt; t.mt != null; t = t.mt) {
+            if (t.i != null) target = new Ast.Call(target, t.i.getText(), expressions(t.expression()));
+            else if (t.ii != null) target = new Ast.Field(target, t.ii.getText());
+            else target = new Ast.Index(target, expression(t.e3));
+        }
+        return target;
+    }
+
+    private static Ast.Expr other(japyParser.ExpressionOtherContext ctx) {
+        if (ctx.n != null) return new Ast.Literal(Ast.LiteralKind.NUM, ctx.n.getText());
+        if (ctx.s != null) return new Ast.Literal(Ast.LiteralKind.STR, ctx.s.getText());
+        if (ctx.trueModifier != null) return new Ast.Literal(Ast.LiteralKind.TRUE, "true");
+        if (ctx.falseModifier != null) return new Ast.Literal(Ast.LiteralKind.FALSE, "false");
+        if (ctx.selfModifier != null) return new Ast.Literal(Ast.LiteralKind.THIS, "this");
+        if (ctx.st != null) return new Ast.NewArray(ctx.st.getText(), ctx.st.i == null, expression(ctx.size));
+        if (ctx.newModifier != null) return new Ast.NewObject(ctx.i.getText());
+        if (ctx.i1 != null) return new Ast.Name(ctx.i1.getText());
+        if (ctx.i2 != null) return new Ast.Index(new Ast.Name(ctx.i2.getText()), expression(ctx.e));
+        if (ctx.ee != null) return new Ast.Paren(expression(ctx.ee));
+        return new Ast.Call(null, ctx.i3.getText(), expressions(ctx.expression()));
+    }
+
+    private static List<Ast.Expr> expressions(List<japyParser.ExpressionContext> contexts) {
+        List<Ast.Expr> result = new ArrayList<>(contexts.size());
+        for (japyParser.ExpressionContext e : contexts) result.add(expression(e));
+        return result;
+    }
+
+    /////////////////////////////////////////////////////////////////////
+    //                            POSITIONS                            //
+    /////////////////////////////////////////////////////////////////////
+    static <T extends Ast.Decl> T position(T node, ParserRuleContext ctx) {
+        node.line = ctx.getStart().getLine();
+        node.column = ctx.getStart().getCharPositionInLine();
+        node.stopLine = ctx.getStop().getLine();
+        return node;
+    }
+
+    static <T extends Ast.Stmt> T position(T node, ParserRuleContext ctx) {
+        Token start = ctx.getStart();
+        Token stop = ctx.getStop();
+        node.line = start.getLine();
+        node.column = start.getCharPositionInLine();
+        node.stopLine = stop.getLine();
+        node.stopColumn = stop.getCharPositionInLine();
+        return node;
+    }
+}
@@ -0,0 +1,201 @@
+package compiler;
+
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Stream;
+
+/*
+ * Compiles many sources in one run:
+ *
+ *   java compiler.Compiler [--parallel=<threads>] [options] <file | directory | 'glob'>...
+ *
+ * A directory stands for every .cl file below it, a glob (quoted, e.g. 'src/**.cl') for every file it matches,
+ * each taken in path order. Files are compiled concurrently on a work-stealing pool of --parallel threads (all
+ * processors by default); each file is compiled by one thread's ReusableCompiler. Every file compiles into memory,
+ * syntax errors and PHASE 3 included, and is printed whole under a "==> file <==" header in argument order as
+ * soon as the files before it are done, its [parse] / [arena] reports on stderr right after it. A throughput summary
+ * goes to stderr at the end.
+ */
+final class BatchCompiler {
+    private static final String EXTENSION = ".cl";
+    private static final String GLOB = "*?[{";
+
+    static final class Result {
+        final Path file;
+        // what the lexer and parser reported, then what the printer printed
+        String syntaxErrors = "";
+        String text = "";
+        // the compile's reports on itself, for stderr
+        String reports = "";
+        long bytes;
+        int lines;
+        long nanos;
+        Exception failure;
+
+        Result(Path file) {
+            this.file = file;
+        }
+    }
+
+    // more than one source, a directory or a glob
+    static boolean isBatch(CompilerOptions options) {
+        if (options.sources.size() > 1) return true;
+        return isGlob(options.source) || Files.isDirectory(Paths.get(options.source));
+    }
+
+    // compiles every file and returns the exit status: 0 if all of them compiled, 1 otherwise
+    static int run(CompilerOptions options) throws IOException {
+        if (options.stream) throw new IllegalArgumentException("--stream compiles a single file");
+        List<Path> files = expand(options.sources);
+        int threads = options.parallelism > 0 ? options.parallelism : Runtime.getRuntime().availableProcessors();
+        OutputSink out = Compiler.stdout(options.output);
+
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        ThreadLocal<ReusableCompiler> compilers = ThreadLocal.withInitial(() -> new ReusableCompiler(options.output));
+        int failed = 0;
+        long bytes = 0, lines = 0, busy = 0;
+        try {
+            List<ForkJoinTask<Result>> tasks = new ArrayList<>(files.size());
+            for (Path file : files) tasks.add(pool.submit(() -> compile(file, options, compilers.get())));
+            for (ForkJoinTask<Result> task : tasks) {
+                Result result = task.join();
+                out.println("==> " + result.file + " <==");
+                out.print(result.syntaxErrors);
+                out.print(result.text);
+                out.flush();
+                System.err.print(result.reports);
+                System.err.flush();
+                if (result.failure != null) failed++;
+                bytes += result.bytes;
+                lines += result.lines;
+                busy += result.nanos;
+            }
+        } finally {
+            pool.shutdown();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.err.printf("[batch] %d files (%d failed), %d lines, %.1f MB in %.2f s on %d threads: "
+                        + "%.1f files/s, %.0f lines/s, %.1f MB/s; compile time %.2f s, %.1fx wall%n",
+                files.size(), failed, lines, bytes / 1e6, seconds, threads,
+                files.size() / seconds, lines / seconds, bytes / 1e6 / seconds, busy / 1e9, busy / 1e9 / seconds);
+        return failed == 0 ? 0 : 1;
+    }
+
+    // with --cache an unchanged source is answered from the cache, and only a miss loads the DFA snapshot
+    static Result compile(Path file, CompilerOptions options, ReusableCompiler compiler) {
+        Result result = new Result(file);
+        long start = System.nanoTime();
+        String key = null;
+        try {
+            if (options.cache != null) {
+                byte[] source = options.text != null ? options.text.getBytes(StandardCharsets.UTF_8) : Files.readAllBytes(file);
+                result.bytes = source.length;
+                key = CompileCache.key(source, options);
+                CompileCache.Entry entry = options.cache.get(key);
+                if (entry != null) {
+                    result.syntaxErrors = entry.syntaxErrors;
+                    result.text = entry.printed;
+                    result.lines = entry.lines;
+                    result.nanos = System.nanoTime() - start;
+                    return result;
+                }
+                // compiled from the bytes just hashed, the file could have changed since
+                options = options.forSource(options.source, options.syntaxErrors);
+                options.text = new String(source, StandardCharsets.UTF_8);
+                DfaSnapshot.preload(options);
+            } else {
+                result.bytes = options.text != null ? options.text.length() : Files.size(file);
+            }
+            Ast.Program program = compiler.compile(options, file.toString());
+            if (!program.classes.isEmpty()) result.lines = program.classes.get(program.classes.size() - 1).stopLine;
+        } catch (IOException | RuntimeException e) {
+            result.failure = e;
+            compiler.output.println("error: " + e);
+        }
+        result.nanos = System.nanoTime() - start;
+        int syntaxErrorLength = compiler.syntaxErrorLength();
+        result.reports = compiler.reports.toString();
+        String text = compiler.finish();
+        result.syntaxErrors = text.substring(0, syntaxErrorLength);
+        result.text = text.substring(syntaxErrorLength);
+        if (key != null && result.failure == null) store(options.cache, key, result);
+        return result;
+    }
+
+    private static void store(CompileCache cache, String key, Result result) {
+        try {
+            cache.put(key, new CompileCache.Entry(result.syntaxErrors, result.text, result.lines));
+        } catch (IOException e) {
+            System.err.println("[cache] could not store " + result.file + ": " + e);
+        }
+    }
+
+    // each argument's files in path order, arguments in the order given; a missing file is left for compile to report
+    static List<Path> expand(List<String> sources) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (String source : sources) {
+            List<Path> matched = new ArrayList<>();
+            if (isGlob(source)) {
+                PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + source);
+                try (Stream<Path> walk = Files.walk(globBase(source))) {
+                    walk.filter(path -> Files.isRegularFile(path) && matcher.matches(path)).forEach(matched::add);
+                }
+            } else if (Files.isDirectory(Paths.get(source))) {
+                try (Stream<Path> walk = Files.walk(Paths.get(source))) {
+                    walk.filter(path -> Files.isRegularFile(path) && path.toString().endsWith(EXTENSION)).forEach(matched::add);
+                }
+            } else {
+                matched.add(Paths.get(source));
+            }
+            Collections.sort(matched);
+            files.addAll(matched);
+        }
+        return files;
+    }
+
+    private static boolean isGlob(String source) {
+        for (int i = 0; i < source.length(); i++) {
+            if (GLOB.indexOf(source.charAt(i)) >= 0) return true;
+        }
+        return false;
+    }
+
+    // the directory part before the first wildcard; walked paths keep its spelling so the glob can match them
+    private static Path globBase(String glob) {
+        int wildcard = 0;
+        while (GLOB.indexOf(glob.charAt(wildcard)) < 0) wildcard++;
+        int separator = glob.lastIndexOf('/', wildcard);
+        return separator < 0 ? Paths.get("") : Paths.get(glob.substring(0, separator + 1));
+    }
+}
+
+// ConsoleErrorListener's format, into one file's output
+class SinkErrorListener extends BaseErrorListener {
+    private final OutputSink out;
+
+    SinkErrorListener(OutputSink out) {
+        this.out = out;
+    }
+
+    @Override
+    public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
+                            String msg, RecognitionException e) {
+        out.println("line " + line + ":" + charPositionInLine + " " + msg);
+    }
+}
@@ -0,0 +1,44 @@
+package compiler;
+
+import gen.japyParser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import java.util.function.Consumer;
+
+/*
+ * Parse listener for streaming compiles. The parser runs with tree building off and only switches it on
+ * while a classDeclaration is being parsed; when the class completes it is lowered, handed on and its
+ * subtree released, so at most one class worth of parse tree is alive at any time.
+ */
+class ClassStreamer implements ParseTreeListener {
+    private final japyParser parser;
+    private final Consumer<Ast.ClassDecl> classes;
+
+    ClassStreamer(japyParser parser, Consumer<Ast.ClassDecl> classes) {
+        this.parser = parser;
+        this.classes = classes;
+    }
+
+    @Override
+    public void enterEveryRule(ParserRuleContext ctx) {
+        if (ctx instanceof japyParser.ClassDeclarationContext) parser.setBuildParseTree(true);
+    }
+
+    @Override
+    public void exitEveryRule(ParserRuleContext ctx) {
+        if (!(ctx instanceof japyParser.ClassDeclarationContext)) return;
+        boolean entry = ctx.getParent() instanceof japyParser.EntryClassDeclarationContext;
+        classes.accept(AstBuilder.classDeclaration((japyParser.ClassDeclarationContext) ctx, entry));
+        ctx.children = null;
+        parser.setBuildParseTree(false);
+    }
+
+    @Override
+    public void visitTerminal(TerminalNode node) {}
+
+    @Override
+    public void visitErrorNode(ErrorNode node) {}
+}
@@ -0,0 +1,312 @@
+package compiler;
+
+import gen.japyLexer;
+import gen.japyParser;
+import gen.japyPrecedenceParser;
+import org.antlr.v4.runtime.RuntimeMetaData;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/*
+ * An on-disk cache of compile results, so a source that has not changed since an earlier run is printed again
+ * without being lexed, parsed or analysed:
+ *
+ *   java compiler.Compiler --cache[=<dir>] [--cache-size=<MB>] [--cache-stats] [options] <sources>...
+ *
+ * An entry is what ReusableCompiler collected for one source: the syntax errors, then everything ProgramPrinter
+ * printed (the PHASE 1 symbol tables, PHASE 2 scopes, PHASE 3 errors). Its key is the SHA-256 of the source bytes,
+ * the grammars (their serialized ATNs and the ANTLR version), the compiler build, and the options that change what
+ * is printed; entries live under <dir>/<first two hex digits>/<rest>. Sources that failed to compile are not cached,
+ * and what a compile reports about itself on stderr (--sll's [parse] line) is not repeated by a hit. --stream and
+ * --arena-stats are refused, and so are --phases and --parallel for a single file, where a hit has nothing to time
+ * or to check in parallel.
+ *
+ * The directory is kept under --cache-size by evicting the least recently used entries. A hit touches its file, so
+ * recency carries over from one run to the next: each run indexes the directory by modification time when it first
+ * opens it and keeps the index up to date from then on. Entries are written to a temporary file and moved into
+ * place, so concurrent runs sharing a directory see whole entries or none. A key the index does not have is still
+ * looked for on disk, so what another run (or another process, for a daemon that indexed long ago) stored since is
+ * a hit and joins the index; one run's eviction shows up in another as a miss. Hits, misses, stores and evictions
+ * are counted per run and --cache-stats prints them to stderr.
+ */
+final class CompileCache {
+    static final String DEFAULT_DIRECTORY = Paths.get(System.getProperty("user.home"), ".cache", "japy").toString();
+    static final long DEFAULT_LIMIT = 256L << 20;
+    private static final int MAGIC = 0x4a415043;
+    // bump when the entry layout or the key changes
+    private static final int VERSION = 1;
+    // one cache per directory per process, so every thread and every daemon request shares its index and counters
+    private static final Map<Path, CompileCache> OPEN = new ConcurrentHashMap<>();
+    private static final String BUILD = build();
+
+    static final class Entry {
+        final String syntaxErrors;
+        final String printed;
+        // the last line of the last class, BatchCompiler's line count
+        final int lines;
+
+        Entry(String syntaxErrors, String printed, int lines) {
+            this.syntaxErrors = syntaxErrors;
+            this.printed = printed;
+            this.lines = lines;
+        }
+    }
+
+    private final Path directory;
+    private final long limit;
+    // key -> entry size in bytes, least recently used first
+    private final LinkedHashMap<String, Long> index = new LinkedHashMap<>(64, 0.75f, true);
+    private long size;
+    private long hits, misses, stores, evictions;
+
+    private CompileCache(Path directory, long limit) {
+        this.directory = directory;
+        this.limit = limit;
+    }
+
+    // the cache `options` name with --cache, or null
+    static CompileCache open(CompilerOptions options) throws IOException {
+        return options.cacheDirectory == null ? null : open(options.cacheDirectory, options.cacheLimit);
+    }
+
+    // the process's cache for `directory`, indexing it on first use; the limit is the first opener's
+    static CompileCache open(String directory, long limit) throws IOException {
+        Path path = Paths.get(directory).toAbsolutePath().normalize();
+        CompileCache cache = OPEN.get(path);
+        if (cache != null) return cache;
+        synchronized (OPEN) {
+            cache = OPEN.get(path);
+            if (cache == null) {
+                cache = new CompileCache(path, limit);
+                cache.scan();
+                OPEN.put(path, cache);
+            }
+            return cache;
+        }
+    }
+
+    // the entry key for `source` compiled with `options`
+    static String key(byte[] source, CompilerOptions options) {
+        MessageDigest digest = sha256();
+        digest.update(header(options).getBytes(StandardCharsets.UTF_8));
+        digest.update(source);
+        StringBuilder hex = new StringBuilder(64);
+        for (byte b : digest.digest()) hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        return hex.toString();
+    }
+
+    // only what changes the printed result: --sll and --scanner can word syntax errors differently, --precedence
+    // parses with another grammar and --output=discard drops PHASE 1 and 2
+    private static String header(CompilerOptions options) {
+        String grammar = options.precedence ? japyPrecedenceParser._serializedATN : japyParser._serializedATN;
+        return VERSION + "\n" + BUILD + "\n" + RuntimeMetaData.VERSION + "\n"
+                + japyLexer._serializedATN.hashCode() + " " + grammar.hashCode() + " " + grammar.length() + "\n"
+                + options.parseMode + " " + options.scanner + " " + options.precedence + " "
+                + (options.output == OutputMode.DISCARD) + "\n";
+    }
+
+    Entry get(String key) {
+        Path file = file(key);
+        Entry entry;
+        try {
+            entry = read(file);
+        } catch (NoSuchFileException e) {
+            // never stored, or evicted by another run
+            synchronized (this) {
+                misses++;
+                forget(key);
+            }
+            return null;
+        } catch (IOException e) {
+            // unreadable, so compile it again
+            synchronized (this) {
+                misses++;
+                forget(key);
+            }
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {}
+            return null;
+        }
+        long bytes = -1;
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            bytes = Files.size(file);
+        } catch (IOException evicted) {
+            // by another run since it was read, the entry is still good
+        }
+        synchronized (this) {
+            hits++;
+            // stored by another process since this one indexed the directory
+            if (bytes >= 0 && index.get(key) == null) {
+                index.put(key, bytes);
+                size += bytes;
+            }
+        }
+        return entry;
+    }
+
+    void put(String key, Entry entry) throws IOException {
+        Path file = file(key);
+        Files.createDirectories(file.getParent());
+        Path temporary = Files.createTempFile(file.getParent(), key.substring(2), ".tmp");
+        long bytes;
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                write(out, entry);
+            }
+            // once moved, the entry can already be evicted by another run
+            bytes = Files.size(temporary);
+            move(temporary, file);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+        List<String> evicted = new ArrayList<>();
+        synchronized (this) {
+            stores++;
+            forget(key);
+            index.put(key, bytes);
+            size += bytes;
+            Iterator<Map.Entry<String, Long>> eldest = index.entrySet().iterator();
+            while (size > limit && eldest.hasNext()) {
+                Map.Entry<String, Long> victim = eldest.next();
+                if (victim.getKey().equals(key)) continue;
+                size -= victim.getValue();
+                evicted.add(victim.getKey());
+                eldest.remove();
+                evictions++;
+            }
+        }
+        for (String victim : evicted) Files.deleteIfExists(file(victim));
+    }
+
+    synchronized String stats() {
+        long lookups = hits + misses;
+        return String.format("[cache] %s: %d hits, %d misses (%.1f%% hit rate), %d stored, %d evicted, %d entries, %.1f of %.1f MB",
+                directory, hits, misses, lookups == 0 ? 0.0 : 100.0 * hits / lookups, stores, evictions, index.size(), size / 1048576.0, limit / 1048576.0);
+    }
+
+    private void forget(String key) {
+        Long bytes = index.remove(key);
+        if (bytes != null) size -= bytes;
+    }
+
+    // what earlier runs left, oldest first
+    private void scan() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> files = new ArrayList<>();
+        try (Stream<Path> walk = Files.walk(directory, 2)) {
+            walk.filter(path -> path.getNameCount() == directory.getNameCount() + 2 && !path.toString().endsWith(".tmp")
+                    && Files.isRegularFile(path)).forEach(files::add);
+        }
+        Map<Path, FileTime> modified = new LinkedHashMap<>();
+        for (Path file : files) {
+            try {
+                modified.put(file, Files.getLastModifiedTime(file));
+            } catch (NoSuchFileException gone) {
+                // evicted by another run meanwhile
+            }
+        }
+        files = new ArrayList<>(modified.keySet());
+        files.sort(Comparator.comparing(modified::get));
+        for (Path file : files) {
+            long bytes = Files.size(file);
+            index.put(file.getParent().getFileName().toString() + file.getFileName(), bytes);
+            size += bytes;
+        }
+    }
+
+    private Path file(String key) {
+        return directory.resolve(key.substring(0, 2)).resolve(key.substring(2));
+    }
+
+    private static void write(DataOutputStream out, Entry entry) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(entry.lines);
+        writeString(out, entry.syntaxErrors);
+        writeString(out, entry.printed);
+    }
+
+    private static Entry read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            long bytes = Files.size(file);
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) throw new IOException(file + " is not a cache entry");
+            int lines = in.readInt();
+            String syntaxErrors = readString(in, bytes);
+            return new Entry(syntaxErrors, readString(in, bytes), lines);
+        }
+    }
+
+    // DataOutputStream.writeUTF stops at 64 KB
+    private static void writeString(DataOutputStream out, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    // a length past the end of the file is a damaged entry, which get() treats as a miss
+    private static String readString(DataInputStream in, long fileSize) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > fileSize) throw new IOException("bad string length " + length + " in a " + fileSize + " byte cache entry");
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void move(Path from, Path to) throws IOException {
+        try {
+            Files.move(from, to, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(from, to, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // which compiler printed an entry: the size and modification time of the jar, or of the newest class file
+    // when running from target/classes
+    private static String build() {
+        try {
+            Path location = Paths.get(CompileCache.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            if (!Files.isDirectory(location)) return location.getFileName() + " " + Files.size(location) + " " + Files.getLastModifiedTime(location).toMillis();
+            long newest = 0;
+            try (Stream<Path> classes = Files.list(location.resolve("compiler"))) {
+                for (Path file : (Iterable<Path>) classes::iterator) newest = Math.max(newest, Files.getLastModifiedTime(file).toMillis());
+            }
+            return location + " " + newest;
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            // no way to tell builds apart, so no entry can be trusted across runs
+            return "unknown " + System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,399 @@
+package compiler;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * Keeps a compiler resident, so every compile after the first few runs JIT-compiled code on warm parser DFAs:
+ *
+ *   java -cp target/japy-compiler-1.0-SNAPSHOT.jar compiler.CompileDaemon [--socket=<path>] [--workers=<n>] [--dfa=<file> | --no-dfa]
+ *
+ * It listens on a Unix domain socket (by default japyd.sock in $XDG_RUNTIME_DIR, or else in a japyd-<user>
+ * directory under the temp directory that only the user can enter, which the daemon creates) for DaemonProtocol
+ * requests: a compiler command line, plus the source text itself for an in-memory compile. The answer is the exit
+ * status and the compile's output, syntax errors and PHASE 3 inline as in a batch, plus what the compile reports
+ * about itself (--sll, --arena-stats, --cache-stats) for the client's stderr; a request naming several files, a
+ * directory or a glob is answered like a batch, each file under its "==> file <==" header.
+ *
+ * Each connection is served on a thread of its own that only reads, waits and writes. The compiles run on a fixed
+ * pool of --workers threads (all processors by default), each with its own ReusableCompilers, so however many
+ * clients are connected no more than that many compiles are running; the files of one request are spread over the
+ * pool. The DFA snapshot is loaded once at startup into the parsers every request shares, so a request's --dfa or
+ * --no-dfa must agree with the daemon's; that and --stream, which needs a file of its own, are refused.
+ * Requests with --cache share one CompileCache per directory for the daemon's lifetime.
+ */
+public final class CompileDaemon {
+    private final ServerSocketChannel server;
+    private final Path socket;
+    private final ExecutorService connections = Executors.newCachedThreadPool(threads("japyd-connection"));
+    private final ExecutorService workers;
+    // what --dfa the daemon started with, null for --no-dfa
+    private final String dfaSnapshot;
+    // per worker, one for each printer ReusableCompiler can have
+    private final ThreadLocal<ReusableCompiler> printing = ThreadLocal.withInitial(() -> new ReusableCompiler(OutputMode.MEMORY));
+    private final ThreadLocal<ReusableCompiler> discarding = ThreadLocal.withInitial(() -> new ReusableCompiler(OutputMode.DISCARD));
+
+    CompileDaemon(Path socket, int workerCount, String dfaSnapshot) throws IOException {
+        this.socket = socket;
+        this.dfaSnapshot = dfaSnapshot;
+        this.workers = Executors.newFixedThreadPool(workerCount, threads("japyd-worker"));
+        server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        server.bind(UnixDomainSocketAddress.of(claim(socket)));
+        // connecting needs write permission on the socket file, so only the user can send requests
+        try {
+            Files.setPosixFilePermissions(socket, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException notPosix) {
+            // nothing to restrict with
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path socket = DaemonProtocol.defaultSocket();
+        int workerCount = Runtime.getRuntime().availableProcessors();
+        CompilerOptions startup = new CompilerOptions();
+        for (String arg : args) {
+            if (arg.startsWith("--socket=")) {
+                socket = Paths.get(arg.substring("--socket=".length()));
+            } else if (arg.startsWith("--workers=")) {
+                workerCount = Integer.parseInt(arg.substring("--workers=".length()));
+            } else if (arg.startsWith("--dfa=")) {
+                startup.dfaSnapshot = absolute(arg.substring("--dfa=".length()));
+            } else if (arg.equals("--no-dfa")) {
+                startup.dfaSnapshot = null;
+            } else {
+                throw new IllegalArgumentException("unknown option " + arg);
+            }
+        }
+        if (socket.equals(DaemonProtocol.defaultSocket())) privateDirectory(socket.getParent());
+        // requests may ask for either grammar
+        DfaSnapshot.preload(startup);
+        startup.precedence = true;
+        DfaSnapshot.preload(startup);
+
+        CompileDaemon daemon = new CompileDaemon(socket, workerCount, startup.dfaSnapshot);
+        Runtime.getRuntime().addShutdownHook(new Thread(daemon::close));
+        System.err.println("[daemon] listening on " + socket + " with " + workerCount + " workers");
+        daemon.serve();
+        daemon.drain();
+    }
+
+    // accepts connections until a stop request or close()
+    void serve() throws IOException {
+        try {
+            while (true) {
+                SocketChannel channel = server.accept();
+                connections.execute(() -> answer(channel));
+            }
+        } catch (ClosedChannelException stopped) {
+            // close() ends the loop
+        } finally {
+            close();
+        }
+    }
+
+    void close() {
+        try {
+            server.close();
+            Files.deleteIfExists(socket);
+        } catch (IOException e) {
+            System.err.println("[daemon] " + e);
+        }
+        connections.shutdown();
+        workers.shutdown();
+    }
+
+    // after a stop, gives the requests already in flight time to be answered and their compiles time to finish
+    void drain() {
+        try {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            connections.awaitTermination(10, TimeUnit.SECONDS);
+            workers.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void answer(SocketChannel channel) {
+        try (SocketChannel connection = channel) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(connection)));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(connection)));
+            DaemonProtocol.Request request;
+            try {
+                request = DaemonProtocol.readRequest(in);
+            } catch (IOException e) {
+                System.err.println("[daemon] bad request: " + e.getMessage());
+                DaemonProtocol.writeResponse(out, 2, "error: bad request: " + e.getMessage() + OutputSink.NEWLINE, "");
+                out.flush();
+                return;
+            }
+            if (request.stop) {
+                DaemonProtocol.writeResponse(out, 0, "", "");
+                out.flush();
+                System.err.println("[daemon] stopping");
+                close();
+                return;
+            }
+            long start = System.nanoTime();
+            StringBuilder output = new StringBuilder();
+            StringBuilder reports = new StringBuilder();
+            int status = compile(request, output, reports);
+            DaemonProtocol.writeResponse(out, status, output.toString(), reports.toString());
+            out.flush();
+            System.err.printf("[daemon] %s: status %d in %.1f ms%n", String.join(" ", request.args), status, (System.nanoTime() - start) / 1e6);
+        } catch (IOException e) {
+            System.err.println("[daemon] connection failed: " + e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // the exit status Compiler.main would have; 2 for a request it would have rejected. What Compiler.main would
+    // print to stderr about the compile itself (--sll's [parse] lines, --arena-stats, --cache-stats) goes to `reports`
+    int compile(DaemonProtocol.Request request, StringBuilder output, StringBuilder reports) throws InterruptedException {
+        CompilerOptions options;
+        List<Path> files;
+        try {
+            options = CompilerOptions.parse(request.args.toArray(new String[0]));
+            if (options.sources.isEmpty()) throw new IllegalArgumentException("no source given");
+            if (options.stream) throw new IllegalArgumentException("--stream is not served by the daemon");
+            boolean dfaGiven = request.args.stream().anyMatch(arg -> arg.startsWith("--dfa=") || arg.equals("--no-dfa"));
+            if (dfaGiven && !Objects.equals(absolute(options.dfaSnapshot), dfaSnapshot)) {
+                throw new IllegalArgumentException("the daemon was started with " + (dfaSnapshot == null ? "--no-dfa" : "--dfa=" + dfaSnapshot)
+                        + " and every request parses with it");
+            }
+            options.dfaSnapshot = dfaSnapshot;
+            if (request.text != null && options.sources.size() != 1) {
+                throw new IllegalArgumentException("an in-memory source is named by exactly one source argument");
+            }
+            options.text = request.text;
+            options.cache = CompileCache.open(options);
+            files = request.text != null ? List.of(Paths.get(options.source)) : BatchCompiler.expand(options.sources);
+        } catch (IllegalArgumentException e) {
+            output.append("error: ").append(e.getMessage()).append(OutputSink.NEWLINE);
+            return 2;
+        } catch (IOException e) {
+            output.append("error: ").append(e).append(OutputSink.NEWLINE);
+            return 2;
+        }
+
+        boolean batch = request.text == null && BatchCompiler.isBatch(options);
+        List<Future<BatchCompiler.Result>> tasks = new ArrayList<>(files.size());
+        try {
+            for (Path file : files) tasks.add(workers.submit(() -> compileOnWorker(file, options)));
+        } catch (RejectedExecutionException stopping) {
+            for (Future<BatchCompiler.Result> task : tasks) task.cancel(false);
+            output.append("error: the daemon is stopping").append(OutputSink.NEWLINE);
+            return 2;
+        }
+        int status = 0;
+        for (int i = 0; i < tasks.size(); i++) {
+            BatchCompiler.Result result = join(tasks.get(i), files.get(i));
+            if (batch) output.append("==> ").append(result.file).append(" <==").append(OutputSink.NEWLINE);
+            output.append(result.syntaxErrors).append(result.text);
+            reports.append(result.reports);
+            if (result.failure != null) status = 1;
+        }
+        if (options.cacheStats && options.cache != null) reports.append(options.cache.stats()).append(OutputSink.NEWLINE);
+        return status;
+    }
+
+    // a --dfa file named the same however it was given; the bundled snapshot is a name, not a path
+    static String absolute(String dfaSnapshot) {
+        if (dfaSnapshot == null || dfaSnapshot.equals(DfaSnapshot.BUNDLED)) return dfaSnapshot;
+        return Paths.get(dfaSnapshot).toAbsolutePath().normalize().toString();
+    }
+
+    // BatchCompiler.compile reports IOException and RuntimeException itself; an Error (a StackOverflowError on a
+    // deeply nested source, say) leaves the worker's compilers mid-compile, so they are dropped for fresh ones
+    private BatchCompiler.Result compileOnWorker(Path file, CompilerOptions options) {
+        try {
+            return BatchCompiler.compile(file, options, options.output == OutputMode.DISCARD ? discarding.get() : printing.get());
+        } catch (Error e) {
+            printing.remove();
+            discarding.remove();
+            throw e;
+        }
+    }
+
+    // a compile that threw is answered like any failed one, as an error line for its file
+    private static BatchCompiler.Result join(Future<BatchCompiler.Result> task, Path file) throws InterruptedException {
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            BatchCompiler.Result result = new BatchCompiler.Result(file);
+            result.text = "error: " + e.getCause() + OutputSink.NEWLINE;
+            result.failure = e;
+            return result;
+        } catch (CancellationException e) {
+            BatchCompiler.Result result = new BatchCompiler.Result(file);
+            result.text = "error: the daemon is stopping" + OutputSink.NEWLINE;
+            result.failure = e;
+            return result;
+        }
+    }
+
+    // the default socket's directory: created for the user alone if missing, refused if anyone else could have put
+    // or replaced a socket in it
+    static void privateDirectory(Path directory) throws IOException {
+        Set<PosixFilePermission> userOnly = PosixFilePermissions.fromString("rwx------");
+        try {
+            if (!Files.exists(directory, LinkOption.NOFOLLOW_LINKS)) {
+                Files.createDirectory(directory, PosixFilePermissions.asFileAttribute(userOnly));
+            }
+            PosixFileAttributes attributes = Files.readAttributes(directory, PosixFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            if (!attributes.isDirectory() || !attributes.owner().equals(currentUser())
+                    || !attributes.permissions().equals(userOnly)) {
+                throw new IllegalStateException(directory + " must be a directory of " + currentUser().getName()
+                        + "'s with permissions rwx------, use --socket=<path> to put the socket elsewhere");
+            }
+        } catch (UnsupportedOperationException notPosix) {
+            Files.createDirectories(directory);
+        }
+    }
+
+    // a socket file left behind by a daemon that died is removed, one that still answers is refused, and so is one
+    // that is not the user's own socket
+    private static Path claim(Path socket) throws IOException {
+        if (!Files.exists(socket, LinkOption.NOFOLLOW_LINKS)) return socket;
+        BasicFileAttributes attributes = Files.readAttributes(socket, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        if (!attributes.isOther() || !Files.getOwner(socket, LinkOption.NOFOLLOW_LINKS).equals(currentUser())) {
+            throw new IllegalStateException(socket + " exists and is not a socket of " + currentUser().getName() + "'s, not removing it");
+        }
+        try {
+            SocketChannel.open(UnixDomainSocketAddress.of(socket)).close();
+        } catch (IOException stale) {
+            Files.delete(socket);
+            return socket;
+        }
+        throw new IllegalStateException("a daemon is already listening on " + socket);
+    }
+
+    private static UserPrincipal currentUser() throws IOException {
+        return FileSystems.getDefault().getUserPrincipalLookupService().lookupPrincipalByName(System.getProperty("user.name"));
+    }
+
+    private static ThreadFactory threads(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
+
+/*
+ * What CompileDaemon and DaemonClient send each other over one connection, one request and one response:
+ *
+ *   request    int MAGIC, byte COMPILE | STOP, int n, n strings (the command line), boolean text, [string text]
+ *   response   int exit status, string output, string reports (for the client's stderr)
+ *
+ * A string is its UTF-8 length as an int followed by the bytes. Lengths and counts are checked before anything is
+ * allocated for them, and a request that breaks the format is answered with status 2 and an error.
+ */
+final class DaemonProtocol {
+    static final int MAGIC = 0x4a415059;
+    static final byte COMPILE = 'c';
+    static final byte STOP = 's';
+    static final int MAX_ARGS = 1 << 16;
+    // a source sent in memory, or a whole batch's output
+    static final int MAX_STRING = 1 << 30;
+
+    static final class Request {
+        final List<String> args;
+        // the source itself for an in-memory compile, named by the one source argument in `args`
+        final String text;
+        final boolean stop;
+
+        Request(List<String> args, String text, boolean stop) {
+            this.args = args;
+            this.text = text;
+            this.stop = stop;
+        }
+    }
+
+    private DaemonProtocol() {}
+
+    // $XDG_RUNTIME_DIR is the user's own already; the temp directory is shared, so the socket goes one level down
+    static Path defaultSocket() {
+        String runtime = System.getenv("XDG_RUNTIME_DIR");
+        if (runtime != null && !runtime.isEmpty() && Files.isDirectory(Paths.get(runtime))) return Paths.get(runtime, "japyd.sock");
+        return Paths.get(System.getProperty("java.io.tmpdir"), "japyd-" + System.getProperty("user.name"), "japyd.sock");
+    }
+
+    static void writeRequest(DataOutputStream out, Request request) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeByte(request.stop ? STOP : COMPILE);
+        out.writeInt(request.args.size());
+        for (String arg : request.args) writeString(out, arg);
+        out.writeBoolean(request.text != null);
+        if (request.text != null) writeString(out, request.text);
+    }
+
+    static Request readRequest(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) throw new IOException("not a japyd request");
+        byte kind = in.readByte();
+        if (kind != COMPILE && kind != STOP) throw new IOException("unknown request kind " + kind);
+        int count = in.readInt();
+        if (count < 0 || count > MAX_ARGS) throw new IOException("bad argument count " + count);
+        List<String> args = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) args.add(readString(in));
+        String text = in.readBoolean() ? readString(in) : null;
+        return new Request(args, text, kind == STOP);
+    }
+
+    static void writeResponse(DataOutputStream out, int status, String output, String reports) throws IOException {
+        out.writeInt(status);
+        writeString(out, output);
+        writeString(out, reports);
+    }
+
+    static void writeString(DataOutputStream out, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_STRING) throw new IOException("bad string length " + length);
+        // grows with what actually arrives, so a length the peer never sends allocates nothing
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) throw new EOFException("string cut off after " + bytes.length + " of " + length + " bytes");
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
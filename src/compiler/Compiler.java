@@ -1,26 +1,294 @@
 package compiler;
 import gen.japyLexer;
-import gen.japyListener;
 import gen.japyParser;
+import gen.japyPrecedenceParser;
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.CommonTokenFactory;
 import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.TokenStream;
-import org.antlr.v4.runtime.tree.ParseTree;
-import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.UnbufferedCharStream;
+import org.antlr.v4.runtime.UnbufferedTokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.Pair;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 
 public class Compiler {
     public static void main(String[] args) throws IOException {
-        CharStream stream = CharStreams.fromFileName("./sample/test.cl");
-        japyLexer lexer = new japyLexer(stream);
-        TokenStream tokens = new CommonTokenStream(lexer);
-        japyParser parser = new japyParser(tokens);
-        parser.setBuildParseTree(true);
-        ParseTree tree = parser.program();
-        ParseTreeWalker walker = new ParseTreeWalker();
-        japyListener listener = new ProgramPrinter();
-        walker.walk(listener, tree);
+        CompilerOptions options = CompilerOptions.parse(args);
+        options.cache = CompileCache.open(options);
+        if (BatchCompiler.isBatch(options)) {
+            if (options.cache == null) DfaSnapshot.preload(options);
+            int status = BatchCompiler.run(options);
+            if (options.cacheStats && options.cache != null) System.err.println(options.cache.stats());
+            if (status != 0) System.exit(status);
+            return;
+        }
+        if (options.cache != null) {
+            int status = cached(options);
+            if (options.cacheStats) System.err.println(options.cache.stats());
+            if (status != 0) System.exit(status);
+            return;
+        }
+        PhaseTimer timer = new PhaseTimer(options.source);
+        timer.phase("dfa");
+        DfaSnapshot.preload(options);
+        ProgramPrinter printer = printer(options.output);
+        if (options.stream) {
+            stream(options, printer, timer);
+        } else {
+            Ast.Program program = lower(options, timer);
+            timer.phase("symbols");
+            printer.begin();
+            symbols(options, printer, program);
+        }
+        timer.phase("scopes");
+        printer.scopePhase();
+        timer.phase("errors");
+        printer.errorPhase();
+        timer.phase("output");
+        printer.flush();
+        timer.finish();
+        if (options.phaseReport) System.err.println(timer.toJson());
+    }
+
+    // one file through the cache: syntax errors to stderr and the rest to stdout, as an uncached compile prints them.
+    // A hit runs no phases to time and no classes to check in parallel, so --phases and --parallel are refused
+    static int cached(CompilerOptions options) throws IOException {
+        if (options.phaseReport || options.parallelism > 0) {
+            throw new IllegalArgumentException("--cache cannot be combined with --phases or --parallel for a single file");
+        }
+        BatchCompiler.Result result = BatchCompiler.compile(Paths.get(options.source), options, new ReusableCompiler(options.output));
+        System.err.print(result.syntaxErrors);
+        System.err.print(result.reports);
+        System.err.flush();
+        OutputSink out = stdout(options.output);
+        out.print(result.text);
+        out.flush();
+        return result.failure == null ? 0 : 1;
+    }
+
+    // with --parallel the phase's CPU and allocation figures only cover the main thread's share
+    static void symbols(CompilerOptions options, ProgramPrinter printer, Ast.Program program) {
+        if (options.parallelism <= 0) {
+            for (Ast.ClassDecl classDecl : program.classes) printer.visitClass(classDecl);
+            return;
+        }
+        ForkJoinPool pool = new ForkJoinPool(options.parallelism);
+        try {
+            printer.visitClasses(program.classes, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    static ProgramPrinter printer(OutputMode mode) {
+        OutputSink out = stdout(mode);
+        return mode == OutputMode.DISCARD ? new ProgramPrinter(OutputSink.discard(), out) : new ProgramPrinter(out);
+    }
+
+    static OutputSink stdout(OutputMode mode) {
+        switch (mode) {
+            case CHANNEL: return OutputSink.channel(new FileOutputStream(FileDescriptor.out).getChannel());
+            case MEMORY: return OutputSink.memory(System.out);
+            default: return OutputSink.buffered(System.out);
+        }
+    }
+
+    // bounded-memory compile: unbuffered char and token streams, and each class is analysed as soon as it is parsed,
+    // so reading through symbol collection is a single "stream" phase. There is nothing to rewind to, so --sll does
+    // not apply here.
+    static void stream(CompilerOptions options, ProgramPrinter printer, PhaseTimer timer) throws IOException {
+        timer.phase("stream");
+        try (InputStream in = new FileInputStream(options.source)) {
+            japyLexer lexer = listen(new japyLexer(new UnbufferedCharStream(in)), options.syntaxErrors);
+            lexer.setTokenFactory(new StreamTokenFactory());
+            japyParser parser = listen(new japyParser(new StreamTokens(lexer)), options.syntaxErrors);
+            parser.setBuildParseTree(false);
+            parser.addParseListener(new ClassStreamer(parser, printer::visitClass));
+            printer.begin();
+            parser.program();
+        }
+    }
+
+    // for callers that do not report phases
+    static Ast.Program lower(CompilerOptions options) throws IOException {
+        PhaseTimer timer = new PhaseTimer(options.source);
+        Ast.Program program = lower(options, timer);
+        timer.finish();
+        return program;
+    }
+
+    // the parse tree is only reachable from here, it is garbage once the AST is built. The lexer, token stream and
+    // parser are the thread's Recognizers and let go of this compile's input and tokens before lowering. With
+    // --precedence the same tokens go to japyPrecedenceParser and PrecedenceAstBuilder instead.
+    static Ast.Program lower(CompilerOptions options, PhaseTimer timer) throws IOException {
+        timer.phase("read");
+        CharStream stream = options.text != null ? CharStreams.fromString(options.text, options.source)
+                : options.mmap ? MappedCharStream.open(Paths.get(options.source))
+                : CharStreams.fromFileName(options.source);
+        timer.phase("lex");
+        Recognizers recognizers = Recognizers.forThread();
+        japyParser.ProgramContext tree = null;
+        japyPrecedenceParser.ProgramContext precedenceTree = null;
+        try {
+            TokenSource lexer = options.scanner ? new JapyTokenSource(scanner(stream, options)) : recognizers.lexer(stream, options.syntaxErrors);
+            CommonTokenStream tokens = recognizers.tokens(lexer);
+            tokens.fill();
+            timer.phase("parse");
+            if (options.precedence) {
+                japyPrecedenceParser parser = recognizers.precedenceParser(options.syntaxErrors);
+                precedenceTree = parse(parser, parser::program, tokens, options);
+            } else {
+                japyParser parser = recognizers.parser(options.syntaxErrors);
+                tree = parse(parser, parser::program, tokens, options);
+            }
+        } finally {
+            recognizers.release();
+        }
+        if (precedenceTree != null) {
+            timer.phase("lower");
+            return PrecedenceAstBuilder.lower(precedenceTree);
+        }
+        if (options.arenaStats) {
+            timer.phase("arena-stats");
+            reportArena(options, tree);
+        }
+        timer.phase("lower");
+        return AstBuilder.lower(tree);
+    }
+
+    private static JapyScanner scanner(CharStream stream, CompilerOptions options) {
+        JapyScanner scanner = new JapyScanner(stream, false);
+        scanner.errorListener = options.syntaxErrors;
+        return scanner;
+    }
+
+    static <T extends Recognizer<?, ?>> T listen(T recognizer, ANTLRErrorListener listener) {
+        recognizer.removeErrorListeners();
+        recognizer.addErrorListener(listener);
+        return recognizer;
+    }
+
+    // `program` runs the start rule of `parser`
+    static <T extends ParserRuleContext> T parse(Parser parser, Supplier<T> program, CommonTokenStream tokens, CompilerOptions options) {
+        if (options.parseMode == ParseMode.LL) {
+            return program.get();
+        }
+
+        // stage 1: SLL prediction, give up on the first syntax error instead of recovering
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        try {
+            T tree = program.get();
+            report(options, "SLL");
+            return tree;
+        } catch (ParseCancellationException ignored) {}
+
+        // stage 2: SLL was not enough (or the input is really wrong), re-parse with full LL
+        tokens.seek(0);
+        parser.reset();
+        parser.addErrorListener(options.syntaxErrors);
+        parser.setErrorHandler(new DefaultErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        T tree = program.get();
+        report(options, "LL");
+        return tree;
+    }
+
+    private static void report(CompilerOptions options, String path) {
+        options.reports.println("[parse] " + options.source + ": " + path);
+    }
+
+    // lowers the same tree into both representations and compares what each one allocated and how fast each one types
+    // its expressions
+    private static void reportArena(CompilerOptions options, japyParser.ProgramContext tree) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        long gcBefore = gcCount();
+        long allocated = threads.getThreadAllocatedBytes(thread);
+        Ast.Program program = AstBuilder.lower(tree);
+        long objectBytes = threads.getThreadAllocatedBytes(thread) - allocated;
+        long objectGcs = gcCount() - gcBefore;
+
+        gcBefore = gcCount();
+        allocated = threads.getThreadAllocatedBytes(thread);
+        AstArena arena = AstArenaBuilder.build(tree);
+        long arenaBytes = threads.getThreadAllocatedBytes(thread) - allocated;
+        long arenaGcs = gcCount() - gcBefore;
+
+        // both typers with every variable unresolved, as there are no scopes to look names up in here
+        long typing = System.nanoTime();
+        int expressions = new ExpressionTyper(name -> null).typeAll(program);
+        long objectTyping = System.nanoTime() - typing;
+        typing = System.nanoTime();
+        new ArenaTyper(arena, name -> null).typeAll(0);
+        long arenaTyping = System.nanoTime() - typing;
+
+        options.reports.println("[arena] " + options.source + ": " + arena.size + " nodes, " + arena.names.size() + " names, "
+                + arena.bytes() / arena.size + " bytes/node resident (" + arena.bytes() + " bytes), "
+                + arena.clampedColumns + " columns past 1023 clamped");
+        options.reports.println("[arena] " + options.source + ": allocated " + arenaBytes / arena.size + " bytes/node, " + arenaGcs + " gcs; "
+                + "object AST allocated " + objectBytes / arena.size + " bytes/node, " + objectGcs + " gcs (" + program.classes.size() + " classes)");
+        options.reports.println("[arena] " + options.source + ": typed " + expressions + " expressions in " + arenaTyping / 1000 + " us; "
+                + "object AST typed in " + objectTyping / 1000 + " us");
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) count += Math.max(0, gc.getCollectionCount());
+        return count;
+    }
+
+    // an unbuffered char stream cannot be read back, so every token's text is copied as it is made. EOF has no text
+    // to copy and reads as <EOF>, as it does from a buffered stream, so syntax errors at the end of input match
+    private static final class StreamTokenFactory extends CommonTokenFactory {
+        StreamTokenFactory() {
+            super(true);
+        }
+
+        @Override
+        public CommonToken create(Pair<TokenSource, CharStream> source, int type, String text, int channel, int start, int stop,
+                                  int line, int charPositionInLine) {
+            CommonToken token = super.create(source, type, text, channel, start, stop, line, charPositionInLine);
+            if (type == Token.EOF) token.setText("<EOF>");
+            return token;
+        }
+    }
+
+    // leaves EOF out of the text of a token range, as BufferedTokenStream does, for "no viable alternative" messages
+    private static final class StreamTokens extends UnbufferedTokenStream<Token> {
+        StreamTokens(TokenSource source) {
+            super(source);
+        }
+
+        @Override
+        public String getText(Interval interval) {
+            int stop = interval.b;
+            if (stop >= interval.a && get(stop).getType() == Token.EOF) stop--;
+            return super.getText(Interval.of(interval.a, stop));
+        }
     }
 }
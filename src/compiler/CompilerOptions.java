@@ -0,0 +1,135 @@
+package compiler;
+
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+enum ParseMode {
+    LL,
+    SLL_LL
+}
+
+// where ProgramPrinter's output goes; DISCARD drops the PHASE 1/2 dumps but still prints PHASE 3 errors
+enum OutputMode {
+    BUFFERED,
+    CHANNEL,
+    MEMORY,
+    DISCARD
+}
+
+class CompilerOptions {
+    String source = "./sample/test.cl";
+    // every source argument in order; more than one, a directory or a glob makes a batch compile
+    List<String> sources = new ArrayList<>();
+    // the source text itself, for a compile that has no file (CompileDaemon's in-memory requests); `source` names it
+    String text = null;
+    ParseMode parseMode = ParseMode.LL;
+    boolean arenaStats = false;
+    boolean stream = false;
+    boolean mmap = false;
+    boolean scanner = false;
+    boolean phaseReport = false;
+    // parse with japyPrecedenceParser, whose expressions are one left-recursive rule
+    boolean precedence = false;
+    // the DFA snapshot preloaded into the parsers, the jar's own by default; null starts them cold
+    String dfaSnapshot = DfaSnapshot.BUNDLED;
+    // --cache: the directory of the on-disk CompileCache and its size bound, null compiles everything
+    String cacheDirectory = null;
+    long cacheLimit = CompileCache.DEFAULT_LIMIT;
+    boolean cacheStats = false;
+    // the cache opened on cacheDirectory, set by whoever runs the compile
+    CompileCache cache = null;
+    // threads checking classes in parallel, 0 checks them one by one on the main thread
+    int parallelism = 0;
+    OutputMode output = OutputMode.BUFFERED;
+    // where the lexer and parser report syntax errors
+    ANTLRErrorListener syntaxErrors = ConsoleErrorListener.INSTANCE;
+    // where a compile reports on itself (--sll's [parse] path, --arena-stats); a batch keeps each file's apart
+    OutputSink reports = OutputSink.stderr();
+
+    static CompilerOptions parse(String[] args) {
+        CompilerOptions options = new CompilerOptions();
+        for (String arg : args) {
+            if (arg.equals("--sll")) {
+                options.parseMode = ParseMode.SLL_LL;
+            } else if (arg.equals("--stream")) {
+                options.stream = true;
+            } else if (arg.equals("--mmap")) {
+                options.mmap = true;
+            } else if (arg.equals("--scanner")) {
+                options.scanner = true;
+            } else if (arg.equals("--precedence")) {
+                options.precedence = true;
+            } else if (arg.equals("--phases")) {
+                options.phaseReport = true;
+            } else if (arg.equals("--parallel")) {
+                options.parallelism = Runtime.getRuntime().availableProcessors();
+            } else if (arg.startsWith("--parallel=")) {
+                options.parallelism = Integer.parseInt(arg.substring("--parallel=".length()));
+            } else if (arg.startsWith("--output=")) {
+                options.output = outputMode(arg.substring("--output=".length()));
+            } else if (arg.startsWith("--dfa=")) {
+                options.dfaSnapshot = arg.substring("--dfa=".length());
+            } else if (arg.equals("--no-dfa")) {
+                options.dfaSnapshot = null;
+            } else if (arg.equals("--cache")) {
+                options.cacheDirectory = CompileCache.DEFAULT_DIRECTORY;
+            } else if (arg.startsWith("--cache=")) {
+                options.cacheDirectory = arg.substring("--cache=".length());
+            } else if (arg.startsWith("--cache-size=")) {
+                options.cacheLimit = Long.parseLong(arg.substring("--cache-size=".length())) << 20;
+            } else if (arg.equals("--cache-stats")) {
+                options.cacheStats = true;
+            } else if (arg.equals("--arena-stats")) {
+                options.arenaStats = true;
+            } else if (arg.startsWith("--")) {
+                throw new IllegalArgumentException("unknown option " + arg);
+            } else {
+                options.source = arg;
+                options.sources.add(arg);
+            }
+        }
+        if (options.precedence && (options.stream || options.arenaStats)) {
+            throw new IllegalArgumentException("--precedence cannot be combined with --stream or --arena-stats");
+        }
+        // a hit compiles nothing, so there is nothing to stream or to measure the arena of
+        if (options.cacheDirectory != null && (options.stream || options.arenaStats)) {
+            throw new IllegalArgumentException("--cache cannot be combined with --stream or --arena-stats");
+        }
+        return options;
+    }
+
+    // the same options for one file of a batch
+    CompilerOptions forSource(String source, ANTLRErrorListener syntaxErrors) {
+        CompilerOptions options = new CompilerOptions();
+        options.source = source;
+        options.sources.add(source);
+        options.text = text;
+        options.parseMode = parseMode;
+        options.arenaStats = arenaStats;
+        options.stream = stream;
+        options.mmap = mmap;
+        options.scanner = scanner;
+        options.phaseReport = phaseReport;
+        options.precedence = precedence;
+        options.parallelism = parallelism;
+        options.dfaSnapshot = dfaSnapshot;
+        options.cacheDirectory = cacheDirectory;
+        options.cacheLimit = cacheLimit;
+        options.cacheStats = cacheStats;
+        options.cache = cache;
+        options.output = output;
+        options.syntaxErrors = syntaxErrors;
+        options.reports = reports;
+        return options;
+    }
+
+    private static OutputMode outputMode(String name) {
+        for (OutputMode mode : OutputMode.values()) {
+            if (mode.name().equalsIgnoreCase(name)) return mode;
+        }
+        throw new IllegalArgumentException("unknown output mode " + name);
+    }
+}
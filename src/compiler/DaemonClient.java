@@ -0,0 +1,77 @@
+package compiler;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * The client side of CompileDaemon: sends its command line, prints the answer and exits with the compile's status.
+ *
+ *   java -cp target/japy-compiler-1.0-SNAPSHOT.jar compiler.DaemonClient [--socket=<path>] [--stop]
+ *        [options] <file | directory | 'glob' | ->...
+ *
+ * The daemon has a working directory of its own, so sources are sent as absolute paths. `-` reads the source from
+ * stdin and has the daemon compile it in memory as <stdin>. Exits with 3 if no daemon is listening.
+ */
+public final class DaemonClient {
+    static final String STDIN = "<stdin>";
+
+    public static void main(String[] args) throws IOException {
+        Path socket = DaemonProtocol.defaultSocket();
+        boolean stop = false;
+        String text = null;
+        List<String> command = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--socket=")) {
+                socket = Paths.get(arg.substring("--socket=".length()));
+            } else if (arg.equals("--stop")) {
+                stop = true;
+            } else if (arg.equals("-")) {
+                text = new String(System.in.readAllBytes(), Charset.defaultCharset());
+                command.add(STDIN);
+            } else if (arg.startsWith("--dfa=")) {
+                command.add("--dfa=" + CompileDaemon.absolute(arg.substring("--dfa=".length())));
+            } else if (arg.startsWith("--")) {
+                command.add(arg);
+            } else {
+                command.add(Paths.get(arg).toAbsolutePath().toString());
+            }
+        }
+
+        SocketChannel channel;
+        try {
+            channel = SocketChannel.open(UnixDomainSocketAddress.of(socket));
+        } catch (IOException e) {
+            System.err.println("japyd: no daemon listening on " + socket + " (" + e.getMessage() + ")");
+            System.exit(3);
+            return;
+        }
+        int status;
+        try (SocketChannel connection = channel) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(connection)));
+            DaemonProtocol.writeRequest(out, new DaemonProtocol.Request(command, text, stop));
+            out.flush();
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(connection)));
+            status = in.readInt();
+            String output = DaemonProtocol.readString(in);
+            String reports = DaemonProtocol.readString(in);
+            PrintStream target = status == 2 ? System.err : System.out;
+            target.print(output);
+            target.flush();
+            System.err.print(reports);
+            System.err.flush();
+        }
+        if (status != 0) System.exit(status);
+    }
+}
@@ -0,0 +1,551 @@
+package compiler;
+
+import gen.japyLexer;
+import gen.japyParser;
+import gen.japyPrecedenceParser;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.RuntimeMetaData;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.ATNConfig;
+import org.antlr.v4.runtime.atn.ATNConfigSet;
+import org.antlr.v4.runtime.atn.ATNSimulator;
+import org.antlr.v4.runtime.atn.ArrayPredictionContext;
+import org.antlr.v4.runtime.atn.EmptyPredictionContext;
+import org.antlr.v4.runtime.atn.PredictionContext;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.atn.SemanticContext;
+import org.antlr.v4.runtime.atn.SingletonPredictionContext;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.dfa.DFAState;
+
+import java.io.ByteArrayInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * The parsers' prediction DFAs, saved after parsing a corpus and loaded back into the generated parsers' static
+ * _decisionToDFA before the first parse, so a fresh JVM predicts from a warm cache instead of rebuilding it by
+ * ATN simulation. The build writes one for japyParser and japyPrecedenceParser from sample/ into the jar:
+ *
+ *   java compiler.DfaSnapshot <out.dfa> <file | directory | 'glob'>...
+ *
+ * Every DFA state is stored whole (its ATN configurations included), so a loaded DFA goes on growing exactly like
+ * one built in this process. A section only loads into a parser with the same grammar file, serialized ATN (by its
+ * SHA-256) and ANTLR version it was written from; anything else is skipped and that parser starts cold, as it does
+ * when a snapshot cannot be read.
+ */
+public final class DfaSnapshot {
+    static final String BUNDLED = "japy.dfa";
+    private static final int MAGIC = 0x4a444641; // "JDFA"
+    // bump when the layout or the fingerprint changes
+    private static final int VERSION = 2;
+
+    private static final int EMPTY = 0, SINGLETON = 1, ARRAY = 2;
+    private static final int NONE = 0, PREDICATE = 1, PRECEDENCE = 2, AND = 3, OR = 4;
+    private static final int NO_STATE = -1, ERROR_STATE = -2;
+    private static final int DIGEST_LENGTH = 32;
+    // edges are indexed by token type, or by precedence in a precedence DFA's s0
+    private static final int MAX_EDGES = 1 << 16;
+    // grammars whose parsers already took a snapshot in this process; the DFAs are static, so that is one snapshot
+    // per grammar, which is why CompileDaemon fixes --dfa when it starts
+    private static final Set<String> PRELOADED = new HashSet<>();
+
+    private DfaSnapshot() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) throw new IllegalArgumentException("usage: DfaSnapshot <out.dfa> <file | directory | 'glob'>...");
+        List<Path> corpus = BatchCompiler.expand(Arrays.asList(args).subList(1, args.length));
+        Parser[] parsers = parsers();
+        for (Path file : corpus) {
+            for (Parser parser : parsers) warm(parser, file);
+        }
+        Path out = Paths.get(args[0]);
+        if (out.getParent() != null) Files.createDirectories(out.getParent());
+        try (OutputStream stream = Files.newOutputStream(out)) {
+            save(stream, parsers);
+        }
+        for (Parser parser : parsers) {
+            System.out.println("[dfa] " + parser.getGrammarFileName() + ": " + stateCount(parser) + " states from " + corpus.size() + " files");
+        }
+        System.out.println("[dfa] wrote " + out + " (" + Files.size(out) + " bytes)");
+    }
+
+    // one parser of each grammar; all instances of a grammar share its static DFA
+    static Parser[] parsers() {
+        return new Parser[]{new japyParser(null), new japyPrecedenceParser(null)};
+    }
+
+    // the snapshot --dfa names, the one bundled in the jar by default, for the grammar `options` parse with (the
+    // other one's ATN is not even deserialized); a missing bundled snapshot is not an error. Only the first call for
+    // a grammar loads anything, so --cache can leave it to the first source that misses. A snapshot that cannot be
+    // read is reported and the parser starts cold
+    static synchronized void preload(CompilerOptions options) {
+        if (options.dfaSnapshot == null || !PRELOADED.add(options.precedence ? "precedence" : "japy")) return;
+        Parser parser = options.precedence ? new japyPrecedenceParser(null) : new japyParser(null);
+        try {
+            if (options.dfaSnapshot.equals(BUNDLED)) {
+                try (InputStream in = DfaSnapshot.class.getResourceAsStream(BUNDLED)) {
+                    if (in != null) load(in, parser);
+                }
+                return;
+            }
+            try (InputStream in = Files.newInputStream(Paths.get(options.dfaSnapshot))) {
+                load(in, parser);
+            }
+        } catch (IOException | RuntimeException e) {
+            options.reports.println("[dfa] ignoring " + options.dfaSnapshot + ", " + parser.getGrammarFileName() + " starts cold: " + e);
+        }
+    }
+
+    private static void warm(Parser parser, Path file) throws IOException {
+        japyLexer lexer = new japyLexer(CharStreams.fromPath(file));
+        lexer.removeErrorListeners();
+        parser.removeErrorListeners();
+        parser.setTokenStream(new CommonTokenStream(lexer));
+        if (parser instanceof japyParser) ((japyParser) parser).program();
+        else ((japyPrecedenceParser) parser).program();
+        parser.setTokenStream(null);
+    }
+
+    static int stateCount(Parser parser) {
+        int states = 0;
+        for (DFA dfa : parser.getInterpreter().decisionToDFA) states += dfa.states.size();
+        return states;
+    }
+
+    /////////////////////////////////////////////////////////////////////
+    //                              WRITE                              //
+    /////////////////////////////////////////////////////////////////////
+    static void save(OutputStream stream, Parser... parsers) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(parsers.length);
+        for (Parser parser : parsers) {
+            writeFingerprint(out, parser);
+            ByteArrayOutputStream section = new ByteArrayOutputStream();
+            new Writer(new DataOutputStream(section)).write(parser.getInterpreter().decisionToDFA);
+            out.writeInt(section.size());
+            section.writeTo(out);
+        }
+        out.flush();
+    }
+
+    private static void writeFingerprint(DataOutputStream out, Parser parser) throws IOException {
+        out.writeUTF(parser.getGrammarFileName());
+        out.writeUTF(RuntimeMetaData.VERSION);
+        out.write(atnDigest(parser));
+    }
+
+    private static byte[] atnDigest(Parser parser) {
+        return CompileCache.sha256().digest(parser.getSerializedATN().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class Writer {
+        private final DataOutputStream out;
+        private final Map<PredictionContext, Integer> contexts = new IdentityHashMap<>();
+        private final Map<SemanticContext, Integer> predicates = new IdentityHashMap<>();
+        private final ByteArrayOutputStream contextBytes = new ByteArrayOutputStream();
+        private final ByteArrayOutputStream predicateBytes = new ByteArrayOutputStream();
+        private final DataOutputStream contextOut = new DataOutputStream(contextBytes);
+        private final DataOutputStream predicateOut = new DataOutputStream(predicateBytes);
+
+        Writer(DataOutputStream out) {
+            this.out = out;
+        }
+
+        // the contexts and predicates are numbered while the DFAs are written, and go first so a reader has them
+        // before the states that refer to them
+        void write(DFA[] dfas) throws IOException {
+            ByteArrayOutputStream states = new ByteArrayOutputStream();
+            DataOutputStream statesOut = new DataOutputStream(states);
+            int written = 0;
+            for (DFA dfa : dfas) {
+                if (dfa.states.isEmpty()) continue;
+                writeDfa(statesOut, dfa);
+                written++;
+            }
+            out.writeInt(contexts.size());
+            contextBytes.writeTo(out);
+            out.writeInt(predicates.size());
+            predicateBytes.writeTo(out);
+            out.writeInt(written);
+            states.writeTo(out);
+            out.flush();
+        }
+
+        private void writeDfa(DataOutputStream out, DFA dfa) throws IOException {
+            List<DFAState> states = new ArrayList<>(dfa.states.values());
+            states.sort(Comparator.comparingInt(state -> state.stateNumber));
+            Map<DFAState, Integer> index = new IdentityHashMap<>();
+            for (DFAState state : states) index.put(state, index.size());
+
+            out.writeInt(dfa.decision);
+            out.writeBoolean(dfa.isPrecedenceDfa());
+            out.writeInt(states.size());
+            for (DFAState state : states) {
+                out.writeInt(state.stateNumber);
+                writeConfigs(out, state.configs);
+                out.writeBoolean(state.isAcceptState);
+                out.writeInt(state.prediction);
+                out.writeBoolean(state.requiresFullContext);
+                if (state.predicates == null) {
+                    out.writeInt(-1);
+                } else {
+                    out.writeInt(state.predicates.length);
+                    for (DFAState.PredPrediction p : state.predicates) {
+                        out.writeInt(predicate(p.pred));
+                        out.writeInt(p.alt);
+                    }
+                }
+            }
+            for (DFAState state : states) writeEdges(out, state.edges, index);
+            // a precedence DFA's s0 is a placeholder outside `states` whose edges are the per-precedence starts
+            if (dfa.isPrecedenceDfa()) writeEdges(out, dfa.s0.edges, index);
+            else out.writeInt(dfa.s0 == null ? NO_STATE : index.get(dfa.s0));
+        }
+
+        private void writeConfigs(DataOutputStream out, ATNConfigSet configs) throws IOException {
+            out.writeBoolean(configs.fullCtx);
+            out.writeInt(configs.uniqueAlt);
+            out.writeBoolean(configs.hasSemanticContext);
+            out.writeBoolean(configs.dipsIntoOuterContext);
+            out.writeInt(configs.size());
+            for (ATNConfig config : configs.elements()) {
+                out.writeInt(config.state.stateNumber);
+                out.writeInt(config.alt);
+                out.writeInt(context(config.context));
+                out.writeInt(predicate(config.semanticContext));
+                out.writeInt(config.reachesIntoOuterContext);
+            }
+        }
+
+        private void writeEdges(DataOutputStream out, DFAState[] edges, Map<DFAState, Integer> index) throws IOException {
+            if (edges == null) {
+                out.writeInt(-1);
+                return;
+            }
+            int count = 0;
+            for (DFAState target : edges) if (target != null) count++;
+            out.writeInt(edges.length);
+            out.writeInt(count);
+            for (int i = 0; i < edges.length; i++) {
+                if (edges[i] == null) continue;
+                out.writeInt(i);
+                out.writeInt(edges[i] == ATNSimulator.ERROR ? ERROR_STATE : index.get(edges[i]));
+            }
+        }
+
+        // numbers `root` and every context below it, parents first; the graphs can be deep, so no recursion
+        private int context(PredictionContext root) throws IOException {
+            if (root == null) return -1;
+            Integer id = contexts.get(root);
+            if (id != null) return id;
+            Deque<PredictionContext> pending = new ArrayDeque<>();
+            pending.push(root);
+            while (!pending.isEmpty()) {
+                PredictionContext context = pending.peek();
+                if (contexts.containsKey(context)) {
+                    pending.pop();
+                    continue;
+                }
+                boolean ready = true;
+                for (int i = 0; i < context.size(); i++) {
+                    PredictionContext parent = context.getParent(i);
+                    if (parent != null && !contexts.containsKey(parent)) {
+                        pending.push(parent);
+                        ready = false;
+                    }
+                }
+                if (!ready) continue;
+                pending.pop();
+                writeContext(context);
+                contexts.put(context, contexts.size());
+            }
+            return contexts.get(root);
+        }
+
+        private void writeContext(PredictionContext context) throws IOException {
+            if (context instanceof ArrayPredictionContext) {
+                ArrayPredictionContext array = (ArrayPredictionContext) context;
+                contextOut.writeByte(ARRAY);
+                contextOut.writeInt(array.returnStates.length);
+                for (int i = 0; i < array.returnStates.length; i++) {
+                    contextOut.writeInt(array.parents[i] == null ? -1 : contexts.get(array.parents[i]));
+                    contextOut.writeInt(array.returnStates[i]);
+                }
+            } else if (context == EmptyPredictionContext.Instance) {
+                contextOut.writeByte(EMPTY);
+            } else {
+                SingletonPredictionContext singleton = (SingletonPredictionContext) context;
+                contextOut.writeByte(SINGLETON);
+                contextOut.writeInt(singleton.parent == null ? -1 : contexts.get(singleton.parent));
+                contextOut.writeInt(singleton.returnState);
+            }
+        }
+
+        private int predicate(SemanticContext predicate) throws IOException {
+            Integer id = predicates.get(predicate);
+            if (id != null) return id;
+            List<Integer> operands = new ArrayList<>();
+            if (predicate instanceof SemanticContext.Operator) {
+                for (SemanticContext operand : ((SemanticContext.Operator) predicate).getOperands()) operands.add(predicate(operand));
+            }
+            if (predicate == SemanticContext.Empty.Instance) {
+                predicateOut.writeByte(NONE);
+            } else if (predicate instanceof SemanticContext.Predicate) {
+                SemanticContext.Predicate p = (SemanticContext.Predicate) predicate;
+                predicateOut.writeByte(PREDICATE);
+                predicateOut.writeInt(p.ruleIndex);
+                predicateOut.writeInt(p.predIndex);
+                predicateOut.writeBoolean(p.isCtxDependent);
+            } else if (predicate instanceof SemanticContext.PrecedencePredicate) {
+                predicateOut.writeByte(PRECEDENCE);
+                predicateOut.writeInt(((SemanticContext.PrecedencePredicate) predicate).precedence);
+            } else if (predicate instanceof SemanticContext.AND || predicate instanceof SemanticContext.OR) {
+                predicateOut.writeByte(predicate instanceof SemanticContext.AND ? AND : OR);
+                predicateOut.writeInt(operands.size());
+                for (int operand : operands) predicateOut.writeInt(operand);
+            } else {
+                throw new IllegalStateException("cannot save semantic context " + predicate.getClass().getName());
+            }
+            predicates.put(predicate, predicates.size());
+            return predicates.size() - 1;
+        }
+    }
+
+    /////////////////////////////////////////////////////////////////////
+    //                               READ                              //
+    /////////////////////////////////////////////////////////////////////
+    // loads the sections that match one of `parsers` and returns how many DFA states that was. A parser's DFAs
+    // are only replaced once its whole section has been read. A damaged snapshot throws IOException, or whatever
+    // RuntimeException reading past a section's end or following a bad index gives.
+    static int load(InputStream stream, Parser... parsers) throws IOException {
+        // read whole, so every length in it can be checked against what is left
+        ByteArrayInputStream bytes = new ByteArrayInputStream(stream.readAllBytes());
+        DataInputStream in = new DataInputStream(bytes);
+        if (in.readInt() != MAGIC) throw new IOException("not a DFA snapshot");
+        if (in.readInt() != VERSION) return 0;
+        int loaded = 0;
+        for (int sections = in.readInt(); sections > 0; sections--) {
+            String grammar = in.readUTF();
+            String antlrVersion = in.readUTF();
+            byte[] atnDigest = new byte[DIGEST_LENGTH];
+            in.readFully(atnDigest);
+            int length = in.readInt();
+            if (length < 0 || length > bytes.available()) throw new IOException("truncated DFA snapshot section for " + grammar);
+            byte[] section = new byte[length];
+            in.readFully(section);
+            for (Parser parser : parsers) {
+                if (parser.getGrammarFileName().equals(grammar) && antlrVersion.equals(RuntimeMetaData.VERSION)
+                        && Arrays.equals(atnDigest(parser), atnDigest)) {
+                    loaded += new Reader(ByteBuffer.wrap(section), parser).read();
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private static final class Reader {
+        private final ByteBuffer in;
+        private final ATN atn;
+        private final DFA[] dfas;
+        private PredictionContext[] contexts;
+        private SemanticContext[] predicates;
+
+        Reader(ByteBuffer in, Parser parser) {
+            this.in = in;
+            this.atn = parser.getATN();
+            this.dfas = parser.getInterpreter().decisionToDFA;
+        }
+
+        int read() throws IOException {
+            contexts = new PredictionContext[count()];
+            for (int i = 0; i < contexts.length; i++) contexts[i] = readContext();
+            predicates = new SemanticContext[count()];
+            for (int i = 0; i < predicates.length; i++) predicates[i] = readPredicate();
+
+            int count = count();
+            DFA[] read = new DFA[count];
+            for (int i = 0; i < count; i++) read[i] = readDfa();
+
+            int states = 0;
+            for (DFA dfa : read) {
+                DFA target = dfas[dfa.decision];
+                synchronized (target.states) {
+                    target.states.clear();
+                    target.states.putAll(dfa.states);
+                    if (target.isPrecedenceDfa()) target.s0.edges = dfa.s0.edges;
+                    else target.s0 = dfa.s0;
+                }
+                states += dfa.states.size();
+            }
+            return states;
+        }
+
+        // a detached DFA for the decision, swapped into the parser's once everything has been read
+        private DFA readDfa() throws IOException {
+            int decision = in.getInt();
+            boolean precedence = in.get() != 0;
+            if (decision < 0 || decision >= dfas.length || dfas[decision].isPrecedenceDfa() != precedence) {
+                throw new IOException("DFA snapshot does not match decision " + decision);
+            }
+            DFA dfa = new DFA(atn.getDecisionState(decision), decision);
+            DFAState[] states = new DFAState[count()];
+            for (int i = 0; i < states.length; i++) {
+                int stateNumber = in.getInt();
+                SnapshotConfigSet configs = readConfigs();
+                DFAState state = new DFAState(configs);
+                state.stateNumber = stateNumber;
+                state.isAcceptState = in.get() != 0;
+                state.prediction = in.getInt();
+                state.requiresFullContext = in.get() != 0;
+                // an SLL conflict state, the simulator set its conflicting alternatives from these same configs
+                if (state.requiresFullContext) configs.conflictingAlts(PredictionMode.getAlts(PredictionMode.getConflictingAltSubsets(configs)));
+                int predicted = in.getInt();
+                if (predicted > in.remaining()) throw new IOException("bad count in DFA snapshot");
+                if (predicted >= 0) {
+                    state.predicates = new DFAState.PredPrediction[predicted];
+                    for (int p = 0; p < predicted; p++) {
+                        state.predicates[p] = new DFAState.PredPrediction(predicates[in.getInt()], in.getInt());
+                    }
+                }
+                states[i] = state;
+            }
+            for (DFAState state : states) {
+                state.edges = readEdges(states);
+                dfa.states.put(state, state);
+            }
+            if (precedence) {
+                dfa.s0.edges = readEdges(states);
+            } else {
+                int s0 = in.getInt();
+                dfa.s0 = s0 == NO_STATE ? null : states[s0];
+            }
+            return dfa;
+        }
+
+        private SnapshotConfigSet readConfigs() throws IOException {
+            boolean fullCtx = in.get() != 0;
+            int uniqueAlt = in.getInt();
+            boolean hasSemanticContext = in.get() != 0;
+            boolean dipsIntoOuterContext = in.get() != 0;
+            SnapshotConfigSet configs = new SnapshotConfigSet(fullCtx);
+            // saved from a finished set, so nothing to merge: skip add()'s lookup
+            for (int i = count(); i > 0; i--) {
+                ATNConfig config = new ATNConfig(atn.states.get(in.getInt()), in.getInt(), contexts[in.getInt()], predicates[in.getInt()]);
+                config.reachesIntoOuterContext = in.getInt();
+                configs.configs.add(config);
+            }
+            configs.uniqueAlt = uniqueAlt;
+            configs.hasSemanticContext = hasSemanticContext;
+            configs.dipsIntoOuterContext = dipsIntoOuterContext;
+            configs.setReadonly(true);
+            return configs;
+        }
+
+        private DFAState[] readEdges(DFAState[] states) throws IOException {
+            int length = in.getInt();
+            if (length < 0) return null;
+            if (length > MAX_EDGES) throw new IOException("bad edge count in DFA snapshot");
+            DFAState[] edges = new DFAState[length];
+            for (int i = count(); i > 0; i--) {
+                int slot = in.getInt();
+                int target = in.getInt();
+                edges[slot] = target == ERROR_STATE ? ATNSimulator.ERROR : states[target];
+            }
+            return edges;
+        }
+
+        private PredictionContext readContext() throws IOException {
+            switch (in.get()) {
+                case EMPTY:
+                    return EmptyPredictionContext.Instance;
+                case SINGLETON:
+                    return SingletonPredictionContext.create(parent(in.getInt()), in.getInt());
+                case ARRAY:
+                    int size = count();
+                    PredictionContext[] parents = new PredictionContext[size];
+                    int[] returnStates = new int[size];
+                    for (int i = 0; i < size; i++) {
+                        parents[i] = parent(in.getInt());
+                        returnStates[i] = in.getInt();
+                    }
+                    return new ArrayPredictionContext(parents, returnStates);
+                default:
+                    throw new IOException("bad prediction context in DFA snapshot");
+            }
+        }
+
+        // a count of what follows, each of which takes at least a byte
+        private int count() throws IOException {
+            int count = in.getInt();
+            if (count < 0 || count > in.remaining()) throw new IOException("bad count in DFA snapshot");
+            return count;
+        }
+
+        private PredictionContext parent(int id) {
+            return id < 0 ? null : contexts[id];
+        }
+
+        private SemanticContext readOperands(boolean and) throws IOException {
+            SemanticContext result = null;
+            for (int i = count(); i > 0; i--) {
+                SemanticContext operand = predicates[in.getInt()];
+                result = result == null ? operand : and ? SemanticContext.and(result, operand) : SemanticContext.or(result, operand);
+            }
+            return result;
+        }
+
+        private SemanticContext readPredicate() throws IOException {
+            switch (in.get()) {
+                case NONE:
+                    return SemanticContext.Empty.Instance;
+                case PREDICATE:
+                    return new SemanticContext.Predicate(in.getInt(), in.getInt(), in.get() != 0);
+                case PRECEDENCE:
+                    return new SemanticContext.PrecedencePredicate(in.getInt());
+                case AND:
+                    return readOperands(true);
+                case OR:
+                    return readOperands(false);
+                default:
+                    throw new IOException("bad semantic context in DFA snapshot");
+            }
+        }
+    }
+}
+
+// ATNConfigSet.conflictingAlts is only settable from the runtime's package or a subclass
+final class SnapshotConfigSet extends ATNConfigSet {
+    SnapshotConfigSet(boolean fullCtx) {
+        super(fullCtx);
+    }
+
+    void conflictingAlts(BitSet alts) {
+        conflictingAlts = alts;
+    }
+}
@@ -0,0 +1,150 @@
+package compiler;
+
+import java.util.function.Function;
+
+/*
+ * Types expressions bottom-up. Every node is typed at most once, the result is kept in Ast.Expr.type.
+ *
+ * Type names are the ones the symbol tables already use: "double", "string", "boolean",
+ * "string[]" / "double[]" / "bool[]" / "array", "function" for calls, "error" for an
+ * array index that is not a double, and "var" when a variable can not be resolved.
+ */
+class ExpressionTyper implements Ast.Visitor<String> {
+    private final Function<String, String> variables;
+
+    ExpressionTyper(Function<String, String> variables) {
+        this.variables = variables;
+    }
+
+    String typeOf(Ast.Expr expr) {
+        if (expr.type == null) expr.type = expr.accept(this);
+        return expr.type;
+    }
+
+    // types every expression in `program`'s method bodies and returns how many expressions it typed from the top
+    int typeAll(Ast.Program program) {
+        int count = 0;
+        for (Ast.ClassDecl classDecl : program.classes) {
+            for (Ast.Decl member : classDecl.members) {
+                if (!(member instanceof Ast.MethodDecl)) continue;
+                for (Ast.Stmt statement : ((Ast.MethodDecl) member).body) count += typeAll(statement);
+            }
+        }
+        return count;
+    }
+
+    private int typeAll(Ast.Stmt node) {
+        int count = 0;
+        if (node instanceof Ast.Block) {
+            for (Ast.Stmt statement : ((Ast.Block) node).body) count += typeAll(statement);
+        } else if (node instanceof Ast.If) {
+            Ast.If conditional = (Ast.If) node;
+            for (Ast.Branch branch : conditional.branches) {
+                typeOf(branch.condition);
+                count += 1 + typeAll(branch.body);
+            }
+            if (conditional.elseBody != null) count += typeAll(conditional.elseBody);
+        } else if (node instanceof Ast.While) {
+            typeOf(((Ast.While) node).condition);
+            count += 1 + typeAll(((Ast.While) node).body);
+        } else if (node instanceof Ast.Write) {
+            typeOf(((Ast.Write) node).value);
+            count++;
+        } else if (node instanceof Ast.Assign) {
+            typeOf(((Ast.Assign) node).left);
+            typeOf(((Ast.Assign) node).right);
+            count += 2;
+        } else if (node instanceof Ast.Return) {
+            typeOf(((Ast.Return) node).value);
+            count++;
+        } else if (node instanceof Ast.VarDef) {
+            for (Ast.Expr value : ((Ast.VarDef) node).values) typeOf(value);
+            count += ((Ast.VarDef) node).values.size();
+        } else if (node instanceof Ast.Inc) {
+            typeOf(((Ast.Inc) node).target);
+            count++;
+        } else if (node instanceof Ast.Dec) {
+            typeOf(((Ast.Dec) node).target);
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    public String visitLiteral(Ast.Literal node) {
+        switch (node.kind) {
+            case NUM: return "double";
+            case STR: return "string";
+            case TRUE:
+            case FALSE: return "boolean";
+            default: return "var";
+        }
+    }
+
+    @Override
+    public String visitName(Ast.Name node) {
+        return variable(node.name);
+    }
+
+    @Override
+    public String visitBinary(Ast.Binary node) {
+        String left = typeOf(node.left);
+        String right = typeOf(node.right);
+        switch (node.op) {
+            case "+": return left.equals("string") || right.equals("string") ? "string" : "double";
+            case "-":
+            case "*":
+            case "/":
+            case "%": return "double";
+            default: return "boolean";
+        }
+    }
+
+    @Override
+    public String visitUnary(Ast.Unary node) {
+        String operand = typeOf(node.operand);
+        return node.op.equals("!") ? "boolean" : operand;
+    }
+
+    @Override
+    public String visitCall(Ast.Call node) {
+        if (node.target != null) typeOf(node.target);
+        for (Ast.Expr arg : node.args) typeOf(arg);
+        return "function";
+    }
+
+    @Override
+    public String visitField(Ast.Field node) {
+        typeOf(node.target);
+        return "var";
+    }
+
+    @Override
+    public String visitIndex(Ast.Index node) {
+        String arrayType = typeOf(node.target);
+        if (!typeOf(node.index).equals("double")) return "error";
+        if (arrayType.endsWith("[]")) return arrayType.substring(0, arrayType.length() - 2);
+        return "array";
+    }
+
+    @Override
+    public String visitNewArray(Ast.NewArray node) {
+        if (!typeOf(node.size).equals("double")) return "error";
+        return node.primitive ? node.elementType + "[]" : "array";
+    }
+
+    @Override
+    public String visitNewObject(Ast.NewObject node) {
+        return node.className;
+    }
+
+    @Override
+    public String visitParen(Ast.Paren node) {
+        return typeOf(node.inner);
+    }
+
+    private String variable(String name) {
+        String type = variables.apply(name);
+        return type != null ? type : "var";
+    }
+}
@@ -0,0 +1,397 @@
+package compiler;
+
+import gen.japyLexer;
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonTokenFactory;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenFactory;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.Vocabulary;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.Pair;
+
+import java.util.Arrays;
+
+/*
+ * Hand-written scanner for the japy.g4 token set. It follows the generated lexer exactly (longest match,
+ * keywords over ID, the same recognition errors and recovery) but keeps its tokens in parallel int arrays
+ * and never allocates for the skipped WS / NL / COMMENT / MULTILINE_COMMENT matches. A scanner that does not
+ * keep its tokens (the one behind JapyTokenSource, whose Tokens hold the same fields) reuses slot 0 for each.
+ * Token types are looked up from the generated vocabulary, so they stay in sync with the grammar.
+ */
+final class JapyScanner {
+    private static final Vocabulary VOCABULARY = japyLexer.VOCABULARY;
+
+    private static final int COMMA = literal(",");
+    private static final int LEFT_PAREN = literal("(");
+    private static final int COLON = literal(":");
+    private static final int RIGHT_PAREN = literal(")");
+    private static final int ASSIGN = literal("=");
+    private static final int INC = literal("++");
+    private static final int DEC = literal("--");
+    private static final int OR = literal("||");
+    private static final int AND = literal("&&");
+    private static final int EQ = literal("==");
+    private static final int NEQ = literal("<>");
+    private static final int LT = literal("<");
+    private static final int GT = literal(">");
+    private static final int PLUS = literal("+");
+    private static final int MINUS = literal("-");
+    private static final int STAR = literal("*");
+    private static final int SLASH = literal("/");
+    private static final int PERCENT = literal("%");
+    private static final int NOT = literal("!");
+    private static final int DOT = literal(".");
+    private static final int LEFT_BRACKET = literal("[");
+    private static final int RIGHT_BRACKET = literal("]");
+
+    // keywords by (first char + 2 * last char + 5 * length) & 63, which is collision-free for the japy keywords
+    private static final int KEYWORD_SLOTS = 64;
+    private static final String[] KEYWORDS = new String[KEYWORD_SLOTS];
+    private static final int[] KEYWORD_TYPES = new int[KEYWORD_SLOTS];
+    private static final int MAX_KEYWORD;
+
+    static {
+        int max = 0;
+        for (int t = 1; t <= VOCABULARY.getMaxTokenType(); t++) {
+            String literal = VOCABULARY.getLiteralName(t);
+            if (literal == null || !Character.isLetter(literal.charAt(1))) continue;
+            String keyword = literal.substring(1, literal.length() - 1);
+            int slot = keywordSlot(keyword.charAt(0), keyword.charAt(keyword.length() - 1), keyword.length());
+            if (KEYWORDS[slot] != null) {
+                throw new IllegalStateException("keywords " + KEYWORDS[slot] + " and " + keyword + " share a hash slot");
+            }
+            KEYWORDS[slot] = keyword;
+            KEYWORD_TYPES[slot] = t;
+            max = Math.max(max, keyword.length());
+        }
+        MAX_KEYWORD = max;
+    }
+
+    private final CharStream input;
+    private final char[] word = new char[MAX_KEYWORD];
+    private int currentLine = 1;
+    private int currentColumn = 0;
+    ANTLRErrorListener errorListener = ConsoleErrorListener.INSTANCE;
+
+    private final boolean keep;
+    // one slot per token handed out, EOF included, or just the last one
+    int count;
+    int[] type;
+    int[] start;
+    int[] stop;
+    int[] line;
+    int[] column;
+
+    JapyScanner(CharStream input, boolean keep) {
+        this.input = input;
+        this.keep = keep;
+        int capacity = keep ? 256 : 1;
+        type = new int[capacity];
+        start = new int[capacity];
+        stop = new int[capacity];
+        line = new int[capacity];
+        column = new int[capacity];
+    }
+
+    int line() { return currentLine; }
+    int column() { return currentColumn; }
+    CharStream input() { return input; }
+
+    // scans past any skipped input to the next token, stores it and returns its slot
+    int next() {
+        while (true) {
+            int begin = input.index();
+            int beginLine = currentLine;
+            int beginColumn = currentColumn;
+            int t;
+            int c = input.LA(1);
+            switch (c) {
+                case CharStream.EOF:
+                    return emit(Token.EOF, begin, beginLine, beginColumn);
+                case ' ':
+                case '\t':
+                case '\n':
+                    consume();
+                    continue;
+                case '\r':
+                    advance();
+                    if (input.LA(1) == '\n') consume();
+                    else recognitionError(begin, beginLine, beginColumn);
+                    continue;
+                case '#':
+                    comment(begin, beginLine, beginColumn);
+                    continue;
+                case '"':
+                    advance();
+                    for (c = input.LA(1); c != '"' && c != '\r' && c != '\n' && c != CharStream.EOF; c = input.LA(1)) {
+                        advance();
+                    }
+                    if (c != '"') {
+                        recognitionError(begin, beginLine, beginColumn);
+                        continue;
+                    }
+                    advance();
+                    t = japyLexer.CONST_STR;
+                    break;
+                case '0':
+                    advance();
+                    t = japyLexer.CONST_NUM;
+                    break;
+                case '|':
+                    if (!pair('|')) {
+                        recognitionError(begin, beginLine, beginColumn);
+                        continue;
+                    }
+                    t = OR;
+                    break;
+                case '&':
+                    if (!pair('&')) {
+                        recognitionError(begin, beginLine, beginColumn);
+                        continue;
+                    }
+                    t = AND;
+                    break;
+                case '=': t = pair('=') ? EQ : ASSIGN; break;
+                case '+': t = pair('+') ? INC : PLUS; break;
+                case '-': t = pair('-') ? DEC : MINUS; break;
+                case '<': t = pair('>') ? NEQ : LT; break;
+                case '>': advance(); t = GT; break;
+                case ',': advance(); t = COMMA; break;
+                case '(': advance(); t = LEFT_PAREN; break;
+                case ')': advance(); t = RIGHT_PAREN; break;
+                case ':': advance(); t = COLON; break;
+                case '*': advance(); t = STAR; break;
+                case '/': advance(); t = SLASH; break;
+                case '%': advance(); t = PERCENT; break;
+                case '!': advance(); t = NOT; break;
+                case '.': advance(); t = DOT; break;
+                case '[': advance(); t = LEFT_BRACKET; break;
+                case ']': advance(); t = RIGHT_BRACKET; break;
+                default:
+                    if (c >= '1' && c <= '9') {
+                        t = number();
+                    } else if (isIdentifierStart(c)) {
+                        t = identifier();
+                    } else {
+                        recognitionError(begin, beginLine, beginColumn);
+                        continue;
+                    }
+            }
+            return emit(t, begin, beginLine, beginColumn);
+        }
+    }
+
+    // [1-9][0-9]* ('.' [0-9]+)?  -- a '.' not followed by a digit is left for the next token
+    private int number() {
+        advance();
+        while (isDigit(input.LA(1))) advance();
+        if (input.LA(1) == '.' && isDigit(input.LA(2))) {
+            advance();
+            while (isDigit(input.LA(1))) advance();
+        }
+        return japyLexer.CONST_NUM;
+    }
+
+    private int identifier() {
+        int length = 0;
+        for (int c = input.LA(1); isIdentifierPart(c); c = input.LA(1)) {
+            if (length < MAX_KEYWORD) word[length] = (char) c;
+            length++;
+            advance();
+        }
+        if (length > MAX_KEYWORD) return japyLexer.ID;
+        int slot = keywordSlot(word[0], word[length - 1], length);
+        String keyword = KEYWORDS[slot];
+        if (keyword == null || keyword.length() != length) return japyLexer.ID;
+        for (int i = 0; i < length; i++) {
+            if (keyword.charAt(i) != word[i]) return japyLexer.ID;
+        }
+        return KEYWORD_TYPES[slot];
+    }
+
+    // COMMENT runs to the end of the line; a MULTILINE_COMMENT opened by ### wins only if its closing ###
+    // ends past that point, otherwise the lexer's longest match is the single-line comment
+    private void comment(int begin, int beginLine, int beginColumn) {
+        advance();
+        if (input.LA(1) != '#') {
+            recognitionError(begin, beginLine, beginColumn);
+            return;
+        }
+        advance();
+        if (input.LA(1) != '#') {
+            skipLine();
+            return;
+        }
+        advance();
+
+        int lineEnd = -1;
+        int lineEndLine = 0;
+        int lineEndColumn = 0;
+        for (int c = input.LA(1); c != CharStream.EOF; c = input.LA(1)) {
+            if (c == '#' && input.LA(2) == '#' && input.LA(3) == '#') {
+                if (lineEnd < 0) {
+                    skipLine();
+                } else {
+                    advance();
+                    advance();
+                    advance();
+                }
+                return;
+            }
+            if (lineEnd < 0 && (c == '\r' || c == '\n')) {
+                lineEnd = input.index();
+                lineEndLine = currentLine;
+                lineEndColumn = currentColumn;
+            }
+            consume();
+        }
+        if (lineEnd >= 0) {
+            input.seek(lineEnd);
+            currentLine = lineEndLine;
+            currentColumn = lineEndColumn;
+        }
+    }
+
+    private void skipLine() {
+        for (int c = input.LA(1); c != '\r' && c != '\n' && c != CharStream.EOF; c = input.LA(1)) advance();
+    }
+
+    private boolean pair(int second) {
+        advance();
+        if (input.LA(1) != second) return false;
+        advance();
+        return true;
+    }
+
+    // same report and recovery as the generated lexer: the text up to and including the offending char,
+    // which is then dropped
+    private void recognitionError(int begin, int beginLine, int beginColumn) {
+        String text = input.getText(Interval.of(begin, input.index()));
+        StringBuilder display = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\n') display.append("\\n");
+            else if (c == '\t') display.append("\\t");
+            else if (c == '\r') display.append("\\r");
+            else display.append(c);
+        }
+        errorListener.syntaxError(null, null, beginLine, beginColumn,
+                "token recognition error at: '" + display + "'", null);
+        if (input.LA(1) != CharStream.EOF) consume();
+    }
+
+    private void consume() {
+        if (input.LA(1) == '\n') {
+            currentLine++;
+            currentColumn = 0;
+        } else {
+            currentColumn++;
+        }
+        input.consume();
+    }
+
+    // consume() for a char that is known not to be a line break
+    private void advance() {
+        currentColumn++;
+        input.consume();
+    }
+
+    private int emit(int tokenType, int begin, int beginLine, int beginColumn) {
+        if (!keep) count = 0;
+        else if (count == type.length) grow();
+        int slot = count++;
+        type[slot] = tokenType;
+        start[slot] = begin;
+        stop[slot] = input.index() - 1;
+        line[slot] = beginLine;
+        column[slot] = beginColumn;
+        return slot;
+    }
+
+    private void grow() {
+        int capacity = type.length * 2;
+        type = Arrays.copyOf(type, capacity);
+        start = Arrays.copyOf(start, capacity);
+        stop = Arrays.copyOf(stop, capacity);
+        line = Arrays.copyOf(line, capacity);
+        column = Arrays.copyOf(column, capacity);
+    }
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isIdentifierStart(int c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c == '_';
+    }
+
+    private static boolean isIdentifierPart(int c) {
+        return isIdentifierStart(c) || isDigit(c);
+    }
+
+    private static int keywordSlot(int first, int last, int length) {
+        return (first + 2 * last + 5 * length) & (KEYWORD_SLOTS - 1);
+    }
+
+    private static int literal(String text) {
+        String quoted = "'" + text + "'";
+        for (int t = 1; t <= VOCABULARY.getMaxTokenType(); t++) {
+            if (quoted.equals(VOCABULARY.getLiteralName(t))) return t;
+        }
+        throw new IllegalStateException("no token for " + quoted);
+    }
+}
+
+/*
+ * Lets japyParser read from a JapyScanner; Token objects are only created for what the parser sees.
+ */
+class JapyTokenSource implements TokenSource {
+    private final JapyScanner scanner;
+    private final Pair<TokenSource, CharStream> source;
+    private TokenFactory<?> factory = CommonTokenFactory.DEFAULT;
+
+    JapyTokenSource(JapyScanner scanner) {
+        this.scanner = scanner;
+        this.source = new Pair<>(this, scanner.input());
+    }
+
+    @Override
+    public Token nextToken() {
+        int i = scanner.next();
+        return factory.create(source, scanner.type[i], null, Token.DEFAULT_CHANNEL,
+                scanner.start[i], scanner.stop[i], scanner.line[i], scanner.column[i]);
+    }
+
+    @Override
+    public int getLine() {
+        return scanner.line();
+    }
+
+    @Override
+    public int getCharPositionInLine() {
+        return scanner.column();
+    }
+
+    @Override
+    public CharStream getInputStream() {
+        return scanner.input();
+    }
+
+    @Override
+    public String getSourceName() {
+        return scanner.input().getSourceName();
+    }
+
+    @Override
+    public void setTokenFactory(TokenFactory<?> factory) {
+        this.factory = factory;
+    }
+
+    @Override
+    public TokenFactory<?> getTokenFactory() {
+        return factory;
+    }
+}
@@ -0,0 +1,221 @@
+package compiler;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/*
+ * CharStream over a memory-mapped UTF-8 file. Japy source is ASCII except inside string literals and
+ * comments, so characters are served straight from the mapped bytes; only the runs of non-ASCII bytes are
+ * decoded, into one side buffer of code points. A UTF-8 sequence is all bytes >= 0x80, so every run decodes
+ * on its own exactly as it would as part of the whole file.
+ *
+ * The file is split into regions, each one a decoded run followed by the ASCII bytes up to the next run
+ * (region 0 has no run). A region records the char index it starts at, its run's length and place in the side
+ * buffer, and the byte offset its ASCII part starts at. Lexers read forward, so the region of the last lookup
+ * is tried first and the others are found by binary search.
+ */
+class MappedCharStream implements CharStream {
+    private final String sourceName;
+    private final MappedByteBuffer bytes;
+    private final int size;
+    // per region
+    private final int[] start;
+    private final int[] runLength;
+    private final int[] runOffset;
+    private final int[] asciiByte;
+    private final int regions;
+    // the decoded code points of every run, in file order
+    private final int[] decoded;
+    private int region = 0;
+    private int p = 0;
+
+    private MappedCharStream(String sourceName, MappedByteBuffer bytes, Regions layout) {
+        this.sourceName = sourceName;
+        this.bytes = bytes;
+        this.size = layout.size;
+        this.regions = layout.count;
+        this.start = Arrays.copyOf(layout.start, regions);
+        this.runLength = Arrays.copyOf(layout.runLength, regions);
+        this.runOffset = Arrays.copyOf(layout.runOffset, regions);
+        this.asciiByte = Arrays.copyOf(layout.asciiByte, regions);
+        this.decoded = Arrays.copyOf(layout.decoded, layout.decodedLength);
+    }
+
+    static MappedCharStream open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length > Integer.MAX_VALUE) throw new IOException(path + " is larger than 2 GB");
+            MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            return new MappedCharStream(path.toString(), bytes, Regions.of(bytes));
+        }
+    }
+
+    // the number of chars that did not come straight from the mapped bytes
+    int decodedChars() {
+        return decoded.length;
+    }
+
+    private static final class Regions {
+        int[] start = new int[4];
+        int[] runLength = new int[4];
+        int[] runOffset = new int[4];
+        int[] asciiByte = new int[4];
+        int count;
+        int[] decoded = new int[16];
+        int decodedLength;
+        int size;
+
+        static Regions of(ByteBuffer bytes) {
+            Regions layout = new Regions();
+            int limit = bytes.limit();
+            int ascii = nextNonAscii(bytes, 0);
+            layout.add(0, 0, 0, 0);
+            int chars = ascii;
+            while (ascii < limit) {
+                int runEnd = ascii;
+                while (runEnd < limit && bytes.get(runEnd) < 0) runEnd++;
+                byte[] run = new byte[runEnd - ascii];
+                bytes.get(ascii, run);
+                int[] codePoints = new String(run, StandardCharsets.UTF_8).codePoints().toArray();
+                layout.add(chars, codePoints.length, layout.decodedLength, runEnd);
+                layout.append(codePoints);
+                ascii = nextNonAscii(bytes, runEnd);
+                chars += codePoints.length + (ascii - runEnd);
+            }
+            layout.size = chars;
+            return layout;
+        }
+
+        private void add(int regionStart, int length, int offset, int asciiStart) {
+            if (count == start.length) {
+                int capacity = count * 2;
+                start = Arrays.copyOf(start, capacity);
+                runLength = Arrays.copyOf(runLength, capacity);
+                runOffset = Arrays.copyOf(runOffset, capacity);
+                asciiByte = Arrays.copyOf(asciiByte, capacity);
+            }
+            start[count] = regionStart;
+            runLength[count] = length;
+            runOffset[count] = offset;
+            asciiByte[count] = asciiStart;
+            count++;
+        }
+
+        private void append(int[] codePoints) {
+            if (decodedLength + codePoints.length > decoded.length) {
+                decoded = Arrays.copyOf(decoded, Math.max(decoded.length * 2, decodedLength + codePoints.length));
+            }
+            System.arraycopy(codePoints, 0, decoded, decodedLength, codePoints.length);
+            decodedLength += codePoints.length;
+        }
+    }
+
+    // the first byte at or after `from` that is not ASCII, checked eight bytes at a time
+    private static int nextNonAscii(ByteBuffer bytes, int from) {
+        int limit = bytes.limit();
+        int i = from;
+        for (; i + Long.BYTES <= limit; i += Long.BYTES) {
+            if ((bytes.getLong(i) & 0x8080808080808080L) != 0) break;
+        }
+        while (i < limit && bytes.get(i) >= 0) i++;
+        return i;
+    }
+
+    private int regionOf(int index) {
+        int r = region;
+        if (index >= start[r] && (r + 1 == regions || index < start[r + 1])) return r;
+        if (r + 1 < regions && index >= start[r + 1] && (r + 2 == regions || index < start[r + 2])) return region = r + 1;
+        int low = 0, high = regions - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (start[mid] <= index) low = mid;
+            else high = mid - 1;
+        }
+        return region = low;
+    }
+
+    private int charAt(int index) {
+        int r = regionOf(index);
+        int offset = index - start[r];
+        if (offset < runLength[r]) return decoded[runOffset[r] + offset];
+        return bytes.get(asciiByte[r] + offset - runLength[r]);
+    }
+
+    @Override
+    public void consume() {
+        if (p >= size) {
+            throw new IllegalStateException("cannot consume EOF");
+        }
+        p++;
+    }
+
+    @Override
+    public int LA(int i) {
+        if (i == 0) return 0;
+        int index = i > 0 ? p + i - 1 : p + i;
+        if (index < 0 || index >= size) return IntStream.EOF;
+        return charAt(index);
+    }
+
+    @Override
+    public int mark() {
+        return -1;
+    }
+
+    @Override
+    public void release(int marker) {}
+
+    @Override
+    public int index() {
+        return p;
+    }
+
+    @Override
+    public void seek(int index) {
+        p = Math.min(index, size);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String getSourceName() {
+        return sourceName;
+    }
+
+    @Override
+    public String getText(Interval interval) {
+        int start = Math.min(interval.a, size);
+        int stop = Math.min(interval.b, size - 1);
+        if (stop < start) return "";
+
+        // within the ASCII part of one region: the bytes are the chars
+        int r = regionOf(start);
+        int first = start - this.start[r] - runLength[r];
+        if (first >= 0 && (r + 1 == regions || stop < this.start[r + 1])) {
+            byte[] text = new byte[stop - start + 1];
+            bytes.get(asciiByte[r] + first, text);
+            return new String(text, StandardCharsets.ISO_8859_1);
+        }
+        StringBuilder sb = new StringBuilder(stop - start + 1);
+        for (int i = start; i <= stop; i++) sb.appendCodePoint(charAt(i));
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return getText(Interval.of(0, size - 1));
+    }
+}
@@ -0,0 +1,44 @@
+package compiler;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// interns identifiers, type names and operator spellings into dense int ids; safe to share between threads,
+// only adding a new name takes the lock
+class Names {
+    static final int NONE = -1;
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    // written under the lock before the name's id is published in `ids`
+    private volatile String[] names = new String[64];
+    private int size;
+
+    int intern(String name) {
+        Integer id = ids.get(name);
+        return id != null ? id : add(name);
+    }
+
+    private synchronized int add(String name) {
+        Integer id = ids.get(name);
+        if (id != null) return id;
+        if (size == names.length) names = Arrays.copyOf(names, size * 2);
+        names[size] = name;
+        ids.put(name, size);
+        return size++;
+    }
+
+    // the id of an already interned name, NONE otherwise
+    int find(String name) {
+        Integer id = ids.get(name);
+        return id == null ? NONE : id;
+    }
+
+    String name(int id) {
+        return id == NONE ? null : names[id];
+    }
+
+    synchronized int size() {
+        return size;
+    }
+}
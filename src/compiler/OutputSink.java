@@ -0,0 +1,199 @@
+package compiler;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+
+/*
+ * Where ProgramPrinter writes its dumps. Nothing is guaranteed to reach the target before flush().
+ */
+interface OutputSink {
+    int BUFFER = 1 << 16;
+    String NEWLINE = System.lineSeparator();
+
+    void print(String text);
+
+    void flush();
+
+    default void println(String text) {
+        print(text);
+        print(NEWLINE);
+    }
+
+    default void println() {
+        print(NEWLINE);
+    }
+
+    // 64K-char buffered writer over a stream; System.out sees one write per full buffer
+    static OutputSink buffered(OutputStream out) {
+        return new WriterSink(new BufferedWriter(new OutputStreamWriter(out, Charset.defaultCharset()), BUFFER));
+    }
+
+    // encodes into a direct buffer and hands full buffers to the channel
+    static OutputSink channel(WritableByteChannel channel) {
+        return new ChannelSink(channel, Charset.defaultCharset());
+    }
+
+    // keeps everything; toString() is the output so far. Starts small, these are made per table and per class
+    static OutputSink memory() {
+        return new MemorySink(null, 16);
+    }
+
+    // keeps everything and writes it to `out` in one go on flush()
+    static OutputSink memory(OutputStream out) {
+        return new MemorySink(out, BUFFER);
+    }
+
+    static OutputSink discard() {
+        return DiscardSink.INSTANCE;
+    }
+
+    // unbuffered, for the odd report line on stderr
+    static OutputSink stderr() {
+        return StreamSink.STDERR;
+    }
+}
+
+class WriterSink implements OutputSink {
+    private final Writer writer;
+
+    WriterSink(Writer writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void print(String text) {
+        try {
+            writer.write(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
+
+class ChannelSink implements OutputSink {
+    private final WritableByteChannel channel;
+    private final CharsetEncoder encoder;
+    private final ByteBuffer bytes = ByteBuffer.allocateDirect(BUFFER);
+
+    ChannelSink(WritableByteChannel channel, Charset charset) {
+        this.channel = channel;
+        this.encoder = charset.newEncoder();
+    }
+
+    @Override
+    public void print(String text) {
+        CharBuffer chars = CharBuffer.wrap(text);
+        while (true) {
+            CoderResult result = encoder.encode(chars, bytes, false);
+            if (result.isUnderflow()) break;
+            if (result.isOverflow()) drain();
+            else throw new UncheckedIOException(new IOException("cannot encode output: " + result));
+        }
+    }
+
+    @Override
+    public void flush() {
+        drain();
+    }
+
+    private void drain() {
+        bytes.flip();
+        try {
+            while (bytes.hasRemaining()) channel.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        bytes.clear();
+    }
+}
+
+class MemorySink implements OutputSink {
+    private final StringBuilder text;
+    private final OutputStream out;
+
+    MemorySink(OutputStream out, int capacity) {
+        this.text = new StringBuilder(capacity);
+        this.out = out;
+    }
+
+    @Override
+    public void print(String text) {
+        this.text.append(text);
+    }
+
+    @Override
+    public void flush() {
+        if (out == null) return;
+        try {
+            out.write(text.toString().getBytes(Charset.defaultCharset()));
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        text.setLength(0);
+    }
+
+    int length() {
+        return text.length();
+    }
+
+    // drops what was printed so far without writing it anywhere
+    void clear() {
+        text.setLength(0);
+    }
+
+    @Override
+    public String toString() {
+        return text.toString();
+    }
+}
+
+class StreamSink implements OutputSink {
+    static final StreamSink STDERR = new StreamSink(System.err);
+
+    private final PrintStream out;
+
+    StreamSink(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void print(String text) {
+        out.print(text);
+    }
+
+    @Override
+    public void flush() {
+        out.flush();
+    }
+}
+
+class DiscardSink implements OutputSink {
+    static final DiscardSink INSTANCE = new DiscardSink();
+
+    @Override
+    public void print(String text) {}
+
+    @Override
+    public void flush() {}
+}
@@ -0,0 +1,147 @@
+package compiler;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Splits a compile into consecutive phases and records wall time, CPU time and bytes allocated by the
+ * compiling thread for each. phase(name) closes the running phase and opens the next, finish() closes the last.
+ * Every phase is also committed as a japy.CompilerPhase JFR event.
+ */
+final class PhaseTimer {
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    static final class Phase {
+        final String name;
+        long wallNanos;
+        long cpuNanos;
+        long allocatedBytes;
+
+        Phase(String name) {
+            this.name = name;
+        }
+    }
+
+    private final String source;
+    private final List<Phase> phases = new ArrayList<>();
+    private Phase current;
+    private CompilerPhaseEvent event;
+    private long wallStart;
+    private long cpuStart;
+    private long allocatedStart;
+
+    PhaseTimer(String source) {
+        this.source = source;
+    }
+
+    void phase(String name) {
+        finish();
+        current = new Phase(name);
+        event = new CompilerPhaseEvent();
+        event.begin();
+        wallStart = System.nanoTime();
+        cpuStart = THREADS.getCurrentThreadCpuTime();
+        allocatedStart = THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    void finish() {
+        if (current == null) return;
+        current.wallNanos = System.nanoTime() - wallStart;
+        current.cpuNanos = THREADS.getCurrentThreadCpuTime() - cpuStart;
+        current.allocatedBytes = THREADS.getThreadAllocatedBytes(Thread.currentThread().getId()) - allocatedStart;
+        phases.add(current);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.source = source;
+            event.phase = current.name;
+            event.cpuTime = current.cpuNanos;
+            event.allocated = current.allocatedBytes;
+            event.commit();
+        }
+        current = null;
+        event = null;
+    }
+
+    List<Phase> phases() {
+        return phases;
+    }
+
+    // one JSON object per compile, phases in the order they ran
+    String toJson() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"source\":");
+        quote(sb, source);
+        sb.append(",\"phases\":[");
+        long wall = 0, cpu = 0, allocated = 0;
+        for (int i = 0; i < phases.size(); i++) {
+            Phase phase = phases.get(i);
+            if (i > 0) sb.append(',');
+            sb.append("{\"phase\":");
+            quote(sb, phase.name);
+            sb.append(",\"wallNanos\":").append(phase.wallNanos)
+                    .append(",\"cpuNanos\":").append(phase.cpuNanos)
+                    .append(",\"allocatedBytes\":").append(phase.allocatedBytes).append('}');
+            wall += phase.wallNanos;
+            cpu += phase.cpuNanos;
+            allocated += phase.allocatedBytes;
+        }
+        sb.append("],\"wallNanos\":").append(wall)
+                .append(",\"cpuNanos\":").append(cpu)
+                .append(",\"allocatedBytes\":").append(allocated).append('}');
+        return sb.toString();
+    }
+
+    // a JSON string: quote, backslash and the control characters U+0000-U+001F escaped
+    private static void quote(StringBuilder sb, String text) {
+        sb.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"': sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                case '\b': sb.append("\\b"); break;
+                case '\f': sb.append("\\f"); break;
+                default:
+                    if (c < 0x20) sb.append(String.format("\\u%04x", (int) c));
+                    else sb.append(c);
+            }
+        }
+        sb.append('"');
+    }
+}
+
+@Name("japy.CompilerPhase")
+@Label("Compiler Phase")
+@Category({"Japy", "Compiler"})
+@Description("One phase of a japy compile; the event duration is its wall time")
+@StackTrace(false)
+class CompilerPhaseEvent extends Event {
+    @Label("Source")
+    String source;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("CPU Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long cpuTime;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocated;
+}
@@ -0,0 +1,202 @@
+package compiler;
+
+import gen.japyPrecedenceParser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/*
+ * AstBuilder for japyPrecedenceParser trees. Declarations and statements are the same rules as in japy.g4 and are
+ * lowered the same way; expressions come from the single left-recursive `expression` rule and give the same Ast
+ * as the *Temp chains do.
+ */
+class PrecedenceAstBuilder {
+
+    static Ast.Program lower(japyPrecedenceParser.ProgramContext ctx) {
+        List<Ast.ClassDecl> classes = new ArrayList<>();
+        for (ParseTree child : ctx.children) {
+            if (child instanceof japyPrecedenceParser.ClassDeclarationContext) {
+                classes.add(classDeclaration((japyPrecedenceParser.ClassDeclarationContext) child, false));
+            } else if (child instanceof japyPrecedenceParser.EntryClassDeclarationContext) {
+                classes.add(classDeclaration(((japyPrecedenceParser.EntryClassDeclarationContext) child).classDeclaration(), true));
+            }
+        }
+        return new Ast.Program(classes);
+    }
+
+    private static Ast.ClassDecl classDeclaration(japyPrecedenceParser.ClassDeclarationContext ctx, boolean entry) {
+        List<Ast.Decl> members = new ArrayList<>();
+        for (ParseTree child : ctx.children) {
+            if (child instanceof japyPrecedenceParser.FieldDeclarationContext) {
+                members.add(fieldDeclaration((japyPrecedenceParser.FieldDeclarationContext) child));
+            } else if (child instanceof japyPrecedenceParser.MethodDeclarationContext) {
+                members.add(methodDeclaration((japyPrecedenceParser.MethodDeclarationContext) child));
+            }
+        }
+        String access = ctx.access_modifier() != null ? ctx.access_modifier().getText() : null;
+        String parent = ctx.classParent != null ? ctx.classParent.getText() : null;
+        Ast.ClassDecl node = new Ast.ClassDecl(access, ctx.className.getText(), parent, entry, members);
+        return AstBuilder.position(node, ctx);
+    }
+
+    private static Ast.FieldDecl fieldDeclaration(japyPrecedenceParser.FieldDeclarationContext ctx) {
+        List<String> names = new ArrayList<>();
+        for (TerminalNode id : ctx.ID()) names.add(id.getText());
+        String access = ctx.access_modifier() != null ? ctx.access_modifier().getText() : null;
+        return AstBuilder.position(new Ast.FieldDecl(access, ctx.japyType().getText(), names), ctx);
+    }
+
+    private static Ast.MethodDecl methodDeclaration(japyPrecedenceParser.MethodDeclarationContext ctx) {
+        List<Ast.Param> params = new ArrayList<>();
+        for (int i = 1; i < ctx.ID().size(); i++) {
+            params.add(new Ast.Param(ctx.ID(i).getText(), ctx.japyType(i - 1).getText()));
+        }
+        List<Ast.Stmt> body = new ArrayList<>();
+        for (japyPrecedenceParser.StatementContext s : ctx.statement()) body.add(statement(s));
+        String access = ctx.methodAccessModifier != null ? ctx.methodAccessModifier.getText() : null;
+        Ast.MethodDecl node = new Ast.MethodDecl(access, ctx.methodName.getText(), params, ctx.t.getText(), body);
+        return AstBuilder.position(node, ctx);
+    }
+
+    /////////////////////////////////////////////////////////////////////
+    //                            STATEMENTS                           //
+    /////////////////////////////////////////////////////////////////////
+    private static Ast.Stmt statement(ParserRuleContext ctx) {
+        if (ctx instanceof japyPrecedenceParser.StatementContext) {
+            japyPrecedenceParser.StatementContext s = (japyPrecedenceParser.StatementContext) ctx;
+            return s.s1 != null ? statement(s.s1) : statement(s.s2);
+        }
+        if (ctx instanceof japyPrecedenceParser.OpenStatementContext) {
+            japyPrecedenceParser.OpenStatementContext s = (japyPrecedenceParser.OpenStatementContext) ctx;
+            if (s.s1 != null) return loop(s.s1, s.s1.e, s.s1.s);
+            return conditional(s.conditionalStat);
+        }
+
+        japyPrecedenceParser.ClosedStatementContext s = (japyPrecedenceParser.ClosedStatementContext) ctx;
+        if (s.s1 != null) {
+            List<Ast.Stmt> body = new ArrayList<>();
+            for (japyPrecedenceParser.StatementContext child : s.s1.statement()) body.add(statement(child));
+            return AstBuilder.position(new Ast.Block(body), s.s1);
+        }
+        if (s.conditionalStat != null) return conditional(s.conditionalStat);
+        if (s.s3 != null) return loop(s.s3, s.s3.e, s.s3.s);
+        if (s.s4 != null) return AstBuilder.position(new Ast.Write(expression(s.s4.e)), s.s4);
+        if (s.s5 != null) return AstBuilder.position(new Ast.Assign(expression(s.s5.left), expression(s.s5.right)), s.s5);
+        if (s.s6 != null) return AstBuilder.position(new Ast.Return(expression(s.s6.e)), s.s6);
+        if (s.s7 != null) {
+            List<String> names = new ArrayList<>();
+            for (TerminalNode id : s.s7.ID()) names.add(id.getText());
+            List<Ast.Expr> values = new ArrayList<>();
+            for (japyPrecedenceParser.ExpressionContext e : s.s7.expression()) values.add(expression(e));
+            return AstBuilder.position(new Ast.VarDef(names, values), s.s7);
+        }
+        if (s.s8 != null) return AstBuilder.position(new Ast.Continue(), s.s8);
+        if (s.s9 != null) return AstBuilder.position(new Ast.Break(), s.s9);
+        if (s.incStat != null) return AstBuilder.position(new Ast.Inc(expression(s.incStat.lvalExpr)), s.incStat);
+        return AstBuilder.position(new Ast.Dec(expression(s.decStat.lvalExpr)), s.decStat);
+    }
+
+    private static Ast.Stmt loop(ParserRuleContext ctx, japyPrecedenceParser.ExpressionContext condition, ParserRuleContext body) {
+        return AstBuilder.position(new Ast.While(expression(condition), statement(body)), ctx);
+    }
+
+    private static Ast.Stmt conditional(ParserRuleContext ctx) {
+        List<Ast.Branch> branches = new ArrayList<>();
+        Ast.Stmt elseBody = null;
+        japyPrecedenceParser.ExpressionContext condition = null;
+        for (ParseTree child : ctx.children) {
+            if (child instanceof japyPrecedenceParser.ExpressionContext) {
+                condition = (japyPrecedenceParser.ExpressionContext) child;
+            } else if (child instanceof ParserRuleContext) {
+                Ast.Stmt body = statement((ParserRuleContext) child);
+                if (condition != null) {
+                    branches.add(new Ast.Branch(expression(condition), body, condition.getStart().getLine()));
+                    condition = null;
+                } else {
+                    elseBody = body;
+                }
+            }
+        }
+        return AstBuilder.position(new Ast.If(branches, elseBody), ctx);
+    }
+
+    /////////////////////////////////////////////////////////////////////
+    //                           EXPRESSIONS                           //
+    /////////////////////////////////////////////////////////////////////
+    // binary operators and postfix selectors nest to the left, so a long chain is walked down its left spine
+    // iteratively and built back up from the innermost operand
+    static Ast.Expr expression(japyPrecedenceParser.ExpressionContext ctx) {
+        Deque<japyPrecedenceParser.ExpressionContext> spine = new ArrayDeque<>();
+        for (japyPrecedenceParser.ExpressionContext left = leftOperand(ctx); left != null; left = leftOperand(ctx)) {
+            spine.push(ctx);
+            ctx = left;
+        }
+        Ast.Expr result = operand(ctx);
+        while (!spine.isEmpty()) result = apply(spine.pop(), result);
+        return result;
+    }
+
+    private static japyPrecedenceParser.ExpressionContext leftOperand(japyPrecedenceParser.ExpressionContext ctx) {
+        if (ctx instanceof japyPrecedenceParser.BinaryExpressionContext) return ((japyPrecedenceParser.BinaryExpressionContext) ctx).left;
+        if (ctx instanceof japyPrecedenceParser.CallExpressionContext) return ((japyPrecedenceParser.CallExpressionContext) ctx).target;
+        if (ctx instanceof japyPrecedenceParser.FieldExpressionContext) return ((japyPrecedenceParser.FieldExpressionContext) ctx).target;
+        if (ctx instanceof japyPrecedenceParser.IndexExpressionContext) return ((japyPrecedenceParser.IndexExpressionContext) ctx).target;
+        return null;
+    }
+
+    private static Ast.Expr apply(japyPrecedenceParser.ExpressionContext ctx, Ast.Expr left) {
+        if (ctx instanceof japyPrecedenceParser.BinaryExpressionContext) {
+            japyPrecedenceParser.BinaryExpressionContext binary = (japyPrecedenceParser.BinaryExpressionContext) ctx;
+            return new Ast.Binary(binary.op.getText(), left, expression(binary.right));
+        }
+        if (ctx instanceof japyPrecedenceParser.CallExpressionContext) {
+            japyPrecedenceParser.CallExpressionContext call = (japyPrecedenceParser.CallExpressionContext) ctx;
+            return new Ast.Call(left, call.name.getText(), expressions(call.args));
+        }
+        if (ctx instanceof japyPrecedenceParser.FieldExpressionContext) {
+            return new Ast.Field(left, ((japyPrecedenceParser.FieldExpressionContext) ctx).name.getText());
+        }
+        return new Ast.Index(left, expression(((japyPrecedenceParser.IndexExpressionContext) ctx).index));
+    }
+
+    private static Ast.Expr operand(japyPrecedenceParser.ExpressionContext ctx) {
+        if (ctx instanceof japyPrecedenceParser.NameExpressionContext) {
+            return new Ast.Name(((japyPrecedenceParser.NameExpressionContext) ctx).name.getText());
+        }
+        if (ctx instanceof japyPrecedenceParser.LiteralExpressionContext) {
+            japyPrecedenceParser.LiteralExpressionContext literal = (japyPrecedenceParser.LiteralExpressionContext) ctx;
+            if (literal.n != null) return new Ast.Literal(Ast.LiteralKind.NUM, literal.n.getText());
+            if (literal.s != null) return new Ast.Literal(Ast.LiteralKind.STR, literal.s.getText());
+            if (literal.trueModifier != null) return new Ast.Literal(Ast.LiteralKind.TRUE, "true");
+            if (literal.falseModifier != null) return new Ast.Literal(Ast.LiteralKind.FALSE, "false");
+            return new Ast.Literal(Ast.LiteralKind.THIS, "this");
+        }
+        if (ctx instanceof japyPrecedenceParser.UnaryExpressionContext) {
+            japyPrecedenceParser.UnaryExpressionContext unary = (japyPrecedenceParser.UnaryExpressionContext) ctx;
+            return new Ast.Unary(unary.op.getText(), expression(unary.operand));
+        }
+        if (ctx instanceof japyPrecedenceParser.ParenExpressionContext) {
+            return new Ast.Paren(expression(((japyPrecedenceParser.ParenExpressionContext) ctx).inner));
+        }
+        if (ctx instanceof japyPrecedenceParser.FunctionCallExpressionContext) {
+            japyPrecedenceParser.FunctionCallExpressionContext call = (japyPrecedenceParser.FunctionCallExpressionContext) ctx;
+            return new Ast.Call(null, call.name.getText(), expressions(call.args));
+        }
+        if (ctx instanceof japyPrecedenceParser.NewArrayExpressionContext) {
+            japyPrecedenceParser.NewArrayExpressionContext array = (japyPrecedenceParser.NewArrayExpressionContext) ctx;
+            return new Ast.NewArray(array.st.getText(), array.st.i == null, expression(array.size));
+        }
+        return new Ast.NewObject(((japyPrecedenceParser.NewObjectExpressionContext) ctx).type.getText());
+    }
+
+    private static List<Ast.Expr> expressions(List<japyPrecedenceParser.ExpressionContext> contexts) {
+        List<Ast.Expr> result = new ArrayList<>(contexts.size());
+        for (japyPrecedenceParser.ExpressionContext e : contexts) result.add(expression(e));
+        return result;
+    }
+}
@@ -1,831 +1,673 @@
 package compiler;
 
-import gen.japyListener;
-import gen.japyParser;
-import org.antlr.v4.runtime.ParserRuleContext;
-import org.antlr.v4.runtime.tree.ErrorNode;
-import org.antlr.v4.runtime.tree.ParseTree;
-import org.antlr.v4.runtime.tree.TerminalNode;
-
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class ProgramPrinter implements Ast.Visitor<Void> {
+    private static final String RULE = "--------------------------------------------------------------------------------";
 
-public class ProgramPrinter implements japyListener {
     int indent = 0;
     int scopeCounter = 0;
-    SymbolTable globalTable = new SymbolTable();
-    Map<String, SymbolTable> classScopes = new LinkedHashMap<>();
-    Map<String, SymbolTable> methodScopes = new LinkedHashMap<>();
-    Map<String, SymbolTable> blockScopes = new LinkedHashMap<>();
+    Names names;
+    SymbolTable globalTable;
+    Map<Integer, SymbolTable> classScopes;
+    // each class's method tables by class, in declaration order
+    Map<Integer, Map<Integer, SymbolTable>> methodScopes;
+    Map<Integer, SymbolTable> blockScopes = new LinkedHashMap<>();
+    Map<String, List<String>> classRedefinitions = new LinkedHashMap<>();
     ArrayList<String> errors = new ArrayList<>();
+    final OutputSink out;
+    final OutputSink diagnostics;
+    // start and stop line of the innermost loop being walked, for continue / break; zero outside any loop
     int[] whileScopeDetail = new int[2];
-
-    @Override
-    public void enterProgram(japyParser.ProgramContext ctx) {
-        System.out.println("///////////////////////////////////////////////////////////////////////");
-        System.out.println("//                        PHASE 1                                    //");
-        System.out.println("///////////////////////////////////////////////////////////////////////");
+    Deque<Scope> scopeStack = new ArrayDeque<>();
+    ExpressionTyper typer = new ExpressionTyper(name -> {
+        SymbolTableEntry entry = resolve(SymbolKind.VAR, names.find(name));
+        return entry != null ? entry.type() : null;
+    });
+
+    public ProgramPrinter() {
+        this(OutputSink.buffered(System.out));
+    }
+
+    ProgramPrinter(OutputSink out) {
+        this(out, out);
+    }
+
+    // PHASE 1 and PHASE 2 dumps go to `out`, PHASE 3 errors to `diagnostics`
+    ProgramPrinter(OutputSink out, OutputSink diagnostics) {
+        this.out = out;
+        this.diagnostics = diagnostics;
+        this.names = new Names();
+        this.globalTable = new SymbolTable(names);
+        this.classScopes = new LinkedHashMap<>();
+        this.methodScopes = new LinkedHashMap<>();
+    }
+
+    // checks classes already declared in `program`'s tables into memory, numbering blocks from `scopeCounter`
+    private ProgramPrinter(ProgramPrinter program, int scopeCounter) {
+        this.out = OutputSink.memory();
+        this.diagnostics = out;
+        this.names = program.names;
+        this.globalTable = program.globalTable;
+        this.classScopes = program.classScopes;
+        this.methodScopes = program.methodScopes;
+        this.indent = program.indent;
+        this.scopeCounter = scopeCounter;
+    }
+
+    // forgets every class, scope and error of the last run so the printer can be used for another program; the
+    // sinks are left alone
+    public void reset() {
+        indent = 0;
+        scopeCounter = 0;
+        names = new Names();
+        globalTable = new SymbolTable(names);
+        classScopes = new LinkedHashMap<>();
+        methodScopes = new LinkedHashMap<>();
+        blockScopes = new LinkedHashMap<>();
+        classRedefinitions.clear();
+        errors.clear();
+        whileScopeDetail[0] = 0;
+        whileScopeDetail[1] = 0;
+        scopeStack.clear();
+    }
+
+    public void visitProgram(Ast.Program program) {
+        begin();
+        for (Ast.ClassDecl classDecl : program.classes) visitClass(classDecl);
+        end();
+    }
+
+    // begin() / visitClass() per class / end() is the same as visitProgram(), for callers that get classes one at a time
+    public void begin() {
+        out.println("///////////////////////////////////////////////////////////////////////");
+        out.println("//                        PHASE 1                                    //");
+        out.println("///////////////////////////////////////////////////////////////////////");
+    }
+
+    public void end() {
+        scopePhase();
+        errorPhase();
+        flush();
+    }
+
+    public void flush() {
+        out.flush();
+        if (diagnostics != out) diagnostics.flush();
+    }
+
+    public void scopePhase() {
+        out.println();
+        out.println("///////////////////////////////////////////////////////////////////////");
+        out.println("//                        PHASE 2                                    //");
+        out.println("///////////////////////////////////////////////////////////////////////");
+        printScope();
     }
 
-    @Override
-    public void exitProgram(japyParser.ProgramContext ctx) {
-        System.out.println();
-        System.out.println("///////////////////////////////////////////////////////////////////////");
-        System.out.println("//                        PHASE 2                                    //");
-        System.out.println("///////////////////////////////////////////////////////////////////////");
-        printScope();
-        System.out.println();
-        System.out.println("///////////////////////////////////////////////////////////////////////");
-        System.out.println("//                        PHASE 3                                    //");
-        System.out.println("///////////////////////////////////////////////////////////////////////");
+    public void errorPhase() {
+        diagnostics.println();
+        diagnostics.println("///////////////////////////////////////////////////////////////////////");
+        diagnostics.println("//                        PHASE 3                                    //");
+        diagnostics.println("///////////////////////////////////////////////////////////////////////");
         printErrors();
     }
 
-    @Override
-    public void enterClassDeclaration(japyParser.ClassDeclarationContext ctx) {
-        indentation();
-        String className = ctx.className.getText();
-        String accessModifier = ctx.access_modifier() != null ? ctx.access_modifier().getText() : "public";
-        String inherits = ctx.getText().contains("inherits") ? ctx.classParent.getText() : "";
-        printParser("<class '" + className + "'" + enterClassDeclarationHelper(ctx) + ">");
-        indent++;
-
-        int startLine = ctx.getStart().getLine();
-        int stopLine = ctx.getStop().getLine();
+    public void visitClass(Ast.ClassDecl node) {
+        checkClass(node, declareClass(node));
+    }
 
+    // visitClass() over `classes` in two passes: every class and member signature is declared first, in source order,
+    // then the classes are checked on `pool`, each by a printer of its own, and their PHASE 1 output, errors and block
+    // scopes are appended in source order. Each class numbers its blocks from where the classes before it stop, so
+    // the result is the same as visiting the classes one by one.
+    public void visitClasses(List<Ast.ClassDecl> classes, ForkJoinPool pool) {
+        List<ClassCheck> checks = new ArrayList<>(classes.size());
+        int blocks = scopeCounter;
+        for (Ast.ClassDecl node : classes) {
+            checks.add(new ClassCheck(node, declareClass(node), new ProgramPrinter(this, blocks)));
+            blocks += blockCount(node);
+        }
+        if (!checks.isEmpty()) pool.invoke(new CheckClasses(checks, 0, checks.size()));
 
-        for (Map.Entry<String, SymbolTableEntry> entry : globalTable.table.entrySet()) {
-            if (Objects.equals(entry.getKey(), "class_" + className)) {
-                className = className +  "_" + ctx.start.getLine() + "_" + (ctx.start.getCharPositionInLine() + 1);
-                break;
-            }
+        for (ClassCheck check : checks) {
+            out.print(check.printer.out.toString());
+            errors.addAll(check.printer.errors);
+            blockScopes.putAll(check.printer.blockScopes);
         }
+        scopeCounter = blocks;
+    }
 
+    // signature pass: the class goes into the global table, its fields and method signatures into its own table
+    private ClassSignature declareClass(Ast.ClassDecl node) {
+        String className = node.name;
+        String accessModifier = node.access != null ? node.access : "public";
 
-        SymbolTableEntry classEntry = new SymbolTableEntry(className, accessModifier, "class", startLine, stopLine);
-        if (!inherits.isEmpty()) classEntry.addAttribute("inherits: class_" + inherits);
-        if (ctx.getText().contains("main")) classEntry.setMain();
-        globalTable.insert("class_" + className, classEntry);
-        classScopes.put(className, new SymbolTable());
-    }
+        int classId = names.intern(className);
+        if (globalTable.lookup(SymbolKind.CLASS, classId) != null) {
+            String redefinedName = className +  "_" + node.line + "_" + (node.column + 1);
+            classRedefinitions.computeIfAbsent(className, k -> new ArrayList<>()).add(redefinedName);
+            classId = names.intern(redefinedName);
+        }
 
-    @Override
-    public void exitClassDeclaration(japyParser.ClassDeclarationContext ctx) {
-        indent--;
-        indentation();
-        printParser("</class>");
+        SymbolTableEntry classEntry = new SymbolTableEntry(names, classId, accessModifier, names.intern("class"), node.line, node.stopLine);
+        if (node.parent != null) classEntry.addAttribute("inherits: class_" + node.parent);
+        if (declaresMain(node)) classEntry.setMain();
+        globalTable.insert(SymbolKind.CLASS, classId, classEntry);
+        SymbolTable classTable = new SymbolTable(names);
+        classScopes.put(classId, classTable);
+        Map<Integer, SymbolTable> classMethods = new LinkedHashMap<>();
+        methodScopes.put(classId, classMethods);
+
+        ClassSignature signature = new ClassSignature(new Scope(classId, "class", classTable), node.members.size());
+        for (int i = 0; i < node.members.size(); i++) {
+            Ast.Decl member = node.members.get(i);
+            if (member instanceof Ast.FieldDecl) signature.members[i] = declareField(classTable, (Ast.FieldDecl) member);
+            else signature.members[i] = declareMethod(classTable, classMethods, (Ast.MethodDecl) member);
+        }
+        return signature;
     }
 
-    @Override
-    public void enterFieldDeclaration(japyParser.FieldDeclarationContext ctx) {
-        indentation();
-        String className = ((japyParser.ClassDeclarationContext) ctx.getParent()).className.getText();
-        String accessModifier = ctx.access_modifier() != null ? ctx.access_modifier().getText() : "public";
-        String type = ctx.japyType().getText();
-        printParser(fieldToString(ctx) + ": (field, " + accessModifier + ctx.japyType().getText() + ")");
-
-        int startLine = ctx.getStart().getLine();
-        int stopLine = ctx.getStop().getLine();
-        for (TerminalNode id : ctx.ID()) {
-            String name = id.getText();
-            if (checkRedundantError(classScopes, name, "field_")){
-                errors.add("Error 104: in line [" + ctx.start.getLine() + ":" + (ctx.start.getCharPositionInLine() + 1) + "], field [" + name + "] has been defined already");
-                name = name + "_" + ctx.start.getLine() + "_" + (ctx.start.getCharPositionInLine() + 1);
+    private Declaration declareField(SymbolTable classTable, Ast.FieldDecl node) {
+        Declaration declaration = new Declaration();
+        String accessModifier = node.access != null ? node.access : "public";
+        int type = names.intern(node.type);
+        for (String name : node.names) {
+            int fieldId = names.intern(name);
+            if (!classTable.declare(SymbolKind.FIELD, fieldId)) {
+                declaration.errors.add("Error 104: in line [" + node.line + ":" + (node.column + 1) + "], field [" + name + "] has been defined already");
+                fieldId = names.intern(name + "_" + node.line + "_" + (node.column + 1));
             }
-            SymbolTableEntry fieldEntry = new SymbolTableEntry(name, accessModifier, type, startLine, stopLine);
-            classScopes.get(className).insert("field_" + name, fieldEntry);
+            SymbolTableEntry fieldEntry = new SymbolTableEntry(names, fieldId, accessModifier, type, node.line, node.stopLine);
+            classTable.insert(SymbolKind.FIELD, fieldId, fieldEntry);
         }
+        return declaration;
     }
 
-    @Override
-    public void enterMethodDeclaration(japyParser.MethodDeclarationContext ctx) {
-        indentation();
-        String className = ((japyParser.ClassDeclarationContext) ctx.getParent()).className.getText();
-        String accessModifier = ctx.access_modifier() != null ? ctx.access_modifier().getText() : "public";
-        String methodName = ctx.methodName.getText();
-        String returnType = ctx.t.getText();
-        printParser("<function '" + methodName + "'" + enterMethodDeclarationHelper(ctx));
-        indent++;
-
-        if (checkRedundantError(classScopes, methodName, "function_")){
-            methodName = methodName + "_" + ctx.start.getLine() + "_" + (ctx.start.getCharPositionInLine() + 1);
-            errors.add("Error 102: in line [" + ctx.start.getLine() + ":" + (ctx.start.getCharPositionInLine() + 1) + "], method [" + methodName + "] has been defined already");
+    private Declaration declareMethod(SymbolTable classTable, Map<Integer, SymbolTable> classMethods, Ast.MethodDecl node) {
+        Declaration declaration = new Declaration();
+        String accessModifier = node.access != null ? node.access : "public";
+        String methodName = node.name;
+        int declaredId = names.intern(methodName);
+        int methodId = declaredId;
+        if (!classTable.declare(SymbolKind.FUNCTION, declaredId)) {
+            methodName = methodName + "_" + node.line + "_" + (node.column + 1);
+            methodId = names.intern(methodName);
+            declaration.errors.add("Error 102: in line [" + node.line + ":" + (node.column + 1) + "], method [" + methodName + "] has been defined already");
         }
-        int startLine = ctx.getStart().getLine();
-        int stopLine = ctx.getStop().getLine();
         StringBuilder result = new StringBuilder("[");
 
-        SymbolTableEntry methodEntry = new SymbolTableEntry(methodName, accessModifier, "method", startLine, stopLine);
-        methodEntry.addAttribute("return: " + returnType);
-        for (int i = 1; i < ctx.ID().size(); i++) {
-            if (i > 1) result.append(", ");
-            String paramName = ctx.ID(i).getText();
-            String paramType = ctx.japyType(i - 1).getText();
+        SymbolTableEntry methodEntry = new SymbolTableEntry(names, methodId, accessModifier, names.intern("method"), node.line, node.stopLine);
+        methodEntry.addAttribute("return: " + node.returnType);
+        for (int i = 0; i < node.params.size(); i++) {
+            if (i > 0) result.append(", ");
+            String paramName = node.params.get(i).name;
+            String paramType = node.params.get(i).type;
             String is_array = paramType.contains("[]") ? ", is_array)" : ")";
             String fullType = paramType;
             if (!is_array.equals(")")) {
                 fullType = "(" + paramType.replace("[]", "") + is_array + ")]";
             }
-            Parameter p = new Parameter(i - 1, paramName, paramType);
+            Parameter p = new Parameter(i, paramName, paramType);
             methodEntry.addParameter(p);
-            result.append("[(index:").append(i - 1).append("), (name: ").append(paramName).append("), (type: ").append(fullType);
+            result.append("[(index:").append(i).append("), (name: ").append(paramName).append("), (type: ").append(fullType);
         }
-        if (ctx.ID().size() > 1) result.append(")]]");
+        if (!node.params.isEmpty()) result.append(")]]");
         else result.append("]");
         methodEntry.addAttribute("parameter: " + result);
-        classScopes.get(className).insert("function_" + ctx.methodName.getText(), methodEntry);
+        classTable.insert(SymbolKind.FUNCTION, declaredId, methodEntry);
 
-        methodScopes.put(methodName,new SymbolTable());
+        SymbolTable methodTable = new SymbolTable(names);
+        classMethods.put(methodId, methodTable);
+        declaration.entry = methodEntry;
+        declaration.scope = new Scope(methodId, "method", methodTable);
+        return declaration;
     }
 
-    @Override
-    public void exitMethodDeclaration(japyParser.MethodDeclarationContext ctx) {
+    // body pass: the class's PHASE 1 lines, with each member's declaration errors ahead of its body's
+    private void checkClass(Ast.ClassDecl node, ClassSignature signature) {
+        indentation();
+        printParser("<class '" + node.name + "'" + classHeader(node) + ">");
+        indent++;
+
+        scopeStack.push(signature.scope);
+        for (int i = 0; i < node.members.size(); i++) {
+            Ast.Decl member = node.members.get(i);
+            errors.addAll(signature.members[i].errors);
+            if (member instanceof Ast.FieldDecl) visitField((Ast.FieldDecl) member);
+            else visitMethod((Ast.MethodDecl) member, signature.members[i]);
+        }
+        scopeStack.pop();
+
         indent--;
         indentation();
+        printParser("</class>");
+    }
+
+    public void visitField(Ast.FieldDecl node) {
+        indentation();
+        String accessModifier = node.access != null ? node.access : "public";
+        printParser(String.join(", ", node.names) + ": (field, " + accessModifier + node.type + ")");
+    }
+
+    void visitMethod(Ast.MethodDecl node, Declaration declaration) {
+        indentation();
+        printParser("<function '" + node.name + "'" + methodHeader(node));
+        indent++;
 
-        String className = ((japyParser.ClassDeclarationContext) ctx.getParent()).className.getText();
-        if (ctx.s != null && ctx.s.s1 != null && ctx.s.s1.s6 != null) {
-            printParser("</function return (" + ctx.s.s1.s6.e.e.getText() + ", " + ctx.t.getText() + ")>");
-            String type = typeCheck(ctx.s.s1.s6.e.e.getText());
-            if (type.equals("var")) {
-                if (!Objects.equals(methodScopes.get(ctx.methodName.getText()).lookup("var_" + ctx.s.s1.s6.e.e.getText()).type, ctx.t.getText())){
-                    errors.add("Error 210: in line [" + ctx.s.s1.s6.start.getLine() + ":" + (ctx.s.s1.s6.stop.getCharPositionInLine() + 1) + "], ReturnType of this method must be [" + ctx.t.getText()+ "]");
-                }
-            } else {
-                if (!type.equals(ctx.t.getText())) {
-                    errors.add("Error 210: in line [" + ctx.s.s1.s6.start.getLine() + ":" + (ctx.s.s1.s6.stop.getCharPositionInLine() + 1) + "], ReturnType of this method must be [" + ctx.t.getText()+ "]");
-                }
+        scopeStack.push(declaration.scope);
+        for (Ast.Stmt statement : node.body) statement.accept(this);
+
+        indent--;
+        indentation();
+        Ast.Stmt last = node.body.isEmpty() ? null : node.body.get(node.body.size() - 1);
+        if (last instanceof Ast.Return) {
+            Ast.Return ret = (Ast.Return) last;
+            printParser("</function return (" + Ast.text(ret.value) + ", " + node.returnType + ")>");
+            String type = typer.typeOf(ret.value);
+            if (!type.equals(node.returnType)) {
+                errors.add("Error 210: in line [" + ret.line + ":" + (ret.stopColumn + 1) + "], ReturnType of this method must be [" + node.returnType + "]");
             }
         } else {
             printParser("</function>");
-            String name = classScopes.get(className).lookup("function_" + ctx.methodName.getText()).name;
-            errors.add("Error 211: in line [" + ctx.start.getLine() + ":" + (ctx.start.getCharPositionInLine() + 1) + "], return statement missing for method [" + name + "]");
+            errors.add("Error 211: in line [" + node.line + ":" + (node.column + 1) + "], return statement missing for method [" + declaration.entry.name() + "]");
         }
+        scopeStack.pop();
     }
 
     @Override
-    public void enterClosedConditional(japyParser.ClosedConditionalContext ctx) {
+    public Void visitBlock(Ast.Block node) {
+        for (Ast.Stmt statement : node.body) statement.accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visitIf(Ast.If node) {
         indentation();
-        printParser("<if condition: <" + ctx.ifExp.getText() + ">>");
+        printParser("<if condition: <" + Ast.text(node.branches.get(0).condition) + ">>");
         indent++;
 
-        Map<String, SymbolTable> temp;
-        String methodName = findClosestScope(ctx.start.getLine(), ctx.stop.getLine());
-        if (methodName.contains("if") || methodName.contains("elif") ||
-            methodName.contains("else") || methodName.contains("while")) {
-            temp = blockScopes;
-        } else temp = methodScopes;
-        String blockName = "if_" + scopeCounter++;
-        int startLine = ctx.getStart().getLine();
-        int stopLine = ctx.ifStat.getStop().getLine();
-
-
-        SymbolTableEntry ifEntry = new SymbolTableEntry(blockName, "", "if", startLine, stopLine);
-        temp.get(methodName).insert(blockName, ifEntry);
-        blockScopes.put(blockName, new SymbolTable());
-
-
-        if (ctx.getText().contains("elif")) {
-            blockName = "elif_" + scopeCounter++;
-            startLine = ctx.elifExp.start.getLine();
-            stopLine = ctx.elifStat.getStop().getLine();
-            SymbolTableEntry elifEntry = new SymbolTableEntry(blockName, "", "elif", startLine, stopLine);
-            temp.get(methodName).insert(blockName, elifEntry);
-            blockScopes.put(blockName, new SymbolTable());
+        // every branch scope is registered before any branch body is walked
+        SymbolTable enclosing = scopeStack.peek().table;
+        List<Scope> branchScopes = new ArrayList<>();
+        for (int i = 0; i < node.branches.size(); i++) {
+            Ast.Branch branch = node.branches.get(i);
+            if (i == 0) branchScopes.add(openBlock(enclosing, "if", node.line, branch.body.stopLine));
+            else branchScopes.add(openBlock(enclosing, "elif", branch.conditionLine, branch.body.stopLine));
+        }
+        Scope elseScope = null;
+        if (node.elseBody != null) {
+            elseScope = openBlock(enclosing, "else", node.elseBody.line, node.elseBody.stopLine);
+        }
+
+        for (int i = 0; i < node.branches.size(); i++) {
+            Ast.Branch branch = node.branches.get(i);
+            if (i > 0) {
+                indent--;
+                indentation();
+                printParser("<elif condition: <" + Ast.text(branch.condition) + ">>");
+                indent++;
+            }
+            walk(branchScopes.get(i), branch.body);
         }
-
-        if (ctx.getText().contains("else")) {
-            blockName = "else_" + scopeCounter++;
-            startLine = ctx.elseStmt.start.getLine();
-            stopLine = ctx.elseStmt.getStop().getLine();
-            SymbolTableEntry elseEntry = new SymbolTableEntry(blockName, "", "else", startLine, stopLine);
-            temp.get(methodName).insert(blockName, elseEntry);
-            blockScopes.put(blockName, new SymbolTable());
+        if (node.elseBody != null) {
+            indent--;
+            indentation();
+            printParser("<else>");
+            indent++;
+            walk(elseScope, node.elseBody);
         }
-    }
 
-    @Override
-    public void exitClosedConditional(japyParser.ClosedConditionalContext ctx) {
         indent--;
         indentation();
-        if (ctx.getText().contains("else")) {
+        if (node.elseBody != null) {
             printParser("</else>");
         } else {
             printParser("</if>");
         }
+        return null;
     }
 
     @Override
-    public void enterOpenConditional(japyParser.OpenConditionalContext ctx) {
+    public Void visitWhile(Ast.While node) {
         indentation();
-        printParser("<if condition: <" + ctx.ifExp.getText() + ">>");
+        printParser("<while condition: <" + Ast.text(node.condition) + ">>");
+        int outerStart = whileScopeDetail[0];
+        int outerStop = whileScopeDetail[1];
+        whileScopeDetail[0] = node.line;
+        whileScopeDetail[1] = node.stopLine;
         indent++;
 
-        Map<String, SymbolTable> temp;
-        String methodName = findClosestScope(ctx.start.getLine(), ctx.stop.getLine());
-        if (methodName.contains("if") || methodName.contains("elif") ||
-                methodName.contains("else") || methodName.contains("while")) {
-            temp = blockScopes;
-        } else temp = methodScopes;
-
-
-        String blockName = "if_" + scopeCounter++;
-        int startLine = ctx.getStart().getLine();
-        int stopLine;
-        if (ctx.ifStat != null) stopLine = ctx.ifStat.getStop().getLine();
-        else if (ctx.secondIfStat != null) stopLine = ctx.secondIfStat.getStop().getLine();
-        else stopLine = ctx.thirdIfStat.getStop().getLine();
-        SymbolTableEntry ifEntry = new SymbolTableEntry(blockName, "", "if", startLine, stopLine);
-        temp.get(methodName).insert(blockName, ifEntry);
-        blockScopes.put(blockName, new SymbolTable());
-
-
-        if (ctx.getText().contains("elif")) {
-            blockName = "elif_" + scopeCounter++;
-            if (ctx.elifExp != null) startLine = ctx.elifExp.getStop().getLine();
-            else startLine = ctx.lastElifExp.getStop().getLine();
-            if (ctx.elifStat != null) stopLine = ctx.elifStat.getStop().getLine();
-            else stopLine = ctx.lastElifStmt.getStop().getLine();
-            SymbolTableEntry elifEntry = new SymbolTableEntry(blockName, "", "elif", startLine, stopLine);
-            temp.get(methodName).insert(blockName, elifEntry);
-            blockScopes.put(blockName, new SymbolTable());
-        }
-
-
-        if (ctx.getText().contains("else") && ctx.elseStmt != null) {
-            blockName = "else_" + scopeCounter++;
-            startLine = ctx.elseStmt.getStart().getLine();
-            stopLine = ctx.elseStmt.getStop().getLine();
-            SymbolTableEntry elseEntry = new SymbolTableEntry(blockName, "", "else", startLine, stopLine);
-            temp.get(methodName).insert(blockName, elseEntry);
-            blockScopes.put(blockName, new SymbolTable());
-        }
-    }
+        walk(openBlock(enclosingScope("method").table, "while", node.line, node.stopLine), node.body);
 
-    @Override
-    public void exitOpenConditional(japyParser.OpenConditionalContext ctx) {
         indent--;
         indentation();
-        printParser("</if>");
+        printParser("</while>");
+        whileScopeDetail[0] = outerStart;
+        whileScopeDetail[1] = outerStop;
+        return null;
     }
 
     @Override
-    public void enterStatementVarDef(japyParser.StatementVarDefContext ctx) {
+    public Void visitVarDef(Ast.VarDef node) {
         indentation();
-        printParser(ctx.e1.getText() + " -> (" + ctx.i1.getText() + ", var)");
-
-        Map<String, SymbolTable> temp;
-        String scopeName = findClosestScope(ctx.start.getLine(), ctx.stop.getLine());
-        if (scopeName.contains("if") || scopeName.contains("elif") ||
-                scopeName.contains("else") || scopeName.contains("while")) {
-            temp = blockScopes;
-        } else temp = methodScopes;
+        Ast.Expr value = node.values.get(0);
+        printParser(Ast.text(value) + " -> (" + node.names.get(0) + ", var)");
 
-        String accessModifier = "", type = typeCheck(ctx.expression(0).getText());
+        String accessModifier = "", type = typer.typeOf(value);
         if (type.equals("error")) {
-            errors.add("Error 609: in line [" + ctx.start.getLine() + ":" + ctx.stop.getLine() + "], invalid index type");
-        }
-
-        while (type.equals("var")) {
-            type = temp.get(scopeName).lookup("var_" + ctx.expression(0).getText()).type;
+            errors.add("Error 609: in line [" + node.line + ":" + node.stopLine + "], invalid index type");
         }
 
-        int startLine = ctx.getStart().getLine();
-        int stopLine = ctx.getStop().getLine();
-        String className = findClosestClassScope(startLine, stopLine);
-        if (type.equals("function") && ctx.expression(0).getText().contains(")")) parseMethodDeclaration(ctx.expression(0).getText(), className, temp, scopeName, ctx);
+        int classId = enclosingScope("class").name;
+        if (value instanceof Ast.Call && ((Ast.Call) value).target == null) checkMethodCall((Ast.Call) value, classId, node);
 
-
-        for (TerminalNode id : ctx.ID()) {
-            String name = id.getText();
-            SymbolTableEntry fieldEntry = new SymbolTableEntry(name, accessModifier, type, startLine, stopLine);
-            fieldEntry.setFirst_appearance(startLine);
+        int typeId = names.intern(type);
+        for (String name : node.names) {
+            int varId = names.intern(name);
+            SymbolTableEntry fieldEntry = new SymbolTableEntry(names, varId, accessModifier, typeId, node.line, node.stopLine);
+            fieldEntry.setFirst_appearance(node.line);
             fieldEntry.setBlock();
 
-            if ((type.equals("bool[]") || type.equals("double[]") || type.equals("string[]")) && ctx.getText().contains("]")) {
-                int endIndex = ctx.getText().indexOf(']');
-                int startIndex = ctx.getText().indexOf('[') + 1;
-
-                int size = Integer.parseInt(ctx.getText().substring(startIndex, endIndex));
-                fieldEntry.setSize(size);
+            if ((type.equals("bool[]") || type.equals("double[]") || type.equals("string[]")) && value instanceof Ast.NewArray) {
+                Integer size = intLiteral(((Ast.NewArray) value).size);
+                if (size != null) fieldEntry.setSize(size);
             }
 
-            temp.get(scopeName).insert("var_" + name, fieldEntry);
+            scopeStack.peek().table.insert(SymbolKind.VAR, varId, fieldEntry);
         }
+        return null;
     }
 
     @Override
-    public void enterStatementContinue(japyParser.StatementContinueContext ctx) {
+    public Void visitContinue(Ast.Continue node) {
         indentation();
         printParser("Goto " + whileScopeDetail[0]);
+        return null;
     }
 
     @Override
-    public void exitStatementBreak(japyParser.StatementBreakContext ctx) {
+    public Void visitBreak(Ast.Break node) {
         indentation();
         printParser("Goto " + (whileScopeDetail[1] + 1));
+        return null;
     }
 
     @Override
-    public void enterStatementClosedLoop(japyParser.StatementClosedLoopContext ctx) {
-        indentation();
-        printParser("<while condition: <" + ctx.expression().getText() + ">>");
-        whileScopeDetail[0] = ctx.start.getLine();
-        whileScopeDetail[1] = ctx.stop.getLine();
-        indent++;
-
-        String methodName = findClosestMethodScope(ctx.start.getLine(), ctx.stop.getLine());
-        String blockName = "while_" + scopeCounter++;
-        int startLine = ctx.getStart().getLine();
-        int stopLine = ctx.getStop().getLine();
-
-        SymbolTableEntry whileEntry = new SymbolTableEntry(blockName, "", "while", startLine, stopLine);
-        methodScopes.get(methodName).insert(blockName, whileEntry);
-
-        SymbolTable whileScope = new SymbolTable();
-        blockScopes.put(blockName, whileScope);
-    }
-
-    @Override
-    public void exitStatementClosedLoop(japyParser.StatementClosedLoopContext ctx) {
-        indent--;
-        indentation();
-        printParser("</while>");
-    }
-
-    @Override
-    public void enterStatementAssignment(japyParser.StatementAssignmentContext ctx) {
+    public Void visitAssign(Ast.Assign node) {
         indentation();
-        printParser(ctx.right.getText() + " -> " + ctx.left.getText());
-
-        Map<String, SymbolTable> temp;
-        String scopeName = findClosestScope(ctx.start.getLine(), ctx.stop.getLine());
-        if (scopeName.contains("if") || scopeName.contains("elif") ||
-                scopeName.contains("else") || scopeName.contains("while")) {
-            temp = blockScopes;
-        } else temp = methodScopes;
-        String var = ctx.left.getText();
-        if (ctx.left.getText().endsWith("]")) {
-            var = ctx.left.getText().substring(0, ctx.left.getText().indexOf("["));
-        }
-        String rightVarType = typeCheck(ctx.right.getText());
-        while (rightVarType.equals("var")) {
-            rightVarType = temp.get(scopeName).lookup("var_" + ctx.right.getText()).type;
-        }
-        temp.get(scopeName).lookup("var_" + var).type = rightVarType;
-
-        if(ctx.right.getText().indexOf('[') != -1) {
-            int endIndex = ctx.right.getText().indexOf(']');
-            int startIndex = ctx.right.getText().indexOf('[') + 1;
-
-
-            try {
-                int size = Integer.parseInt(ctx.right.getText().substring(startIndex, endIndex));
-                String varName = ctx.right.getText().substring(0, startIndex - 1);
-                if(temp.get(scopeName).lookup("var_" + varName).size < size) {
-                    errors.add("Error 504 : in line [" + ctx.start.getLine() + ":" + (ctx.stop.getCharPositionInLine() + 1) + "], Out of bound exception");
-                }
-            } catch (Exception e){
-                System.out.println("Error 69: in line [" + ctx.start.getLine() + ":" + ctx.stop.getLine() + "], invalid index type");
+        printParser(Ast.text(node.right) + " -> " + Ast.text(node.left));
+
+        Ast.Expr left = node.left;
+        while (left instanceof Ast.Index) left = ((Ast.Index) left).target;
+        String var = Ast.text(left);
+        String rightVarType = typer.typeOf(node.right);
+        resolve(SymbolKind.VAR, names.find(var)).type = names.intern(rightVarType);
+
+        if (node.right instanceof Ast.Index) {
+            Ast.Index index = (Ast.Index) node.right;
+            Integer size = intLiteral(index.index);
+            SymbolTableEntry array = index.target instanceof Ast.Name ? resolve(SymbolKind.VAR, names.find(((Ast.Name) index.target).name)) : null;
+            if (size == null || array == null) {
+                printParser("Error 69: in line [" + node.line + ":" + node.stopLine + "], invalid index type");
+            } else if (array.size < size) {
+                errors.add("Error 504 : in line [" + node.line + ":" + (node.stopColumn + 1) + "], Out of bound exception");
             }
-
         }
+        return null;
     }
 
     @Override
-    public void enterStatementInc(japyParser.StatementIncContext ctx) {
+    public Void visitInc(Ast.Inc node) {
         indentation();
-        printParser("1 + " + ctx.lvalExpr.getText() + " -> " + ctx.lvalExpr.getText());
+        String target = Ast.text(node.target);
+        printParser("1 + " + target + " -> " + target);
+        return null;
     }
 
     @Override
-    public void enterStatementDec(japyParser.StatementDecContext ctx) {
+    public Void visitDec(Ast.Dec node) {
         indentation();
-        printParser(ctx.lvalExpr.getText() + " - 1" + " -> " + ctx.lvalExpr.getText());
-    }
-
-    @Override
-    public void visitTerminal(TerminalNode terminalNode) {
-        if (terminalNode.getText().equals("elif")) {
-            indent--;
-            indentation();
-            printParser("<elif condition: <" + printElifExpression(terminalNode) + ">>");
-            indent++;
-
-
-        } else if (terminalNode.getText().equals("else")) {
-            indent--;
-            indentation();
-            printParser("<else>");
-            indent++;
-        }
-    }
-
-    private String printElifExpression(TerminalNode node) {
-        ParserRuleContext parentCtx = (ParserRuleContext) node.getParent();
-        for (int i = 0; i < parentCtx.getChildCount(); i++) {
-            if (parentCtx.getChild(i) == node) {
-                if (i + 3 < parentCtx.getChildCount() &&
-                        parentCtx.getChild(i + 1).getText().equals("(") &&
-                        parentCtx.getChild(i + 3).getText().equals(")")) {
-
-                    ParseTree expressionNode = parentCtx.getChild(i + 2);
-                    return expressionNode.getText();
-                }
-                break;
-            }
-        }
+        String target = Ast.text(node.target);
+        printParser(target + " - 1" + " -> " + target);
         return null;
     }
+
     /////////////////////////////////////////////////////////////////////
     //                           HELPER CLASSES                        //
     /////////////////////////////////////////////////////////////////////
     void printParser(String s) {
-        System.out.println(s);
+        out.println(s);
     }
 
     private void indentation() {
-        for (int i = 0; i < indent; i++) System.out.print("    ");
+        for (int i = 0; i < indent; i++) out.print("    ");
     }
 
+    // PHASE 2: the global table, every class, each class's methods, then the blocks opened directly in each method
+    // and in each block. Every table lists the blocks opened in it, so each section is one pass over its parents.
     private void printScope() {
-        globalTable.table.forEach((key, value) -> System.out.println("key = " + key + ", value = " + value));
-        System.out.println("--------------------------------------------------------------------------------");
-
-        for (Map.Entry<String, SymbolTable> e : classScopes.entrySet()) {
-            String key = e.getKey();
-            SymbolTable value = e.getValue();
-            SymbolTableEntry entry = globalTable.lookup("class_" + key);
-            int start = entry.getStartLine();
-            int stop = entry.getStopLine();
-
-            System.out.println("---------------------------------- " + key + ": (" + start + "," + stop + ") ----------------------------------");
-            if (value.table.isEmpty() || e.getValue().toString().isEmpty()) System.out.println("                                !NO KEY FOUND!");
-            else System.out.println(value);
-            System.out.println("--------------------------------------------------------------------------------");
-        }
-
-        for (Map.Entry<String, SymbolTable> entry : classScopes.entrySet()) {
-            for (Map.Entry<String, SymbolTable> e : methodScopes.entrySet()) {
-                SymbolTableEntry methodEntry = entry.getValue().lookup("function_" + e.getKey());
-                if (methodEntry == null) break;
-                int start = methodEntry.getStartLine();
-                int stop = methodEntry.getStopLine();
-
-                System.out.println("---------------------------------- " + e.getKey() + ": (" + start + "," + stop + ") ----------------------------------");
-                if (e.getValue().table.isEmpty() || e.getValue().toString().isEmpty()) System.out.println("                                !NO KEY FOUND!");
-                else System.out.print(e.getValue());
-                System.out.println("--------------------------------------------------------------------------------");
-            }
+        for (int i = 0; i < globalTable.table.size(); i++) {
+            out.println("key = " + globalTable.keyText(globalTable.table.key(i)) + ", value = " + globalTable.table.value(i));
         }
+        out.println(RULE);
 
-        for (Map.Entry<String, SymbolTable> entry : methodScopes.entrySet()) {
-            for (Map.Entry<String, SymbolTable> e : blockScopes.entrySet()) {
-                SymbolTableEntry methodEntry;
-                methodEntry = entry.getValue().lookup(e.getKey());
-                if (methodEntry == null) continue;
-                int start = methodEntry.getStartLine();
-                int stop = methodEntry.getStopLine();
+        for (Map.Entry<Integer, SymbolTable> e : classScopes.entrySet()) {
+            printTable(e.getKey(), globalTable.lookup(SymbolKind.CLASS, e.getKey()), e.getValue(), true);
+        }
 
-                System.out.println("---------------------------------- " + e.getKey() + ": (" + start + "," + stop + ") ----------------------------------");
-                if (e.getValue().table.isEmpty() || e.getValue().toString().isEmpty()) System.out.println("                                !NO KEY FOUND!");
-                else System.out.print(e.getValue());
-                System.out.println("--------------------------------------------------------------------------------");
+        // a redefined method (name_line_column) has no entry of its own, only its blocks are listed
+        for (Map.Entry<Integer, SymbolTable> c : classScopes.entrySet()) {
+            for (Map.Entry<Integer, SymbolTable> e : methodScopes.get(c.getKey()).entrySet()) {
+                SymbolTableEntry methodEntry = c.getValue().lookup(SymbolKind.FUNCTION, e.getKey());
+                if (methodEntry != null) printTable(e.getKey(), methodEntry, e.getValue(), false);
             }
         }
 
-        for (Map.Entry<String, SymbolTable> entry : blockScopes.entrySet()) {
-            for (Map.Entry<String, SymbolTable> e : blockScopes.entrySet()) {
-                SymbolTableEntry methodEntry;
-                methodEntry = entry.getValue().lookup(e.getKey());
-                if (methodEntry == null) continue;
-                int start = methodEntry.getStartLine();
-                int stop = methodEntry.getStopLine();
+        for (Map<Integer, SymbolTable> classMethods : methodScopes.values()) {
+            for (SymbolTable methodTable : classMethods.values()) printBlocks(methodTable);
+        }
+        for (SymbolTable blockTable : blockScopes.values()) printBlocks(blockTable);
+    }
+
+    private void printBlocks(SymbolTable parent) {
+        for (int block : parent.blocks) printTable(block, parent.lookup(SymbolKind.BLOCK, block), blockScopes.get(block), false);
+    }
 
-                System.out.println("---------------------------------- " + e.getKey() + ": (" + start + "," + stop + ") ----------------------------------");
-                if (e.getValue().table.isEmpty() || e.getValue().toString().isEmpty()) System.out.println("                                !NO KEY FOUND!");
-                else System.out.print(e.getValue());
-                System.out.println("--------------------------------------------------------------------------------");
-            }
+    private void printTable(int name, SymbolTableEntry entry, SymbolTable table, boolean newline) {
+        out.println("---------------------------------- " + names.name(name) + ": (" + entry.getStartLine() + "," + entry.getStopLine() + ") ----------------------------------");
+        if (table.printsEmpty()) {
+            out.println("                                !NO KEY FOUND!");
+        } else {
+            table.print(out);
+            if (newline) out.println();
         }
+        out.println(RULE);
     }
 
     private void printErrors() {
         for (String s: errors){
-            System.out.println(s);
+            diagnostics.println(s);
         }
     }
 
-    private String findClosestClassScope(int startLine, int stopLine) {
-        for (Map.Entry<String, SymbolTableEntry> entry : globalTable.table.entrySet()) {
-            if (entry.getValue().startLine < startLine && entry.getValue().stopLine > stopLine) {
-                return entry.getKey();
-            }
+    private Scope openBlock(SymbolTable enclosing, String kind, int startLine, int stopLine) {
+        int blockId = names.intern(kind + "_" + scopeCounter++);
+        SymbolTableEntry blockEntry = new SymbolTableEntry(names, blockId, "", names.intern(kind), startLine, stopLine);
+        enclosing.insert(SymbolKind.BLOCK, blockId, blockEntry);
+        enclosing.blocks.add(blockId);
+        SymbolTable blockTable = new SymbolTable(names);
+        blockScopes.put(blockId, blockTable);
+        return new Scope(blockId, kind, blockTable);
+    }
+
+    private void walk(Scope scope, Ast.Stmt body) {
+        scopeStack.push(scope);
+        body.accept(this);
+        scopeStack.pop();
+    }
+
+    private Scope enclosingScope(String kind) {
+        for (Scope scope : scopeStack) {
+            if (scope.kind.equals(kind)) return scope;
         }
         return null;
     }
 
-    private String findClosestMethodScope(int startLine, int stopLine) {
-        String closestScopeName = null;
-        int minDistance = Integer.MAX_VALUE;
-
-        for (Map.Entry<String, SymbolTable> entry : classScopes.entrySet()) {
-            for (Map.Entry<String, SymbolTable> e : methodScopes.entrySet()) {
-                SymbolTableEntry methodEntry = entry.getValue().lookup("function_" + e.getKey());
-                if (methodEntry != null) {
-                    int methodStartLine = methodEntry.getStartLine();
-                    int methodStopLine = methodEntry.getStopLine();
-                    int distance = Math.abs(methodStartLine - startLine);
-                    if (distance < minDistance) {
-                        minDistance = distance;
-                        if (methodStopLine > stopLine) closestScopeName = e.getKey();
-                    }
-                }
-            }
+    private SymbolTableEntry resolve(SymbolKind kind, int name) {
+        for (Scope scope : scopeStack) {
+            SymbolTableEntry entry = scope.table.lookup(kind, name);
+            if (entry != null) return entry;
         }
-        return closestScopeName;
+        return null;
     }
 
-    private String findClosestScope(int startLine, int stopLine) {
-        String closestScopeName = findClosestMethodScope(startLine, stopLine);
-        int minDistance = Integer.MAX_VALUE;
-
-        for (Map.Entry<String, SymbolTable> entry : methodScopes.entrySet()) {
-            for (Map.Entry<String, SymbolTable> e : blockScopes.entrySet()) {
-                SymbolTableEntry methodEntry;
+    private void checkMethodCall(Ast.Call call, int classId, Ast.VarDef node) {
+        List<Ast.Expr> args = call.args;
+        ArrayList<Parameter> p = classScopes.get(classId).lookup(SymbolKind.FUNCTION, names.find(call.name)).parametersList;
 
-                methodEntry = entry.getValue().lookup(e.getKey());
-                if (methodEntry != null) {
-                    int methodStartLine = methodEntry.getStartLine();
-                    int methodStopLine = methodEntry.getStopLine();
-                    int distance = Math.abs(methodStartLine - startLine);
-                    if (distance < minDistance) {
-                        minDistance = distance;
-                        if (methodStopLine > stopLine) closestScopeName = e.getKey();
-                    }
-                }
-            }
+        if (args.size() != p.size()) {
+            errors.add("Error 199: in line [" + node.line + ":" + node.column + "], parameter count must be " + p.size() + " but got " + args.size());
+            return;
         }
 
-        for (Map.Entry<String, SymbolTable> entry : blockScopes.entrySet()) {
-            for (Map.Entry<String, SymbolTable> e : blockScopes.entrySet()) {
-                SymbolTableEntry methodEntry;
-
-                methodEntry = entry.getValue().lookup(e.getKey());
-                if (methodEntry != null) {
-                    int methodStartLine = methodEntry.getStartLine();
-                    int methodStopLine = methodEntry.getStopLine();
-                    int distance = Math.abs(methodStartLine - startLine);
-                    if (distance < minDistance) {
-                        minDistance = distance;
-                        if (methodStopLine > stopLine) closestScopeName = e.getKey();
-                    }
-                }
+        for (int i = 0; i < args.size(); i++) {
+            String type = typer.typeOf(args.get(i));
+            String type1 = p.get(i).type;
+            if (type.equals("boolean")) type = "bool";
+            if (!Objects.equals(type, type1)) {
+                errors.add("Error 200: in line [" + node.line + ":" + node.column  + "], " + p.get(i).name + " type must be " + type1 + " but got " + type);
             }
         }
+    }
 
-        return closestScopeName;
+    private Integer intLiteral(Ast.Expr expr) {
+        if (!(expr instanceof Ast.Literal) || ((Ast.Literal) expr).kind != Ast.LiteralKind.NUM) return null;
+        try {
+            return Integer.parseInt(((Ast.Literal) expr).text);
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 
-    private boolean checkRedundantError(Map<String, SymbolTable> scope, String name, String type) {
-        for (Map.Entry<String, SymbolTable> e : scope.entrySet()){
-            if (e.getValue().toString().contains(type + name)){
-                return true;
-            }
+    private boolean declaresMain(Ast.ClassDecl node) {
+        for (Ast.Decl member : node.members) {
+            if (member instanceof Ast.MethodDecl && ((Ast.MethodDecl) member).name.equals("main")) return true;
         }
         return false;
     }
 
-    private String typeCheck(String s) {
-        if (s.endsWith(")")) {
-            return "function";
+    private String classHeader(Ast.ClassDecl node) {
+        String result = node.access != null ? ", " + node.access : "";
+        if (node.parent != null) {
+            result += ", inherits '" + node.parent + "'";
         }
-        if (s.endsWith("]")) {
-            int endIndex = s.indexOf(']');
-            int startIndex = s.indexOf('[') + 1;
+        return result;
+    }
 
-            String size = s.substring(startIndex, endIndex);
+    private String methodHeader(Ast.MethodDecl node) {
+        String result = node.access != null ? ", " + node.access : "";
+        result += ", parameters: [" + parametersToString(node) + "]>";
+        return result;
+    }
 
-            if(!typeCheck(size).equals("double")) {
-                return "error";
+    private String parametersToString(Ast.MethodDecl node) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < node.params.size(); i++) {
+            Ast.Param param = node.params.get(i);
+            result.append("(").append(param.name).append(":").append(param.type.replace("[]", "")).append(")");
+            if (i != node.params.size() - 1) {
+                result.append(", ");
             }
-
-            if (s.contains("string")) return "string[]";
-            if (s.contains("double")) return "double[]";
-            if (s.contains("boolean") || s.contains("bool")) return "bool[]";
-            return "array";
         }
-        if (s.equalsIgnoreCase("true") || s.equalsIgnoreCase("false")) return "boolean";
-        try {
-            Double.parseDouble(s);
-            return "double";
-        } catch (NumberFormatException ignored) {}
-        if (s.endsWith("\"")) return "string";
-        return "var";
+        return result.toString();
     }
 
-    private void parseMethodDeclaration(String input, String className, Map<String, SymbolTable> scope, String scopeName,japyParser.StatementVarDefContext ctx) {
-        String methodName = input.substring(0, input.indexOf("("));
-        String paramsStr = input.substring(input.indexOf("(") + 1, input.length() - 1);
-        String[] params = paramsStr.split(",");
-        int length = params.length;
-        if (params[0].isEmpty()) length = 0;
-        ArrayList<Parameter> p;
-
-        String s = className.substring(className.indexOf("_") + 1);
-        p = classScopes.get(s).lookup("function_" + methodName).parametersList;
-
-
-        if (length != p.size()) {
-            errors.add("Error 199: in line [" + ctx.start.getLine() + ":" + ctx.start.getCharPositionInLine() + "], parameter count must be " + p.size() + " but got " + length);
-            return;
+    // how far checking `node` advances scopeCounter: one block per if/elif/else branch and per while
+    private static int blockCount(Ast.ClassDecl node) {
+        int count = 0;
+        for (Ast.Decl member : node.members) {
+            if (member instanceof Ast.MethodDecl) {
+                for (Ast.Stmt statement : ((Ast.MethodDecl) member).body) count += blockCount(statement);
+            }
         }
+        return count;
+    }
 
-        for (int i = 0; i < length; i++) {
-            String type = typeCheck(params[i]);
-            String type1 = p.get(i).type;
-            if (type.equals("boolean")) type = "bool";
-            if (type.equals("var")) {
-                type = scope.get(scopeName).lookup("var_" + params[i]).type;
-                if (type.equals("boolean")) type = "bool";
-            }
-            if (!Objects.equals(type, type1)) {
-                errors.add("Error 200: in line [" + ctx.start.getLine() + ":" + ctx.start.getCharPositionInLine()  + "], " + p.get(i).name + " type must be " + type1 + " but got " + type);
-            }
+    private static int blockCount(Ast.Stmt node) {
+        int count = 0;
+        if (node instanceof Ast.Block) {
+            for (Ast.Stmt statement : ((Ast.Block) node).body) count += blockCount(statement);
+        } else if (node instanceof Ast.If) {
+            Ast.If conditional = (Ast.If) node;
+            for (Ast.Branch branch : conditional.branches) count += 1 + blockCount(branch.body);
+            if (conditional.elseBody != null) count += 1 + blockCount(conditional.elseBody);
+        } else if (node instanceof Ast.While) {
+            count += 1 + blockCount(((Ast.While) node).body);
         }
+        return count;
     }
 
-    private String enterClassDeclarationHelper(japyParser.ClassDeclarationContext ctx) {
-        String result = ctx.access_modifier() != null ? ", " + ctx.access_modifier().getText() : "";
-        if (ctx.getText().contains("inherits")) {
-            result += ", inherits '" + ctx.classParent.getText() + "'";
+    // what the signature pass declared for a class, member by member, for the body pass to pick up
+    static final class ClassSignature {
+        final Scope scope;
+        final Declaration[] members;
+
+        ClassSignature(Scope scope, int members) {
+            this.scope = scope;
+            this.members = new Declaration[members];
         }
-        return result;
     }
 
-    private String enterMethodDeclarationHelper(japyParser.MethodDeclarationContext ctx) {
-        String result = ctx.methodAccessModifier != null ? ", " + ctx.methodAccessModifier.getText() : "";
-        result += ", parameters: [" + parametersToString(ctx) + "]>";
-        return result;
+    // errors found declaring a member; for a method also its entry and the scope its body is checked in
+    static final class Declaration {
+        final List<String> errors = new ArrayList<>();
+        SymbolTableEntry entry;
+        Scope scope;
     }
 
-    private String parametersToString(japyParser.MethodDeclarationContext ctx) {
-        StringBuilder result = new StringBuilder();
-        for (int i = 1; i < ctx.ID().size(); i++) {
-            String s = ctx.japyType().get(i - 1).getText().replace("[]", "");
-            result.append("(").append(ctx.ID().get(i).getText()).append(":").append(s).append(")");
-            if (i != ctx.ID().size() - 1) {
-                result.append(", ");
-            }
+    private static final class ClassCheck {
+        final Ast.ClassDecl node;
+        final ClassSignature signature;
+        final ProgramPrinter printer;
+
+        ClassCheck(Ast.ClassDecl node, ClassSignature signature, ProgramPrinter printer) {
+            this.node = node;
+            this.signature = signature;
+            this.printer = printer;
         }
-        return result.toString();
     }
 
-    private String fieldToString(japyParser.FieldDeclarationContext ctx) {
-        StringBuilder result = new StringBuilder();
-        for (int i = 0; i < ctx.ID().size(); i++) {
-            result.append(ctx.ID(i).getText());
-            if (i != ctx.ID().size() - 1) {
-                result.append(", ");
+    // checks[from, to), split in halves down to single classes
+    private static final class CheckClasses extends RecursiveAction {
+        // ForkJoinTask is Serializable, these tasks are never serialized
+        private static final long serialVersionUID = 1L;
+        private final List<ClassCheck> checks;
+        private final int from;
+        private final int to;
+
+        CheckClasses(List<ClassCheck> checks, int from, int to) {
+            this.checks = checks;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                ClassCheck check = checks.get(from);
+                check.printer.checkClass(check.node, check.signature);
+                return;
             }
+            int middle = (from + to) >>> 1;
+            invokeAll(new CheckClasses(checks, from, middle), new CheckClasses(checks, middle, to));
         }
-        return result.toString();
     }
-
-
-    ////////////////////////////////////////////////////////////////////////////////////////////////////////
-    @Override
-    public void enterEntryClassDeclaration(japyParser.EntryClassDeclarationContext ctx) {}
-    @Override
-    public void exitEntryClassDeclaration(japyParser.EntryClassDeclarationContext ctx) {}
-    @Override
-    public void exitFieldDeclaration(japyParser.FieldDeclarationContext ctx) {}
-    @Override
-    public void enterAccess_modifier(japyParser.Access_modifierContext ctx) {}
-    @Override
-    public void exitAccess_modifier(japyParser.Access_modifierContext ctx) {}
-    @Override
-    public void enterClosedStatement(japyParser.ClosedStatementContext ctx) {}
-    @Override
-    public void exitClosedStatement(japyParser.ClosedStatementContext ctx) {}
-    @Override
-    public void enterOpenStatement(japyParser.OpenStatementContext ctx) {}
-    @Override
-    public void exitOpenStatement(japyParser.OpenStatementContext ctx) {}
-    @Override
-    public void enterStatement(japyParser.StatementContext ctx) {}
-    @Override
-    public void exitStatement(japyParser.StatementContext ctx) {}
-    @Override
-    public void exitStatementVarDef(japyParser.StatementVarDefContext ctx) {}
-    @Override
-    public void enterStatementBlock(japyParser.StatementBlockContext ctx) {}
-    @Override
-    public void exitStatementBlock(japyParser.StatementBlockContext ctx) {}
-    @Override
-    public void exitStatementContinue(japyParser.StatementContinueContext ctx) {}
-    @Override
-    public void enterStatementBreak(japyParser.StatementBreakContext ctx) {}
-    @Override
-    public void enterStatementReturn(japyParser.StatementReturnContext ctx) {}
-    @Override
-    public void exitStatementReturn(japyParser.StatementReturnContext ctx) {}
-    @Override
-    public void enterStatementOpenLoop(japyParser.StatementOpenLoopContext ctx) {}
-    @Override
-    public void exitStatementOpenLoop(japyParser.StatementOpenLoopContext ctx) {}
-    @Override
-    public void enterStatementWrite(japyParser.StatementWriteContext ctx) {}
-    @Override
-    public void exitStatementWrite(japyParser.StatementWriteContext ctx) {}
-    @Override
-    public void exitStatementInc(japyParser.StatementIncContext ctx) {}
-    @Override
-    public void exitStatementAssignment(japyParser.StatementAssignmentContext ctx) {}
-    @Override
-    public void exitStatementDec(japyParser.StatementDecContext ctx) {}
-    @Override
-    public void enterExpression(japyParser.ExpressionContext ctx) {}
-    @Override
-    public void exitExpression(japyParser.ExpressionContext ctx) {}
-    @Override
-    public void enterExpressionOr(japyParser.ExpressionOrContext ctx) {}
-    @Override
-    public void exitExpressionOr(japyParser.ExpressionOrContext ctx) {}
-    @Override
-    public void enterExpressionOrTemp(japyParser.ExpressionOrTempContext ctx) {}
-    @Override
-    public void exitExpressionOrTemp(japyParser.ExpressionOrTempContext ctx) {}
-    @Override
-    public void enterExpressionAnd(japyParser.ExpressionAndContext ctx) {}
-    @Override
-    public void exitExpressionAnd(japyParser.ExpressionAndContext ctx) {}
-    @Override
-    public void enterExpressionAndTemp(japyParser.ExpressionAndTempContext ctx) {}
-    @Override
-    public void exitExpressionAndTemp(japyParser.ExpressionAndTempContext ctx) {}
-    @Override
-    public void enterExpressionEq(japyParser.ExpressionEqContext ctx) {}
-    @Override
-    public void exitExpressionEq(japyParser.ExpressionEqContext ctx) {}
-    @Override
-    public void enterExpressionEqTemp(japyParser.ExpressionEqTempContext ctx) {}
-    @Override
-    public void exitExpressionEqTemp(japyParser.ExpressionEqTempContext ctx) {}
-    @Override
-    public void enterExpressionCmp(japyParser.ExpressionCmpContext ctx) {}
-    @Override
-    public void exitExpressionCmp(japyParser.ExpressionCmpContext ctx) {}
-    @Override
-    public void enterExpressionCmpTemp(japyParser.ExpressionCmpTempContext ctx) {}
-    @Override
-    public void exitExpressionCmpTemp(japyParser.ExpressionCmpTempContext ctx) {}
-    @Override
-    public void enterExpressionAdd(japyParser.ExpressionAddContext ctx) {}
-    @Override
-    public void exitExpressionAdd(japyParser.ExpressionAddContext ctx) {}
-    @Override
-    public void enterExpressionAddTemp(japyParser.ExpressionAddTempContext ctx) {}
-    @Override
-    public void exitExpressionAddTemp(japyParser.ExpressionAddTempContext ctx) {}
-    @Override
-    public void enterExpressionMultMod(japyParser.ExpressionMultModContext ctx) {}
-    @Override
-    public void exitExpressionMultMod(japyParser.ExpressionMultModContext ctx) {}
-    @Override
-    public void enterExpressionMultModTemp(japyParser.ExpressionMultModTempContext ctx) {}
-    @Override
-    public void exitExpressionMultModTemp(japyParser.ExpressionMultModTempContext ctx) {}
-    @Override
-    public void enterExpressionUnary(japyParser.ExpressionUnaryContext ctx) {}
-    @Override
-    public void exitExpressionUnary(japyParser.ExpressionUnaryContext ctx) {}
-    @Override
-    public void enterExpressionMethods(japyParser.ExpressionMethodsContext ctx) {}
-    @Override
-    public void exitExpressionMethods(japyParser.ExpressionMethodsContext ctx) {}
-    @Override
-    public void enterExpressionMethodsTemp(japyParser.ExpressionMethodsTempContext ctx) {}
-    @Override
-    public void exitExpressionMethodsTemp(japyParser.ExpressionMethodsTempContext ctx) {}
-    @Override
-    public void enterExpressionOther(japyParser.ExpressionOtherContext ctx) {}
-    @Override
-    public void exitExpressionOther(japyParser.ExpressionOtherContext ctx) {}
-    @Override
-    public void enterJapyType(japyParser.JapyTypeContext ctx) {}
-    @Override
-    public void exitJapyType(japyParser.JapyTypeContext ctx) {}
-    @Override
-    public void enterSingleType(japyParser.SingleTypeContext ctx) {}
-    @Override
-    public void exitSingleType(japyParser.SingleTypeContext ctx) {}
-    @Override
-    public void visitErrorNode(ErrorNode errorNode) {}
-    @Override
-    public void enterEveryRule(ParserRuleContext parserRuleContext) {}
-    @Override
-    public void exitEveryRule(ParserRuleContext parserRuleContext) {}
-}
\ No newline at end of file
+}
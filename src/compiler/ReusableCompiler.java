@@ -0,0 +1,111 @@
+package compiler;
+
+import gen.japyLexer;
+import gen.japyParser;
+import gen.japyPrecedenceParser;
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.atn.PredictionMode;
+
+import java.io.IOException;
+
+/*
+ * For compiling many sources on one thread: the ProgramPrinter and the buffer it prints into are reset between
+ * compiles instead of rebuilt, and Compiler.lower already runs on the thread's Recognizers. The output of a compile,
+ * syntax errors included, collects in `output` and its [parse] / [arena] reports in `reports` until finish().
+ */
+final class ReusableCompiler {
+    final MemorySink output = new MemorySink(null, OutputSink.BUFFER);
+    final MemorySink reports = new MemorySink(null, 256);
+    private final ANTLRErrorListener syntaxErrors = new SinkErrorListener(output);
+    private final ProgramPrinter printer;
+    // how much of `output` the lexer and parser reported, ahead of what the printer printed
+    private int syntaxErrorLength;
+
+    ReusableCompiler(OutputMode mode) {
+        printer = mode == OutputMode.DISCARD ? new ProgramPrinter(OutputSink.discard(), output) : new ProgramPrinter(output);
+    }
+
+    // compiles `source` with the rest of `options`
+    Ast.Program compile(CompilerOptions options, String source) throws IOException {
+        syntaxErrorLength = 0;
+        CompilerOptions compile = options.forSource(source, syntaxErrors);
+        compile.reports = reports;
+        Ast.Program program = Compiler.lower(compile);
+        syntaxErrorLength = output.length();
+        printer.visitProgram(program);
+        return program;
+    }
+
+    int syntaxErrorLength() {
+        return syntaxErrorLength;
+    }
+
+    // everything the last compile printed; the printer and the buffers start over, read `reports` before
+    String finish() {
+        String text = output.toString();
+        output.clear();
+        reports.clear();
+        printer.reset();
+        return text;
+    }
+}
+
+/*
+ * One lexer, token stream and parser per thread, pointed at each new input with setInputStream / setTokenSource /
+ * setTokenStream instead of being rebuilt. The generated recognizers keep their DFA and prediction context caches
+ * in static fields, so what one compile's adaptive prediction learns is there for every later compile on any thread.
+ */
+final class Recognizers {
+    private static final ThreadLocal<Recognizers> THREAD = ThreadLocal.withInitial(Recognizers::new);
+
+    private final japyLexer lexer = new japyLexer(null);
+    private final CommonTokenStream tokens = new CommonTokenStream(lexer);
+    private final japyParser parser = new japyParser(tokens);
+    // only made for --precedence compiles
+    private japyPrecedenceParser precedenceParser;
+
+    static Recognizers forThread() {
+        return THREAD.get();
+    }
+
+    japyLexer lexer(CharStream input, ANTLRErrorListener listener) {
+        lexer.setInputStream(input);
+        return Compiler.listen(lexer, listener);
+    }
+
+    CommonTokenStream tokens(TokenSource source) {
+        tokens.setTokenSource(source);
+        return tokens;
+    }
+
+    japyParser parser(ANTLRErrorListener listener) {
+        return start(parser, listener);
+    }
+
+    japyPrecedenceParser precedenceParser(ANTLRErrorListener listener) {
+        if (precedenceParser == null) precedenceParser = new japyPrecedenceParser(tokens);
+        return start(precedenceParser, listener);
+    }
+
+    // set up the way a new parser starts: full LL prediction, default recovery, building a parse tree
+    private <T extends Parser> T start(T parser, ANTLRErrorListener listener) {
+        parser.setTokenStream(tokens);
+        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        parser.setErrorHandler(new DefaultErrorStrategy());
+        parser.setBuildParseTree(true);
+        return Compiler.listen(parser, listener);
+    }
+
+    // lets go of the last compile's input and tokens, they would otherwise live until the thread's next compile
+    void release() {
+        parser.setTokenStream(null);
+        if (precedenceParser != null) precedenceParser.setTokenStream(null);
+        tokens.setTokenSource(lexer);
+        lexer.setInputStream(null);
+    }
+}
@@ -0,0 +1,121 @@
+package compiler;
+
+import java.util.Arrays;
+
+/*
+ * Open-addressing map from packed symbol keys (SymbolTable.key) to entries. Keys and values sit in arrays in
+ * the order they were first put, the hash table only holds indexes into those arrays, so walking 0..size()
+ * gives the same order a LinkedHashMap would and no node or boxed key is allocated per entry.
+ * There is no removal; put on a present key replaces the value in place.
+ */
+final class SymbolMap {
+    private static final int FREE = -1;
+    private static final int MIN_CAPACITY = 4;
+
+    private int[] slots;
+    private int[] keys;
+    private SymbolTableEntry[] values;
+    private int size;
+
+    SymbolMap() {
+        this(MIN_CAPACITY);
+    }
+
+    SymbolMap(int expected) {
+        int capacity = Math.max(MIN_CAPACITY, expected);
+        keys = new int[capacity];
+        values = new SymbolTableEntry[capacity];
+        slots = new int[tableSize(capacity)];
+        Arrays.fill(slots, FREE);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    // the key and value put index-th, in insertion order
+    int key(int index) {
+        return keys[index];
+    }
+
+    SymbolTableEntry value(int index) {
+        return values[index];
+    }
+
+    boolean containsKey(int key) {
+        return slots[find(key)] != FREE;
+    }
+
+    SymbolTableEntry get(int key) {
+        int index = slots[find(key)];
+        return index == FREE ? null : values[index];
+    }
+
+    // returns the value replaced, null if the key is new
+    SymbolTableEntry put(int key, SymbolTableEntry value) {
+        int slot = find(key);
+        int index = slots[slot];
+        if (index != FREE) {
+            SymbolTableEntry previous = values[index];
+            values[index] = value;
+            return previous;
+        }
+        append(slot, key, value);
+        return null;
+    }
+
+    // puts only if the key is absent; false if it was already there
+    boolean add(int key, SymbolTableEntry value) {
+        int slot = find(key);
+        if (slots[slot] != FREE) return false;
+        append(slot, key, value);
+        return true;
+    }
+
+    private void append(int slot, int key, SymbolTableEntry value) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        keys[size] = key;
+        values[size] = value;
+        slots[slot] = size++;
+        if (slots.length < tableSize(size)) rehash(tableSize(keys.length));
+    }
+
+    // linear probing; the slot holding key, or the free slot that ends its probe sequence
+    private int find(int key) {
+        int mask = slots.length - 1;
+        int slot = hash(key) & mask;
+        for (int index = slots[slot]; index != FREE && keys[index] != key; index = slots[slot]) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash(int length) {
+        slots = new int[length];
+        Arrays.fill(slots, FREE);
+        int mask = length - 1;
+        for (int index = 0; index < size; index++) {
+            int slot = hash(keys[index]) & mask;
+            while (slots[slot] != FREE) slot = (slot + 1) & mask;
+            slots[slot] = index;
+        }
+    }
+
+    // at most half full
+    private static int tableSize(int entries) {
+        return Integer.highestOneBit(entries * 2 - 1) << 1;
+    }
+
+    // keys are small dense ids shifted over the kind bits, so spread them before masking
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -1,13 +1,28 @@
 package compiler;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
 import java.util.*;
 
+// what a table key names; the prefix is only used to spell keys in the PHASE 2 dump
+enum SymbolKind {
+    CLASS("class_"),
+    FIELD("field_"),
+    FUNCTION("function_"),
+    VAR("var_"),
+    BLOCK("");
+
+    static final SymbolKind[] VALUES = values();
+    final String prefix;
+
+    SymbolKind(String prefix) {
+        this.prefix = prefix;
+    }
+}
+
 class SymbolTableEntry {
-    String name;
+    final Names names;
+    int name;
     String accessModifier;
-    String type;
+    int type;
     List<String> attributes = new ArrayList<>();
     int startLine;
     int stopLine;
@@ -18,7 +33,8 @@ class SymbolTableEntry {
     int size;
     ArrayList<Parameter> parametersList = new ArrayList<>();
 
-    SymbolTableEntry(String name, String accessModifier, String type, int startLine, int stopLine) {
+    SymbolTableEntry(Names names, int name, String accessModifier, int type, int startLine, int stopLine) {
+        this.names = names;
         this.name = name;
         this.accessModifier = accessModifier;
         this.type = type;
@@ -48,6 +64,14 @@ class SymbolTableEntry {
         parametersList.add(p);
     }
 
+    String name() {
+        return names.name(name);
+    }
+
+    String type() {
+        return names.name(type);
+    }
+
     int getStartLine() {
         return startLine;
     }
@@ -60,14 +84,14 @@ class SymbolTableEntry {
     public String toString() {
         StringBuilder sb = new StringBuilder();
 
-        sb.append("(name: ").append(name).append(") ");
+        sb.append("(name: ").append(name()).append(") ");
         if (block) {
-            sb.append("(first_appearance:").append(this.first_appearance).append(") ").append("(type: ").append(type).append(")");
+            sb.append("(first_appearance:").append(this.first_appearance).append(") ").append("(type: ").append(type()).append(")");
             return sb.toString();
         }
 
         sb.append("(accessModifier: ").append(accessModifier).append(") ");
-        if (Objects.equals(type, "class")) {
+        if (Objects.equals(type(), "class")) {
             for (String attribute : attributes) {
                 sb.append("(").append(attribute).append(") ");
             }
@@ -76,7 +100,7 @@ class SymbolTableEntry {
             return sb.toString();
         }
 
-        if (!Objects.equals(type, "method")) sb.append("(type: ").append(type).append(") ");
+        if (!Objects.equals(type(), "method")) sb.append("(type: ").append(type()).append(") ");
         for (String attribute : attributes) {
             if (attribute.contains("parameter")) {
                 sb.append("\n").append(attribute);
@@ -89,33 +113,65 @@ class SymbolTableEntry {
     }
 }
 
+// entries keyed by (kind, name id) packed into one int
 class SymbolTable {
-    Map<String, SymbolTableEntry> table = new LinkedHashMap<>();
+    private static final int KIND_BITS = 3;
+
+    final Names names;
+    SymbolMap table = new SymbolMap();
+    SymbolMap declared = new SymbolMap();
+    // ids of the block scopes opened directly in this one, in creation order; their entries are in `table`
+    List<Integer> blocks = new ArrayList<>();
+
+    SymbolTable(Names names) {
+        this.names = names;
+    }
 
+    static int key(SymbolKind kind, int name) {
+        return name << KIND_BITS | kind.ordinal();
+    }
 
-    void insert(String key, SymbolTableEntry value) {
-        table.put(key, value);
+    void insert(SymbolKind kind, int name, SymbolTableEntry value) {
+        table.put(key(kind, name), value);
     }
 
-    SymbolTableEntry lookup(String key) {
-        return table.get(key);
+    // returns false if a symbol of this kind was already declared under the same name
+    boolean declare(SymbolKind kind, int name) {
+        return declared.add(key(kind, name), null);
     }
 
+    SymbolTableEntry lookup(SymbolKind kind, int name) {
+        return name == Names.NONE ? null : table.get(key(kind, name));
+    }
+
+    // the key as the PHASE 2 dump spells it, e.g. class_A
+    String keyText(int key) {
+        return SymbolKind.VALUES[key & (1 << KIND_BITS) - 1].prefix + names.name(key >>> KIND_BITS);
+    }
+
+    // print() stops at the first key that spells a nested scope, so a table that starts with one prints nothing
+    boolean printsEmpty() {
+        if (table.isEmpty()) return true;
+        return endsListing(keyText(table.key(0)));
+    }
+
+    void print(OutputSink out) {
+        for (int i = 0; i < table.size(); i++) {
+            String key = keyText(table.key(i));
+            if (endsListing(key)) return;
+            out.println("key = " + key + ", value = " + table.value(i));
+        }
+    }
+
+    private static boolean endsListing(String key) {
+        return key.contains("if") || key.contains("while");
+    }
 
     @Override
     public String toString() {
-        StringBuilder result = new StringBuilder();
-        for (Map.Entry<String, SymbolTableEntry> entry : table.entrySet()) {
-            if (entry.getKey().equals("parameters")) {
-                result.append("parameters: ").append(entry.getValue());
-                return result.toString();
-            }
-            if (entry.getKey().contains("if") || entry.getKey().contains("while")) {
-                return result.toString();
-            }
-            result.append("key = ").append(entry.getKey()).append(", value = ").append(entry.getValue().toString()).append("\n");
-        }
-        return result.toString();
+        OutputSink text = OutputSink.memory();
+        print(text);
+        return text.toString();
     }
 }
 
@@ -130,3 +186,15 @@ class Parameter {
         this.type = type;
     }
 }
+
+class Scope {
+    int name;
+    String kind;
+    SymbolTable table;
+
+    Scope(int name, String kind, SymbolTable table) {
+        this.name = name;
+        this.kind = kind;
+        this.table = table;
+    }
+}
@@ -0,0 +1,2456 @@
+// Generated from japyPrecedenceParser.g4 by ANTLR 4.13.1
+package gen;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast", "CheckReturnValue"})
+public class japyPrecedenceParser extends Parser {
+	static { RuntimeMetaData.checkVersion("4.13.1", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		T__0=1, T__1=2, T__2=3, T__3=4, T__4=5, T__5=6, T__6=7, T__7=8, T__8=9, 
+		T__9=10, T__10=11, T__11=12, T__12=13, T__13=14, T__14=15, T__15=16, T__16=17, 
+		T__17=18, T__18=19, T__19=20, T__20=21, T__21=22, T__22=23, T__23=24, 
+		T__24=25, T__25=26, T__26=27, T__27=28, T__28=29, T__29=30, T__30=31, 
+		T__31=32, T__32=33, T__33=34, T__34=35, T__35=36, T__36=37, T__37=38, 
+		T__38=39, T__39=40, T__40=41, T__41=42, T__42=43, T__43=44, T__44=45, 
+		T__45=46, T__46=47, T__47=48, T__48=49, CONST_NUM=50, CONST_STR=51, NL=52, 
+		ID=53, COMMENT=54, MULTILINE_COMMENT=55, WS=56;
+	public static final int
+		RULE_program = 0, RULE_classDeclaration = 1, RULE_entryClassDeclaration = 2, 
+		RULE_fieldDeclaration = 3, RULE_access_modifier = 4, RULE_methodDeclaration = 5, 
+		RULE_closedStatement = 6, RULE_closedConditional = 7, RULE_openConditional = 8, 
+		RULE_openStatement = 9, RULE_statement = 10, RULE_statementVarDef = 11, 
+		RULE_statementBlock = 12, RULE_statementContinue = 13, RULE_statementBreak = 14, 
+		RULE_statementReturn = 15, RULE_statementClosedLoop = 16, RULE_statementOpenLoop = 17, 
+		RULE_statementWrite = 18, RULE_statementAssignment = 19, RULE_statementInc = 20, 
+		RULE_statementDec = 21, RULE_expression = 22, RULE_japyType = 23, RULE_singleType = 24;
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"program", "classDeclaration", "entryClassDeclaration", "fieldDeclaration", 
+			"access_modifier", "methodDeclaration", "closedStatement", "closedConditional", 
+			"openConditional", "openStatement", "statement", "statementVarDef", "statementBlock", 
+			"statementContinue", "statementBreak", "statementReturn", "statementClosedLoop", 
+			"statementOpenLoop", "statementWrite", "statementAssignment", "statementInc", 
+			"statementDec", "expression", "japyType", "singleType"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, "'class'", "'inherits'", "'begin'", "'end'", "'MAIN'", "'field'", 
+			"','", "'public'", "'private'", "'protected'", "'func'", "'('", "':'", 
+			"')'", "'returns'", "'if'", "'elif'", "'else'", "'var'", "'='", "'continue'", 
+			"'break'", "'return'", "'while'", "'sout'", "'++'", "'--'", "'||'", "'&&'", 
+			"'=='", "'<>'", "'<'", "'>'", "'+'", "'-'", "'*'", "'/'", "'%'", "'!'", 
+			"'.'", "'['", "']'", "'new'", "'this'", "'true'", "'false'", "'double'", 
+			"'bool'", "'string'"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, null, null, null, null, null, null, null, null, null, null, null, 
+			null, null, null, null, null, null, null, null, null, null, null, null, 
+			null, null, null, null, null, null, null, null, null, null, null, null, 
+			null, null, null, null, null, null, null, null, null, null, null, null, 
+			null, null, "CONST_NUM", "CONST_STR", "NL", "ID", "COMMENT", "MULTILINE_COMMENT", 
+			"WS"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "japyPrecedenceParser.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public japyPrecedenceParser(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class ProgramContext extends ParserRuleContext {
+		public ClassDeclarationContext c1;
+		public EntryClassDeclarationContext mainclass;
+		public ClassDeclarationContext c3;
+		public TerminalNode EOF() { return getToken(japyPrecedenceParser.EOF, 0); }
+		public EntryClassDeclarationContext entryClassDeclaration() {
+			return getRuleContext(EntryClassDeclarationContext.class,0);
+		}
+		public List<ClassDeclarationContext> classDeclaration() {
+			return getRuleContexts(ClassDeclarationContext.class);
+		}
+		public ClassDeclarationContext classDeclaration(int i) {
+			return getRuleContext(ClassDeclarationContext.class,i);
+		}
+		public ProgramContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_program; }
+	}
+
+	public final ProgramContext program() throws RecognitionException {
+		ProgramContext _localctx = new ProgramContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_program);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(53);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 1794L) != 0)) {
+				{
+				{
+				setState(50);
+				((ProgramContext)_localctx).c1 = classDeclaration();
+				}
+				}
+				setState(55);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(56);
+			((ProgramContext)_localctx).mainclass = entryClassDeclaration();
+			setState(60);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 1794L) != 0)) {
+				{
+				{
+				setState(57);
+				((ProgramContext)_localctx).c3 = classDeclaration();
+				}
+				}
+				setState(62);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(63);
+			match(EOF);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class ClassDeclarationContext extends ParserRuleContext {
+		public Token className;
+		public Token classParent;
+		public List<TerminalNode> ID() { return getTokens(japyPrecedenceParser.ID); }
+		public TerminalNode ID(int i) {
+			return getToken(japyPrecedenceParser.ID, i);
+		}
+		public Access_modifierContext access_modifier() {
+			return getRuleContext(Access_modifierContext.class,0);
+		}
+		public List<FieldDeclarationContext> fieldDeclaration() {
+			return getRuleContexts(FieldDeclarationContext.class);
+		}
+		public FieldDeclarationContext fieldDeclaration(int i) {
+			return getRuleContext(FieldDeclarationContext.class,i);
+		}
+		public List<MethodDeclarationContext> methodDeclaration() {
+			return getRuleContexts(MethodDeclarationContext.class);
+		}
+		public MethodDeclarationContext methodDeclaration(int i) {
+			return getRuleContext(MethodDeclarationContext.class,i);
+		}
+		public ClassDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_classDeclaration; }
+	}
+
+	public final ClassDeclarationContext classDeclaration() throws RecognitionException {
+		ClassDeclarationContext _localctx = new ClassDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_classDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(66);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 1792L) != 0)) {
+				{
+				setState(65);
+				access_modifier();
+				}
+			}
+
+			setState(68);
+			match(T__0);
+			setState(69);
+			((ClassDeclarationContext)_localctx).className = match(ID);
+			setState(72);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==T__1) {
+				{
+				setState(70);
+				match(T__1);
+				setState(71);
+				((ClassDeclarationContext)_localctx).classParent = match(ID);
+				}
+			}
+
+			setState(74);
+			match(T__2);
+			setState(79);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 3904L) != 0)) {
+				{
+				setState(77);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,4,_ctx) ) {
+				case 1:
+					{
+					setState(75);
+					fieldDeclaration();
+					}
+					break;
+				case 2:
+					{
+					setState(76);
+					methodDeclaration();
+					}
+					break;
+				}
+				}
+				setState(81);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(82);
+			match(T__3);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class EntryClassDeclarationContext extends ParserRuleContext {
+		public ClassDeclarationContext classDeclaration() {
+			return getRuleContext(ClassDeclarationContext.class,0);
+		}
+		public EntryClassDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_entryClassDeclaration; }
+	}
+
+	public final EntryClassDeclarationContext entryClassDeclaration() throws RecognitionException {
+		EntryClassDeclarationContext _localctx = new EntryClassDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_entryClassDeclaration);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			{
+			setState(84);
+			match(T__4);
+			}
+			setState(85);
+			classDeclaration();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class FieldDeclarationContext extends ParserRuleContext {
+		public JapyTypeContext fieldType;
+		public Token fieldName;
+		public Token ii;
+		public JapyTypeContext japyType() {
+			return getRuleContext(JapyTypeContext.class,0);
+		}
+		public List<TerminalNode> ID() { return getTokens(japyPrecedenceParser.ID); }
+		public TerminalNode ID(int i) {
+			return getToken(japyPrecedenceParser.ID, i);
+		}
+		public Access_modifierContext access_modifier() {
+			return getRuleContext(Access_modifierContext.class,0);
+		}
+		public FieldDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_fieldDeclaration; }
+	}
+
+	public final FieldDeclarationContext fieldDeclaration() throws RecognitionException {
+		FieldDeclarationContext _localctx = new FieldDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_fieldDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(88);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 1792L) != 0)) {
+				{
+				setState(87);
+				access_modifier();
+				}
+			}
+
+			setState(90);
+			match(T__5);
+			setState(91);
+			((FieldDeclarationContext)_localctx).fieldType = japyType();
+			setState(92);
+			((FieldDeclarationContext)_localctx).fieldName = match(ID);
+			setState(97);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__6) {
+				{
+				{
+				setState(93);
+				match(T__6);
+				setState(94);
+				((FieldDeclarationContext)_localctx).ii = match(ID);
+				}
+				}
+				setState(99);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class Access_modifierContext extends ParserRuleContext {
+		public Access_modifierContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_access_modifier; }
+	}
+
+	public final Access_modifierContext access_modifier() throws RecognitionException {
+		Access_modifierContext _localctx = new Access_modifierContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_access_modifier);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(100);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 1792L) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class MethodDeclarationContext extends ParserRuleContext {
+		public Access_modifierContext methodAccessModifier;
+		public Token methodName;
+		public Token param1;
+		public JapyTypeContext typeP1;
+		public Token param2;
+		public JapyTypeContext typeP2;
+		public JapyTypeContext t;
+		public StatementContext s;
+		public List<TerminalNode> ID() { return getTokens(japyPrecedenceParser.ID); }
+		public TerminalNode ID(int i) {
+			return getToken(japyPrecedenceParser.ID, i);
+		}
+		public List<JapyTypeContext> japyType() {
+			return getRuleContexts(JapyTypeContext.class);
+		}
+		public JapyTypeContext japyType(int i) {
+			return getRuleContext(JapyTypeContext.class,i);
+		}
+		public Access_modifierContext access_modifier() {
+			return getRuleContext(Access_modifierContext.class,0);
+		}
+		public List<StatementContext> statement() {
+			return getRuleContexts(StatementContext.class);
+		}
+		public StatementContext statement(int i) {
+			return getRuleContext(StatementContext.class,i);
+		}
+		public MethodDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_methodDeclaration; }
+	}
+
+	public final MethodDeclarationContext methodDeclaration() throws RecognitionException {
+		MethodDeclarationContext _localctx = new MethodDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_methodDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(103);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 1792L) != 0)) {
+				{
+				setState(102);
+				((MethodDeclarationContext)_localctx).methodAccessModifier = access_modifier();
+				}
+			}
+
+			setState(105);
+			match(T__10);
+			setState(106);
+			((MethodDeclarationContext)_localctx).methodName = match(ID);
+			setState(107);
+			match(T__11);
+			setState(120);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==ID) {
+				{
+				setState(108);
+				((MethodDeclarationContext)_localctx).param1 = match(ID);
+				setState(109);
+				match(T__12);
+				setState(110);
+				((MethodDeclarationContext)_localctx).typeP1 = japyType();
+				setState(117);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==T__6) {
+					{
+					{
+					setState(111);
+					match(T__6);
+					setState(112);
+					((MethodDeclarationContext)_localctx).param2 = match(ID);
+					setState(113);
+					match(T__12);
+					setState(114);
+					((MethodDeclarationContext)_localctx).typeP2 = japyType();
+					}
+					}
+					setState(119);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				}
+			}
+
+			setState(122);
+			match(T__13);
+			setState(123);
+			match(T__14);
+			setState(124);
+			((MethodDeclarationContext)_localctx).t = japyType();
+			setState(125);
+			match(T__2);
+			setState(129);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 12517424551759880L) != 0)) {
+				{
+				{
+				setState(126);
+				((MethodDeclarationContext)_localctx).s = statement();
+				}
+				}
+				setState(131);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(132);
+			match(T__3);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class ClosedStatementContext extends ParserRuleContext {
+		public StatementBlockContext s1;
+		public ClosedConditionalContext conditionalStat;
+		public StatementClosedLoopContext s3;
+		public StatementWriteContext s4;
+		public StatementAssignmentContext s5;
+		public StatementReturnContext s6;
+		public StatementVarDefContext s7;
+		public StatementContinueContext s8;
+		public StatementBreakContext s9;
+		public StatementIncContext incStat;
+		public StatementDecContext decStat;
+		public StatementBlockContext statementBlock() {
+			return getRuleContext(StatementBlockContext.class,0);
+		}
+		public ClosedConditionalContext closedConditional() {
+			return getRuleContext(ClosedConditionalContext.class,0);
+		}
+		public StatementClosedLoopContext statementClosedLoop() {
+			return getRuleContext(StatementClosedLoopContext.class,0);
+		}
+		public StatementWriteContext statementWrite() {
+			return getRuleContext(StatementWriteContext.class,0);
+		}
+		public StatementAssignmentContext statementAssignment() {
+			return getRuleContext(StatementAssignmentContext.class,0);
+		}
+		public StatementReturnContext statementReturn() {
+			return getRuleContext(StatementReturnContext.class,0);
+		}
+		public StatementVarDefContext statementVarDef() {
+			return getRuleContext(StatementVarDefContext.class,0);
+		}
+		public StatementContinueContext statementContinue() {
+			return getRuleContext(StatementContinueContext.class,0);
+		}
+		public StatementBreakContext statementBreak() {
+			return getRuleContext(StatementBreakContext.class,0);
+		}
+		public StatementIncContext statementInc() {
+			return getRuleContext(StatementIncContext.class,0);
+		}
+		public StatementDecContext statementDec() {
+			return getRuleContext(StatementDecContext.class,0);
+		}
+		public ClosedStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_closedStatement; }
+	}
+
+	public final ClosedStatementContext closedStatement() throws RecognitionException {
+		ClosedStatementContext _localctx = new ClosedStatementContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_closedStatement);
+		try {
+			setState(145);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,12,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(134);
+				((ClosedStatementContext)_localctx).s1 = statementBlock();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(135);
+				((ClosedStatementContext)_localctx).conditionalStat = closedConditional();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(136);
+				((ClosedStatementContext)_localctx).s3 = statementClosedLoop();
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(137);
+				((ClosedStatementContext)_localctx).s4 = statementWrite();
+				}
+				break;
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(138);
+				((ClosedStatementContext)_localctx).s5 = statementAssignment();
+				}
+				break;
+			case 6:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(139);
+				((ClosedStatementContext)_localctx).s6 = statementReturn();
+				}
+				break;
+			case 7:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(140);
+				((ClosedStatementContext)_localctx).s7 = statementVarDef();
+				}
+				break;
+			case 8:
+				enterOuterAlt(_localctx, 8);
+				{
+				setState(141);
+				((ClosedStatementContext)_localctx).s8 = statementContinue();
+				}
+				break;
+			case 9:
+				enterOuterAlt(_localctx, 9);
+				{
+				setState(142);
+				((ClosedStatementContext)_localctx).s9 = statementBreak();
+				}
+				break;
+			case 10:
+				enterOuterAlt(_localctx, 10);
+				{
+				setState(143);
+				((ClosedStatementContext)_localctx).incStat = statementInc();
+				}
+				break;
+			case 11:
+				enterOuterAlt(_localctx, 11);
+				{
+				setState(144);
+				((ClosedStatementContext)_localctx).decStat = statementDec();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class ClosedConditionalContext extends ParserRuleContext {
+		public ExpressionContext ifExp;
+		public ClosedStatementContext ifStat;
+		public ExpressionContext elifExp;
+		public ClosedStatementContext elifStat;
+		public ClosedStatementContext elseStmt;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public List<ClosedStatementContext> closedStatement() {
+			return getRuleContexts(ClosedStatementContext.class);
+		}
+		public ClosedStatementContext closedStatement(int i) {
+			return getRuleContext(ClosedStatementContext.class,i);
+		}
+		public ClosedConditionalContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_closedConditional; }
+	}
+
+	public final ClosedConditionalContext closedConditional() throws RecognitionException {
+		ClosedConditionalContext _localctx = new ClosedConditionalContext(_ctx, getState());
+		enterRule(_localctx, 14, RULE_closedConditional);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(147);
+			match(T__15);
+			setState(148);
+			match(T__11);
+			setState(149);
+			((ClosedConditionalContext)_localctx).ifExp = expression(0);
+			setState(150);
+			match(T__13);
+			setState(151);
+			((ClosedConditionalContext)_localctx).ifStat = closedStatement();
+			setState(160);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__16) {
+				{
+				{
+				setState(152);
+				match(T__16);
+				setState(153);
+				match(T__11);
+				setState(154);
+				((ClosedConditionalContext)_localctx).elifExp = expression(0);
+				setState(155);
+				match(T__13);
+				setState(156);
+				((ClosedConditionalContext)_localctx).elifStat = closedStatement();
+				}
+				}
+				setState(162);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(163);
+			match(T__17);
+			setState(164);
+			((ClosedConditionalContext)_localctx).elseStmt = closedStatement();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class OpenConditionalContext extends ParserRuleContext {
+		public ExpressionContext ifExp;
+		public StatementContext ifStat;
+		public ClosedStatementContext secondIfStat;
+		public ExpressionContext elifExp;
+		public ClosedStatementContext elifStat;
+		public ExpressionContext lastElifExp;
+		public StatementContext lastElifStmt;
+		public ClosedStatementContext thirdIfStat;
+		public OpenStatementContext elseStmt;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public StatementContext statement() {
+			return getRuleContext(StatementContext.class,0);
+		}
+		public List<ClosedStatementContext> closedStatement() {
+			return getRuleContexts(ClosedStatementContext.class);
+		}
+		public ClosedStatementContext closedStatement(int i) {
+			return getRuleContext(ClosedStatementContext.class,i);
+		}
+		public OpenStatementContext openStatement() {
+			return getRuleContext(OpenStatementContext.class,0);
+		}
+		public OpenConditionalContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_openConditional; }
+	}
+
+	public final OpenConditionalContext openConditional() throws RecognitionException {
+		OpenConditionalContext _localctx = new OpenConditionalContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_openConditional);
+		int _la;
+		try {
+			int _alt;
+			setState(213);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,16,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(166);
+				match(T__15);
+				setState(167);
+				match(T__11);
+				setState(168);
+				((OpenConditionalContext)_localctx).ifExp = expression(0);
+				setState(169);
+				match(T__13);
+				setState(170);
+				((OpenConditionalContext)_localctx).ifStat = statement();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				{
+				setState(172);
+				match(T__15);
+				setState(173);
+				match(T__11);
+				setState(174);
+				((OpenConditionalContext)_localctx).ifExp = expression(0);
+				setState(175);
+				match(T__13);
+				setState(176);
+				((OpenConditionalContext)_localctx).secondIfStat = closedStatement();
+				setState(185);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,14,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(177);
+						match(T__16);
+						setState(178);
+						match(T__11);
+						setState(179);
+						((OpenConditionalContext)_localctx).elifExp = expression(0);
+						setState(180);
+						match(T__13);
+						setState(181);
+						((OpenConditionalContext)_localctx).elifStat = closedStatement();
+						}
+						} 
+					}
+					setState(187);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,14,_ctx);
+				}
+				setState(188);
+				match(T__16);
+				setState(189);
+				match(T__11);
+				setState(190);
+				((OpenConditionalContext)_localctx).lastElifExp = expression(0);
+				setState(191);
+				match(T__13);
+				setState(192);
+				((OpenConditionalContext)_localctx).lastElifStmt = statement();
+				}
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				{
+				setState(194);
+				match(T__15);
+				setState(195);
+				match(T__11);
+				setState(196);
+				((OpenConditionalContext)_localctx).ifExp = expression(0);
+				setState(197);
+				match(T__13);
+				setState(198);
+				((OpenConditionalContext)_localctx).thirdIfStat = closedStatement();
+				setState(207);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==T__16) {
+					{
+					{
+					setState(199);
+					match(T__16);
+					setState(200);
+					match(T__11);
+					setState(201);
+					((OpenConditionalContext)_localctx).elifExp = expression(0);
+					setState(202);
+					match(T__13);
+					setState(203);
+					((OpenConditionalContext)_localctx).elifStat = closedStatement();
+					}
+					}
+					setState(209);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(210);
+				match(T__17);
+				setState(211);
+				((OpenConditionalContext)_localctx).elseStmt = openStatement();
+				}
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class OpenStatementContext extends ParserRuleContext {
+		public StatementOpenLoopContext s1;
+		public OpenConditionalContext conditionalStat;
+		public StatementOpenLoopContext statementOpenLoop() {
+			return getRuleContext(StatementOpenLoopContext.class,0);
+		}
+		public OpenConditionalContext openConditional() {
+			return getRuleContext(OpenConditionalContext.class,0);
+		}
+		public OpenStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_openStatement; }
+	}
+
+	public final OpenStatementContext openStatement() throws RecognitionException {
+		OpenStatementContext _localctx = new OpenStatementContext(_ctx, getState());
+		enterRule(_localctx, 18, RULE_openStatement);
+		try {
+			setState(217);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case T__23:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(215);
+				((OpenStatementContext)_localctx).s1 = statementOpenLoop();
+				}
+				break;
+			case T__15:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(216);
+				((OpenStatementContext)_localctx).conditionalStat = openConditional();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class StatementContext extends ParserRuleContext {
+		public ClosedStatementContext s1;
+		public OpenStatementContext s2;
+		public ClosedStatementContext closedStatement() {
+			return getRuleContext(ClosedStatementContext.class,0);
+		}
+		public OpenStatementContext openStatement() {
+			return getRuleContext(OpenStatementContext.class,0);
+		}
+		public StatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statement; }
+	}
+
+	public final StatementContext statement() throws RecognitionException {
+		StatementContext _localctx = new StatementContext(_ctx, getState());
+		enterRule(_localctx, 20, RULE_statement);
+		try {
+			setState(221);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,18,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(219);
+				((StatementContext)_localctx).s1 = closedStatement();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(220);
+				((StatementContext)_localctx).s2 = openStatement();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class StatementVarDefContext extends ParserRuleContext {
+		public Token i1;
+		public ExpressionContext e1;
+		public Token i2;
+		public ExpressionContext e2;
+		public List<TerminalNode> ID() { return getTokens(japyPrecedenceParser.ID); }
+		public TerminalNode ID(int i) {
+			return getToken(japyPrecedenceParser.ID, i);
+		}
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public StatementVarDefContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statementVarDef; }
+	}
+
+	public final StatementVarDefContext statementVarDef() throws RecognitionException {
+		StatementVarDefContext _localctx = new StatementVarDefContext(_ctx, getState());
+		enterRule(_localctx, 22, RULE_statementVarDef);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(223);
+			match(T__18);
+			setState(224);
+			((StatementVarDefContext)_localctx).i1 = match(ID);
+			setState(225);
+			match(T__19);
+			setState(226);
+			((StatementVarDefContext)_localctx).e1 = expression(0);
+			setState(233);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__6) {
+				{
+				{
+				setState(227);
+				match(T__6);
+				setState(228);
+				((StatementVarDefContext)_localctx).i2 = match(ID);
+				setState(229);
+				match(T__19);
+				setState(230);
+				((StatementVarDefContext)_localctx).e2 = expression(0);
+				}
+				}
+				setState(235);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class StatementBlockContext extends ParserRuleContext {
+		public StatementContext s;
+		public List<StatementContext> statement() {
+			return getRuleContexts(StatementContext.class);
+		}
+		public StatementContext statement(int i) {
+			return getRuleContext(StatementContext.class,i);
+		}
+		public StatementBlockContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statementBlock; }
+	}
+
+	public final StatementBlockContext statementBlock() throws RecognitionException {
+		StatementBlockContext _localctx = new StatementBlockContext(_ctx, getState());
+		enterRule(_localctx, 24, RULE_statementBlock);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(236);
+			match(T__2);
+			setState(240);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 12517424551759880L) != 0)) {
+				{
+				{
+				setState(237);
+				((StatementBlockContext)_localctx).s = statement();
+				}
+				}
+				setState(242);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(243);
+			match(T__3);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class StatementContinueContext extends ParserRuleContext {
+		public Token myContinue;
+		public StatementContinueContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statementContinue; }
+	}
+
+	public final StatementContinueContext statementContinue() throws RecognitionException {
+		StatementContinueContext _localctx = new StatementContinueContext(_ctx, getState());
+		enterRule(_localctx, 26, RULE_statementContinue);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(245);
+			((StatementContinueContext)_localctx).myContinue = match(T__20);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class StatementBreakContext extends ParserRuleContext {
+		public Token myBreak;
+		public StatementBreakContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statementBreak; }
+	}
+
+	public final StatementBreakContext statementBreak() throws RecognitionException {
+		StatementBreakContext _localctx = new StatementBreakContext(_ctx, getState());
+		enterRule(_localctx, 28, RULE_statementBreak);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(247);
+			((StatementBreakContext)_localctx).myBreak = match(T__21);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class StatementReturnContext extends ParserRuleContext {
+		public Token myReturn;
+		public ExpressionContext e;
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public StatementReturnContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statementReturn; }
+	}
+
+	public final StatementReturnContext statementReturn() throws RecognitionException {
+		StatementReturnContext _localctx = new StatementReturnContext(_ctx, getState());
+		enterRule(_localctx, 30, RULE_statementReturn);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(249);
+			((StatementReturnContext)_localctx).myReturn = match(T__22);
+			setState(250);
+			((StatementReturnContext)_localctx).e = expression(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class StatementClosedLoopContext extends ParserRuleContext {
+		public ExpressionContext e;
+		public ClosedStatementContext s;
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public ClosedStatementContext closedStatement() {
+			return getRuleContext(ClosedStatementContext.class,0);
+		}
+		public StatementClosedLoopContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statementClosedLoop; }
+	}
+
+	public final StatementClosedLoopContext statementClosedLoop() throws RecognitionException {
+		StatementClosedLoopContext _localctx = new StatementClosedLoopContext(_ctx, getState());
+		enterRule(_localctx, 32, RULE_statementClosedLoop);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(252);
+			match(T__23);
+			setState(253);
+			match(T__11);
+			setState(254);
+			((StatementClosedLoopContext)_localctx).e = expression(0);
+			setState(255);
+			match(T__13);
+			setState(256);
+			((StatementClosedLoopContext)_localctx).s = closedStatement();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class StatementOpenLoopContext extends ParserRuleContext {
+		public ExpressionContext e;
+		public OpenStatementContext s;
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public OpenStatementContext openStatement() {
+			return getRuleContext(OpenStatementContext.class,0);
+		}
+		public StatementOpenLoopContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statementOpenLoop; }
+	}
+
+	public final StatementOpenLoopContext statementOpenLoop() throws RecognitionException {
+		StatementOpenLoopContext _localctx = new StatementOpenLoopContext(_ctx, getState());
+		enterRule(_localctx, 34, RULE_statementOpenLoop);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(258);
+			match(T__23);
+			setState(259);
+			match(T__11);
+			setState(260);
+			((StatementOpenLoopContext)_localctx).e = expression(0);
+			setState(261);
+			match(T__13);
+			setState(262);
+			((StatementOpenLoopContext)_localctx).s = openStatement();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class StatementWriteContext extends ParserRuleContext {
+		public Token printLine;
+		public ExpressionContext e;
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public StatementWriteContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statementWrite; }
+	}
+
+	public final StatementWriteContext statementWrite() throws RecognitionException {
+		StatementWriteContext _localctx = new StatementWriteContext(_ctx, getState());
+		enterRule(_localctx, 36, RULE_statementWrite);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(264);
+			((StatementWriteContext)_localctx).printLine = match(T__24);
+			setState(265);
+			match(T__11);
+			setState(266);
+			((StatementWriteContext)_localctx).e = expression(0);
+			setState(267);
+			match(T__13);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class StatementAssignmentContext extends ParserRuleContext {
+		public ExpressionContext left;
+		public Token assignOp;
+		public ExpressionContext right;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public StatementAssignmentContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statementAssignment; }
+	}
+
+	public final StatementAssignmentContext statementAssignment() throws RecognitionException {
+		StatementAssignmentContext _localctx = new StatementAssignmentContext(_ctx, getState());
+		enterRule(_localctx, 38, RULE_statementAssignment);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(269);
+			((StatementAssignmentContext)_localctx).left = expression(0);
+			setState(270);
+			((StatementAssignmentContext)_localctx).assignOp = match(T__19);
+			setState(271);
+			((StatementAssignmentContext)_localctx).right = expression(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class StatementIncContext extends ParserRuleContext {
+		public ExpressionContext lvalExpr;
+		public Token incOp;
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public StatementIncContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statementInc; }
+	}
+
+	public final StatementIncContext statementInc() throws RecognitionException {
+		StatementIncContext _localctx = new StatementIncContext(_ctx, getState());
+		enterRule(_localctx, 40, RULE_statementInc);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(273);
+			((StatementIncContext)_localctx).lvalExpr = expression(0);
+			setState(274);
+			((StatementIncContext)_localctx).incOp = match(T__25);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class StatementDecContext extends ParserRuleContext {
+		public ExpressionContext lvalExpr;
+		public Token decOp;
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public StatementDecContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statementDec; }
+	}
+
+	public final StatementDecContext statementDec() throws RecognitionException {
+		StatementDecContext _localctx = new StatementDecContext(_ctx, getState());
+		enterRule(_localctx, 42, RULE_statementDec);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(276);
+			((StatementDecContext)_localctx).lvalExpr = expression(0);
+			setState(277);
+			((StatementDecContext)_localctx).decOp = match(T__26);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class ExpressionContext extends ParserRuleContext {
+		public ExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expression; }
+	 
+		public ExpressionContext() { }
+		public void copyFrom(ExpressionContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class BinaryExpressionContext extends ExpressionContext {
+		public ExpressionContext left;
+		public Token op;
+		public ExpressionContext right;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public BinaryExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class NewObjectExpressionContext extends ExpressionContext {
+		public Token type;
+		public TerminalNode ID() { return getToken(japyPrecedenceParser.ID, 0); }
+		public NewObjectExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class CallExpressionContext extends ExpressionContext {
+		public ExpressionContext target;
+		public Token name;
+		public ExpressionContext expression;
+		public List<ExpressionContext> args = new ArrayList<ExpressionContext>();
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public TerminalNode ID() { return getToken(japyPrecedenceParser.ID, 0); }
+		public CallExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class FieldExpressionContext extends ExpressionContext {
+		public ExpressionContext target;
+		public Token name;
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode ID() { return getToken(japyPrecedenceParser.ID, 0); }
+		public FieldExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class FunctionCallExpressionContext extends ExpressionContext {
+		public Token name;
+		public ExpressionContext expression;
+		public List<ExpressionContext> args = new ArrayList<ExpressionContext>();
+		public TerminalNode ID() { return getToken(japyPrecedenceParser.ID, 0); }
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public FunctionCallExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class NewArrayExpressionContext extends ExpressionContext {
+		public SingleTypeContext st;
+		public ExpressionContext size;
+		public SingleTypeContext singleType() {
+			return getRuleContext(SingleTypeContext.class,0);
+		}
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public NewArrayExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class ParenExpressionContext extends ExpressionContext {
+		public ExpressionContext inner;
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public ParenExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class IndexExpressionContext extends ExpressionContext {
+		public ExpressionContext target;
+		public ExpressionContext index;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public IndexExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class UnaryExpressionContext extends ExpressionContext {
+		public Token op;
+		public ExpressionContext operand;
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public UnaryExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class LiteralExpressionContext extends ExpressionContext {
+		public Token n;
+		public Token s;
+		public Token selfModifier;
+		public Token trueModifier;
+		public Token falseModifier;
+		public TerminalNode CONST_NUM() { return getToken(japyPrecedenceParser.CONST_NUM, 0); }
+		public TerminalNode CONST_STR() { return getToken(japyPrecedenceParser.CONST_STR, 0); }
+		public LiteralExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class NameExpressionContext extends ExpressionContext {
+		public Token name;
+		public TerminalNode ID() { return getToken(japyPrecedenceParser.ID, 0); }
+		public NameExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+	}
+
+	public final ExpressionContext expression() throws RecognitionException {
+		return expression(0);
+	}
+
+	private ExpressionContext expression(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		ExpressionContext _localctx = new ExpressionContext(_ctx, _parentState);
+		ExpressionContext _prevctx = _localctx;
+		int _startState = 44;
+		enterRecursionRule(_localctx, 44, RULE_expression, _p);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(315);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,23,_ctx) ) {
+			case 1:
+				{
+				_localctx = new UnaryExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+
+				setState(280);
+				((UnaryExpressionContext)_localctx).op = _input.LT(1);
+				_la = _input.LA(1);
+				if ( !(_la==T__34 || _la==T__38) ) {
+					((UnaryExpressionContext)_localctx).op = (Token)_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				setState(281);
+				((UnaryExpressionContext)_localctx).operand = expression(17);
+				}
+				break;
+			case 2:
+				{
+				_localctx = new LiteralExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(282);
+				((LiteralExpressionContext)_localctx).n = match(CONST_NUM);
+				}
+				break;
+			case 3:
+				{
+				_localctx = new LiteralExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(283);
+				((LiteralExpressionContext)_localctx).s = match(CONST_STR);
+				}
+				break;
+			case 4:
+				{
+				_localctx = new LiteralExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(284);
+				((LiteralExpressionContext)_localctx).selfModifier = match(T__43);
+				}
+				break;
+			case 5:
+				{
+				_localctx = new LiteralExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(285);
+				((LiteralExpressionContext)_localctx).trueModifier = match(T__44);
+				}
+				break;
+			case 6:
+				{
+				_localctx = new LiteralExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(286);
+				((LiteralExpressionContext)_localctx).falseModifier = match(T__45);
+				}
+				break;
+			case 7:
+				{
+				_localctx = new NewArrayExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(287);
+				match(T__42);
+				setState(288);
+				((NewArrayExpressionContext)_localctx).st = singleType();
+				setState(289);
+				match(T__40);
+				setState(290);
+				((NewArrayExpressionContext)_localctx).size = expression(0);
+				setState(291);
+				match(T__41);
+				}
+				break;
+			case 8:
+				{
+				_localctx = new NewObjectExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(293);
+				match(T__42);
+				setState(294);
+				((NewObjectExpressionContext)_localctx).type = match(ID);
+				setState(295);
+				match(T__11);
+				setState(296);
+				match(T__13);
+				}
+				break;
+			case 9:
+				{
+				_localctx = new FunctionCallExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(297);
+				((FunctionCallExpressionContext)_localctx).name = match(ID);
+				setState(298);
+				match(T__11);
+				setState(307);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 12517424486158336L) != 0)) {
+					{
+					setState(299);
+					((FunctionCallExpressionContext)_localctx).expression = expression(0);
+					((FunctionCallExpressionContext)_localctx).args.add(((FunctionCallExpressionContext)_localctx).expression);
+					setState(304);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==T__6) {
+						{
+						{
+						setState(300);
+						match(T__6);
+						setState(301);
+						((FunctionCallExpressionContext)_localctx).expression = expression(0);
+						((FunctionCallExpressionContext)_localctx).args.add(((FunctionCallExpressionContext)_localctx).expression);
+						}
+						}
+						setState(306);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					}
+				}
+
+				setState(309);
+				match(T__13);
+				}
+				break;
+			case 10:
+				{
+				_localctx = new NameExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(310);
+				((NameExpressionContext)_localctx).name = match(ID);
+				}
+				break;
+			case 11:
+				{
+				_localctx = new ParenExpressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(311);
+				match(T__11);
+				setState(312);
+				((ParenExpressionContext)_localctx).inner = expression(0);
+				setState(313);
+				match(T__13);
+				}
+				break;
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(360);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,27,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					setState(358);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,26,_ctx) ) {
+					case 1:
+						{
+						_localctx = new BinaryExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						((BinaryExpressionContext)_localctx).left = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(317);
+						if (!(precpred(_ctx, 16))) throw new FailedPredicateException(this, "precpred(_ctx, 16)");
+						setState(318);
+						((BinaryExpressionContext)_localctx).op = _input.LT(1);
+						_la = _input.LA(1);
+						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 481036337152L) != 0)) ) {
+							((BinaryExpressionContext)_localctx).op = (Token)_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(319);
+						((BinaryExpressionContext)_localctx).right = expression(17);
+						}
+						break;
+					case 2:
+						{
+						_localctx = new BinaryExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						((BinaryExpressionContext)_localctx).left = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(320);
+						if (!(precpred(_ctx, 15))) throw new FailedPredicateException(this, "precpred(_ctx, 15)");
+						setState(321);
+						((BinaryExpressionContext)_localctx).op = _input.LT(1);
+						_la = _input.LA(1);
+						if ( !(_la==T__33 || _la==T__34) ) {
+							((BinaryExpressionContext)_localctx).op = (Token)_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(322);
+						((BinaryExpressionContext)_localctx).right = expression(16);
+						}
+						break;
+					case 3:
+						{
+						_localctx = new BinaryExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						((BinaryExpressionContext)_localctx).left = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(323);
+						if (!(precpred(_ctx, 14))) throw new FailedPredicateException(this, "precpred(_ctx, 14)");
+						setState(324);
+						((BinaryExpressionContext)_localctx).op = _input.LT(1);
+						_la = _input.LA(1);
+						if ( !(_la==T__31 || _la==T__32) ) {
+							((BinaryExpressionContext)_localctx).op = (Token)_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(325);
+						((BinaryExpressionContext)_localctx).right = expression(15);
+						}
+						break;
+					case 4:
+						{
+						_localctx = new BinaryExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						((BinaryExpressionContext)_localctx).left = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(326);
+						if (!(precpred(_ctx, 13))) throw new FailedPredicateException(this, "precpred(_ctx, 13)");
+						setState(327);
+						((BinaryExpressionContext)_localctx).op = _input.LT(1);
+						_la = _input.LA(1);
+						if ( !(_la==T__29 || _la==T__30) ) {
+							((BinaryExpressionContext)_localctx).op = (Token)_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(328);
+						((BinaryExpressionContext)_localctx).right = expression(14);
+						}
+						break;
+					case 5:
+						{
+						_localctx = new BinaryExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						((BinaryExpressionContext)_localctx).left = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(329);
+						if (!(precpred(_ctx, 12))) throw new FailedPredicateException(this, "precpred(_ctx, 12)");
+						setState(330);
+						((BinaryExpressionContext)_localctx).op = match(T__28);
+						setState(331);
+						((BinaryExpressionContext)_localctx).right = expression(13);
+						}
+						break;
+					case 6:
+						{
+						_localctx = new BinaryExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						((BinaryExpressionContext)_localctx).left = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(332);
+						if (!(precpred(_ctx, 11))) throw new FailedPredicateException(this, "precpred(_ctx, 11)");
+						setState(333);
+						((BinaryExpressionContext)_localctx).op = match(T__27);
+						setState(334);
+						((BinaryExpressionContext)_localctx).right = expression(12);
+						}
+						break;
+					case 7:
+						{
+						_localctx = new CallExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						((CallExpressionContext)_localctx).target = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(335);
+						if (!(precpred(_ctx, 20))) throw new FailedPredicateException(this, "precpred(_ctx, 20)");
+						setState(336);
+						match(T__39);
+						setState(337);
+						((CallExpressionContext)_localctx).name = match(ID);
+						setState(338);
+						match(T__11);
+						setState(347);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+						if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 12517424486158336L) != 0)) {
+							{
+							setState(339);
+							((CallExpressionContext)_localctx).expression = expression(0);
+							((CallExpressionContext)_localctx).args.add(((CallExpressionContext)_localctx).expression);
+							setState(344);
+							_errHandler.sync(this);
+							_la = _input.LA(1);
+							while (_la==T__6) {
+								{
+								{
+								setState(340);
+								match(T__6);
+								setState(341);
+								((CallExpressionContext)_localctx).expression = expression(0);
+								((CallExpressionContext)_localctx).args.add(((CallExpressionContext)_localctx).expression);
+								}
+								}
+								setState(346);
+								_errHandler.sync(this);
+								_la = _input.LA(1);
+							}
+							}
+						}
+
+						setState(349);
+						match(T__13);
+						}
+						break;
+					case 8:
+						{
+						_localctx = new FieldExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						((FieldExpressionContext)_localctx).target = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(350);
+						if (!(precpred(_ctx, 19))) throw new FailedPredicateException(this, "precpred(_ctx, 19)");
+						setState(351);
+						match(T__39);
+						setState(352);
+						((FieldExpressionContext)_localctx).name = match(ID);
+						}
+						break;
+					case 9:
+						{
+						_localctx = new IndexExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						((IndexExpressionContext)_localctx).target = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(353);
+						if (!(precpred(_ctx, 18))) throw new FailedPredicateException(this, "precpred(_ctx, 18)");
+						setState(354);
+						match(T__40);
+						setState(355);
+						((IndexExpressionContext)_localctx).index = expression(0);
+						setState(356);
+						match(T__41);
+						}
+						break;
+					}
+					} 
+				}
+				setState(362);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,27,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class JapyTypeContext extends ParserRuleContext {
+		public SingleTypeContext st;
+		public SingleTypeContext singleType() {
+			return getRuleContext(SingleTypeContext.class,0);
+		}
+		public JapyTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_japyType; }
+	}
+
+	public final JapyTypeContext japyType() throws RecognitionException {
+		JapyTypeContext _localctx = new JapyTypeContext(_ctx, getState());
+		enterRule(_localctx, 46, RULE_japyType);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(363);
+			((JapyTypeContext)_localctx).st = singleType();
+			setState(366);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==T__40) {
+				{
+				setState(364);
+				match(T__40);
+				setState(365);
+				match(T__41);
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class SingleTypeContext extends ParserRuleContext {
+		public Token i;
+		public TerminalNode ID() { return getToken(japyPrecedenceParser.ID, 0); }
+		public SingleTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_singleType; }
+	}
+
+	public final SingleTypeContext singleType() throws RecognitionException {
+		SingleTypeContext _localctx = new SingleTypeContext(_ctx, getState());
+		enterRule(_localctx, 48, RULE_singleType);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(372);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case T__46:
+				{
+				setState(368);
+				match(T__46);
+				}
+				break;
+			case T__47:
+				{
+				setState(369);
+				match(T__47);
+				}
+				break;
+			case T__48:
+				{
+				setState(370);
+				match(T__48);
+				}
+				break;
+			case ID:
+				{
+				setState(371);
+				((SingleTypeContext)_localctx).i = match(ID);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
+		switch (ruleIndex) {
+		case 22:
+			return expression_sempred((ExpressionContext)_localctx, predIndex);
+		}
+		return true;
+	}
+	private boolean expression_sempred(ExpressionContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 0:
+			return precpred(_ctx, 16);
+		case 1:
+			return precpred(_ctx, 15);
+		case 2:
+			return precpred(_ctx, 14);
+		case 3:
+			return precpred(_ctx, 13);
+		case 4:
+			return precpred(_ctx, 12);
+		case 5:
+			return precpred(_ctx, 11);
+		case 6:
+			return precpred(_ctx, 20);
+		case 7:
+			return precpred(_ctx, 19);
+		case 8:
+			return precpred(_ctx, 18);
+		}
+		return true;
+	}
+
+	public static final String _serializedATN =
+		"\u0004\u00018\u0177\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
+		"\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004\u0002"+
+		"\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007\u0007\u0007\u0002"+
+		"\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b\u0007\u000b\u0002"+
+		"\f\u0007\f\u0002\r\u0007\r\u0002\u000e\u0007\u000e\u0002\u000f\u0007\u000f"+
+		"\u0002\u0010\u0007\u0010\u0002\u0011\u0007\u0011\u0002\u0012\u0007\u0012"+
+		"\u0002\u0013\u0007\u0013\u0002\u0014\u0007\u0014\u0002\u0015\u0007\u0015"+
+		"\u0002\u0016\u0007\u0016\u0002\u0017\u0007\u0017\u0002\u0018\u0007\u0018"+
+		"\u0001\u0000\u0005\u00004\b\u0000\n\u0000\f\u00007\t\u0000\u0001\u0000"+
+		"\u0001\u0000\u0005\u0000;\b\u0000\n\u0000\f\u0000>\t\u0000\u0001\u0000"+
+		"\u0001\u0000\u0001\u0001\u0003\u0001C\b\u0001\u0001\u0001\u0001\u0001"+
+		"\u0001\u0001\u0001\u0001\u0003\u0001I\b\u0001\u0001\u0001\u0001\u0001"+
+		"\u0001\u0001\u0005\u0001N\b\u0001\n\u0001\f\u0001Q\t\u0001\u0001\u0001"+
+		"\u0001\u0001\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0003\u0003\u0003"+
+		"Y\b\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003"+
+		"\u0005\u0003`\b\u0003\n\u0003\f\u0003c\t\u0003\u0001\u0004\u0001\u0004"+
+		"\u0001\u0005\u0003\u0005h\b\u0005\u0001\u0005\u0001\u0005\u0001\u0005"+
+		"\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005"+
+		"\u0001\u0005\u0005\u0005t\b\u0005\n\u0005\f\u0005w\t\u0005\u0003\u0005"+
+		"y\b\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005"+
+		"\u0005\u0005\u0080\b\u0005\n\u0005\f\u0005\u0083\t\u0005\u0001\u0005\u0001"+
+		"\u0005\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001"+
+		"\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0003"+
+		"\u0006\u0092\b\u0006\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001"+
+		"\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001"+
+		"\u0007\u0005\u0007\u009f\b\u0007\n\u0007\f\u0007\u00a2\t\u0007\u0001\u0007"+
+		"\u0001\u0007\u0001\u0007\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001"+
+		"\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001"+
+		"\b\u0001\b\u0001\b\u0005\b\u00b8\b\b\n\b\f\b\u00bb\t\b\u0001\b\u0001\b"+
+		"\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001"+
+		"\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0005\b\u00ce\b\b\n"+
+		"\b\f\b\u00d1\t\b\u0001\b\u0001\b\u0001\b\u0003\b\u00d6\b\b\u0001\t\u0001"+
+		"\t\u0003\t\u00da\b\t\u0001\n\u0001\n\u0003\n\u00de\b\n\u0001\u000b\u0001"+
+		"\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001"+
+		"\u000b\u0005\u000b\u00e8\b\u000b\n\u000b\f\u000b\u00eb\t\u000b\u0001\f"+
+		"\u0001\f\u0005\f\u00ef\b\f\n\f\f\f\u00f2\t\f\u0001\f\u0001\f\u0001\r\u0001"+
+		"\r\u0001\u000e\u0001\u000e\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u0010"+
+		"\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0011"+
+		"\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0012"+
+		"\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0013\u0001\u0013"+
+		"\u0001\u0013\u0001\u0013\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0015"+
+		"\u0001\u0015\u0001\u0015\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016"+
+		"\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016"+
+		"\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016"+
+		"\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016"+
+		"\u0001\u0016\u0005\u0016\u012f\b\u0016\n\u0016\f\u0016\u0132\t\u0016\u0003"+
+		"\u0016\u0134\b\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001"+
+		"\u0016\u0001\u0016\u0003\u0016\u013c\b\u0016\u0001\u0016\u0001\u0016\u0001"+
+		"\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001"+
+		"\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001"+
+		"\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001"+
+		"\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0005\u0016\u0157"+
+		"\b\u0016\n\u0016\f\u0016\u015a\t\u0016\u0003\u0016\u015c\b\u0016\u0001"+
+		"\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001"+
+		"\u0016\u0001\u0016\u0001\u0016\u0005\u0016\u0167\b\u0016\n\u0016\f\u0016"+
+		"\u016a\t\u0016\u0001\u0017\u0001\u0017\u0001\u0017\u0003\u0017\u016f\b"+
+		"\u0017\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0003\u0018\u0175"+
+		"\b\u0018\u0001\u0018\u0000\u0001,\u0019\u0000\u0002\u0004\u0006\b\n\f"+
+		"\u000e\u0010\u0012\u0014\u0016\u0018\u001a\u001c\u001e \"$&(*,.0\u0000"+
+		"\u0006\u0001\u0000\b\n\u0002\u0000##\'\'\u0001\u0000$&\u0001\u0000\"#"+
+		"\u0001\u0000 !\u0001\u0000\u001e\u001f\u0197\u00005\u0001\u0000\u0000"+
+		"\u0000\u0002B\u0001\u0000\u0000\u0000\u0004T\u0001\u0000\u0000\u0000\u0006"+
+		"X\u0001\u0000\u0000\u0000\bd\u0001\u0000\u0000\u0000\ng\u0001\u0000\u0000"+
+		"\u0000\f\u0091\u0001\u0000\u0000\u0000\u000e\u0093\u0001\u0000\u0000\u0000"+
+		"\u0010\u00d5\u0001\u0000\u0000\u0000\u0012\u00d9\u0001\u0000\u0000\u0000"+
+		"\u0014\u00dd\u0001\u0000\u0000\u0000\u0016\u00df\u0001\u0000\u0000\u0000"+
+		"\u0018\u00ec\u0001\u0000\u0000\u0000\u001a\u00f5\u0001\u0000\u0000\u0000"+
+		"\u001c\u00f7\u0001\u0000\u0000\u0000\u001e\u00f9\u0001\u0000\u0000\u0000"+
+		" \u00fc\u0001\u0000\u0000\u0000\"\u0102\u0001\u0000\u0000\u0000$\u0108"+
+		"\u0001\u0000\u0000\u0000&\u010d\u0001\u0000\u0000\u0000(\u0111\u0001\u0000"+
+		"\u0000\u0000*\u0114\u0001\u0000\u0000\u0000,\u013b\u0001\u0000\u0000\u0000"+
+		".\u016b\u0001\u0000\u0000\u00000\u0174\u0001\u0000\u0000\u000024\u0003"+
+		"\u0002\u0001\u000032\u0001\u0000\u0000\u000047\u0001\u0000\u0000\u0000"+
+		"53\u0001\u0000\u0000\u000056\u0001\u0000\u0000\u000068\u0001\u0000\u0000"+
+		"\u000075\u0001\u0000\u0000\u00008<\u0003\u0004\u0002\u00009;\u0003\u0002"+
+		"\u0001\u0000:9\u0001\u0000\u0000\u0000;>\u0001\u0000\u0000\u0000<:\u0001"+
+		"\u0000\u0000\u0000<=\u0001\u0000\u0000\u0000=?\u0001\u0000\u0000\u0000"+
+		"><\u0001\u0000\u0000\u0000?@\u0005\u0000\u0000\u0001@\u0001\u0001\u0000"+
+		"\u0000\u0000AC\u0003\b\u0004\u0000BA\u0001\u0000\u0000\u0000BC\u0001\u0000"+
+		"\u0000\u0000CD\u0001\u0000\u0000\u0000DE\u0005\u0001\u0000\u0000EH\u0005"+
+		"5\u0000\u0000FG\u0005\u0002\u0000\u0000GI\u00055\u0000\u0000HF\u0001\u0000"+
+		"\u0000\u0000HI\u0001\u0000\u0000\u0000IJ\u0001\u0000\u0000\u0000JO\u0005"+
+		"\u0003\u0000\u0000KN\u0003\u0006\u0003\u0000LN\u0003\n\u0005\u0000MK\u0001"+
+		"\u0000\u0000\u0000ML\u0001\u0000\u0000\u0000NQ\u0001\u0000\u0000\u0000"+
+		"OM\u0001\u0000\u0000\u0000OP\u0001\u0000\u0000\u0000PR\u0001\u0000\u0000"+
+		"\u0000QO\u0001\u0000\u0000\u0000RS\u0005\u0004\u0000\u0000S\u0003\u0001"+
+		"\u0000\u0000\u0000TU\u0005\u0005\u0000\u0000UV\u0003\u0002\u0001\u0000"+
+		"V\u0005\u0001\u0000\u0000\u0000WY\u0003\b\u0004\u0000XW\u0001\u0000\u0000"+
+		"\u0000XY\u0001\u0000\u0000\u0000YZ\u0001\u0000\u0000\u0000Z[\u0005\u0006"+
+		"\u0000\u0000[\\\u0003.\u0017\u0000\\a\u00055\u0000\u0000]^\u0005\u0007"+
+		"\u0000\u0000^`\u00055\u0000\u0000_]\u0001\u0000\u0000\u0000`c\u0001\u0000"+
+		"\u0000\u0000a_\u0001\u0000\u0000\u0000ab\u0001\u0000\u0000\u0000b\u0007"+
+		"\u0001\u0000\u0000\u0000ca\u0001\u0000\u0000\u0000de\u0007\u0000\u0000"+
+		"\u0000e\t\u0001\u0000\u0000\u0000fh\u0003\b\u0004\u0000gf\u0001\u0000"+
+		"\u0000\u0000gh\u0001\u0000\u0000\u0000hi\u0001\u0000\u0000\u0000ij\u0005"+
+		"\u000b\u0000\u0000jk\u00055\u0000\u0000kx\u0005\f\u0000\u0000lm\u0005"+
+		"5\u0000\u0000mn\u0005\r\u0000\u0000nu\u0003.\u0017\u0000op\u0005\u0007"+
+		"\u0000\u0000pq\u00055\u0000\u0000qr\u0005\r\u0000\u0000rt\u0003.\u0017"+
+		"\u0000so\u0001\u0000\u0000\u0000tw\u0001\u0000\u0000\u0000us\u0001\u0000"+
+		"\u0000\u0000uv\u0001\u0000\u0000\u0000vy\u0001\u0000\u0000\u0000wu\u0001"+
+		"\u0000\u0000\u0000xl\u0001\u0000\u0000\u0000xy\u0001\u0000\u0000\u0000"+
+		"yz\u0001\u0000\u0000\u0000z{\u0005\u000e\u0000\u0000{|\u0005\u000f\u0000"+
+		"\u0000|}\u0003.\u0017\u0000}\u0081\u0005\u0003\u0000\u0000~\u0080\u0003"+
+		"\u0014\n\u0000\u007f~\u0001\u0000\u0000\u0000\u0080\u0083\u0001\u0000"+
+		"\u0000\u0000\u0081\u007f\u0001\u0000\u0000\u0000\u0081\u0082\u0001\u0000"+
+		"\u0000\u0000\u0082\u0084\u0001\u0000\u0000\u0000\u0083\u0081\u0001\u0000"+
+		"\u0000\u0000\u0084\u0085\u0005\u0004\u0000\u0000\u0085\u000b\u0001\u0000"+
+		"\u0000\u0000\u0086\u0092\u0003\u0018\f\u0000\u0087\u0092\u0003\u000e\u0007"+
+		"\u0000\u0088\u0092\u0003 \u0010\u0000\u0089\u0092\u0003$\u0012\u0000\u008a"+
+		"\u0092\u0003&\u0013\u0000\u008b\u0092\u0003\u001e\u000f\u0000\u008c\u0092"+
+		"\u0003\u0016\u000b\u0000\u008d\u0092\u0003\u001a\r\u0000\u008e\u0092\u0003"+
+		"\u001c\u000e\u0000\u008f\u0092\u0003(\u0014\u0000\u0090\u0092\u0003*\u0015"+
+		"\u0000\u0091\u0086\u0001\u0000\u0000\u0000\u0091\u0087\u0001\u0000\u0000"+
+		"\u0000\u0091\u0088\u0001\u0000\u0000\u0000\u0091\u0089\u0001\u0000\u0000"+
+		"\u0000\u0091\u008a\u0001\u0000\u0000\u0000\u0091\u008b\u0001\u0000\u0000"+
+		"\u0000\u0091\u008c\u0001\u0000\u0000\u0000\u0091\u008d\u0001\u0000\u0000"+
+		"\u0000\u0091\u008e\u0001\u0000\u0000\u0000\u0091\u008f\u0001\u0000\u0000"+
+		"\u0000\u0091\u0090\u0001\u0000\u0000\u0000\u0092\r\u0001\u0000\u0000\u0000"+
+		"\u0093\u0094\u0005\u0010\u0000\u0000\u0094\u0095\u0005\f\u0000\u0000\u0095"+
+		"\u0096\u0003,\u0016\u0000\u0096\u0097\u0005\u000e\u0000\u0000\u0097\u00a0"+
+		"\u0003\f\u0006\u0000\u0098\u0099\u0005\u0011\u0000\u0000\u0099\u009a\u0005"+
+		"\f\u0000\u0000\u009a\u009b\u0003,\u0016\u0000\u009b\u009c\u0005\u000e"+
+		"\u0000\u0000\u009c\u009d\u0003\f\u0006\u0000\u009d\u009f\u0001\u0000\u0000"+
+		"\u0000\u009e\u0098\u0001\u0000\u0000\u0000\u009f\u00a2\u0001\u0000\u0000"+
+		"\u0000\u00a0\u009e\u0001\u0000\u0000\u0000\u00a0\u00a1\u0001\u0000\u0000"+
+		"\u0000\u00a1\u00a3\u0001\u0000\u0000\u0000\u00a2\u00a0\u0001\u0000\u0000"+
+		"\u0000\u00a3\u00a4\u0005\u0012\u0000\u0000\u00a4\u00a5\u0003\f\u0006\u0000"+
+		"\u00a5\u000f\u0001\u0000\u0000\u0000\u00a6\u00a7\u0005\u0010\u0000\u0000"+
+		"\u00a7\u00a8\u0005\f\u0000\u0000\u00a8\u00a9\u0003,\u0016\u0000\u00a9"+
+		"\u00aa\u0005\u000e\u0000\u0000\u00aa\u00ab\u0003\u0014\n\u0000\u00ab\u00d6"+
+		"\u0001\u0000\u0000\u0000\u00ac\u00ad\u0005\u0010\u0000\u0000\u00ad\u00ae"+
+		"\u0005\f\u0000\u0000\u00ae\u00af\u0003,\u0016\u0000\u00af\u00b0\u0005"+
+		"\u000e\u0000\u0000\u00b0\u00b9\u0003\f\u0006\u0000\u00b1\u00b2\u0005\u0011"+
+		"\u0000\u0000\u00b2\u00b3\u0005\f\u0000\u0000\u00b3\u00b4\u0003,\u0016"+
+		"\u0000\u00b4\u00b5\u0005\u000e\u0000\u0000\u00b5\u00b6\u0003\f\u0006\u0000"+
+		"\u00b6\u00b8\u0001\u0000\u0000\u0000\u00b7\u00b1\u0001\u0000\u0000\u0000"+
+		"\u00b8\u00bb\u0001\u0000\u0000\u0000\u00b9\u00b7\u0001\u0000\u0000\u0000"+
+		"\u00b9\u00ba\u0001\u0000\u0000\u0000\u00ba\u00bc\u0001\u0000\u0000\u0000"+
+		"\u00bb\u00b9\u0001\u0000\u0000\u0000\u00bc\u00bd\u0005\u0011\u0000\u0000"+
+		"\u00bd\u00be\u0005\f\u0000\u0000\u00be\u00bf\u0003,\u0016\u0000\u00bf"+
+		"\u00c0\u0005\u000e\u0000\u0000\u00c0\u00c1\u0003\u0014\n\u0000\u00c1\u00d6"+
+		"\u0001\u0000\u0000\u0000\u00c2\u00c3\u0005\u0010\u0000\u0000\u00c3\u00c4"+
+		"\u0005\f\u0000\u0000\u00c4\u00c5\u0003,\u0016\u0000\u00c5\u00c6\u0005"+
+		"\u000e\u0000\u0000\u00c6\u00cf\u0003\f\u0006\u0000\u00c7\u00c8\u0005\u0011"+
+		"\u0000\u0000\u00c8\u00c9\u0005\f\u0000\u0000\u00c9\u00ca\u0003,\u0016"+
+		"\u0000\u00ca\u00cb\u0005\u000e\u0000\u0000\u00cb\u00cc\u0003\f\u0006\u0000"+
+		"\u00cc\u00ce\u0001\u0000\u0000\u0000\u00cd\u00c7\u0001\u0000\u0000\u0000"+
+		"\u00ce\u00d1\u0001\u0000\u0000\u0000\u00cf\u00cd\u0001\u0000\u0000\u0000"+
+		"\u00cf\u00d0\u0001\u0000\u0000\u0000\u00d0\u00d2\u0001\u0000\u0000\u0000"+
+		"\u00d1\u00cf\u0001\u0000\u0000\u0000\u00d2\u00d3\u0005\u0012\u0000\u0000"+
+		"\u00d3\u00d4\u0003\u0012\t\u0000\u00d4\u00d6\u0001\u0000\u0000\u0000\u00d5"+
+		"\u00a6\u0001\u0000\u0000\u0000\u00d5\u00ac\u0001\u0000\u0000\u0000\u00d5"+
+		"\u00c2\u0001\u0000\u0000\u0000\u00d6\u0011\u0001\u0000\u0000\u0000\u00d7"+
+		"\u00da\u0003\"\u0011\u0000\u00d8\u00da\u0003\u0010\b\u0000\u00d9\u00d7"+
+		"\u0001\u0000\u0000\u0000\u00d9\u00d8\u0001\u0000\u0000\u0000\u00da\u0013"+
+		"\u0001\u0000\u0000\u0000\u00db\u00de\u0003\f\u0006\u0000\u00dc\u00de\u0003"+
+		"\u0012\t\u0000\u00dd\u00db\u0001\u0000\u0000\u0000\u00dd\u00dc\u0001\u0000"+
+		"\u0000\u0000\u00de\u0015\u0001\u0000\u0000\u0000\u00df\u00e0\u0005\u0013"+
+		"\u0000\u0000\u00e0\u00e1\u00055\u0000\u0000\u00e1\u00e2\u0005\u0014\u0000"+
+		"\u0000\u00e2\u00e9\u0003,\u0016\u0000\u00e3\u00e4\u0005\u0007\u0000\u0000"+
+		"\u00e4\u00e5\u00055\u0000\u0000\u00e5\u00e6\u0005\u0014\u0000\u0000\u00e6"+
+		"\u00e8\u0003,\u0016\u0000\u00e7\u00e3\u0001\u0000\u0000\u0000\u00e8\u00eb"+
+		"\u0001\u0000\u0000\u0000\u00e9\u00e7\u0001\u0000\u0000\u0000\u00e9\u00ea"+
+		"\u0001\u0000\u0000\u0000\u00ea\u0017\u0001\u0000\u0000\u0000\u00eb\u00e9"+
+		"\u0001\u0000\u0000\u0000\u00ec\u00f0\u0005\u0003\u0000\u0000\u00ed\u00ef"+
+		"\u0003\u0014\n\u0000\u00ee\u00ed\u0001\u0000\u0000\u0000\u00ef\u00f2\u0001"+
+		"\u0000\u0000\u0000\u00f0\u00ee\u0001\u0000\u0000\u0000\u00f0\u00f1\u0001"+
+		"\u0000\u0000\u0000\u00f1\u00f3\u0001\u0000\u0000\u0000\u00f2\u00f0\u0001"+
+		"\u0000\u0000\u0000\u00f3\u00f4\u0005\u0004\u0000\u0000\u00f4\u0019\u0001"+
+		"\u0000\u0000\u0000\u00f5\u00f6\u0005\u0015\u0000\u0000\u00f6\u001b\u0001"+
+		"\u0000\u0000\u0000\u00f7\u00f8\u0005\u0016\u0000\u0000\u00f8\u001d\u0001"+
+		"\u0000\u0000\u0000\u00f9\u00fa\u0005\u0017\u0000\u0000\u00fa\u00fb\u0003"+
+		",\u0016\u0000\u00fb\u001f\u0001\u0000\u0000\u0000\u00fc\u00fd\u0005\u0018"+
+		"\u0000\u0000\u00fd\u00fe\u0005\f\u0000\u0000\u00fe\u00ff\u0003,\u0016"+
+		"\u0000\u00ff\u0100\u0005\u000e\u0000\u0000\u0100\u0101\u0003\f\u0006\u0000"+
+		"\u0101!\u0001\u0000\u0000\u0000\u0102\u0103\u0005\u0018\u0000\u0000\u0103"+
+		"\u0104\u0005\f\u0000\u0000\u0104\u0105\u0003,\u0016\u0000\u0105\u0106"+
+		"\u0005\u000e\u0000\u0000\u0106\u0107\u0003\u0012\t\u0000\u0107#\u0001"+
+		"\u0000\u0000\u0000\u0108\u0109\u0005\u0019\u0000\u0000\u0109\u010a\u0005"+
+		"\f\u0000\u0000\u010a\u010b\u0003,\u0016\u0000\u010b\u010c\u0005\u000e"+
+		"\u0000\u0000\u010c%\u0001\u0000\u0000\u0000\u010d\u010e\u0003,\u0016\u0000"+
+		"\u010e\u010f\u0005\u0014\u0000\u0000\u010f\u0110\u0003,\u0016\u0000\u0110"+
+		"\'\u0001\u0000\u0000\u0000\u0111\u0112\u0003,\u0016\u0000\u0112\u0113"+
+		"\u0005\u001a\u0000\u0000\u0113)\u0001\u0000\u0000\u0000\u0114\u0115\u0003"+
+		",\u0016\u0000\u0115\u0116\u0005\u001b\u0000\u0000\u0116+\u0001\u0000\u0000"+
+		"\u0000\u0117\u0118\u0006\u0016\uffff\uffff\u0000\u0118\u0119\u0007\u0001"+
+		"\u0000\u0000\u0119\u013c\u0003,\u0016\u0011\u011a\u013c\u00052\u0000\u0000"+
+		"\u011b\u013c\u00053\u0000\u0000\u011c\u013c\u0005,\u0000\u0000\u011d\u013c"+
+		"\u0005-\u0000\u0000\u011e\u013c\u0005.\u0000\u0000\u011f\u0120\u0005+"+
+		"\u0000\u0000\u0120\u0121\u00030\u0018\u0000\u0121\u0122\u0005)\u0000\u0000"+
+		"\u0122\u0123\u0003,\u0016\u0000\u0123\u0124\u0005*\u0000\u0000\u0124\u013c"+
+		"\u0001\u0000\u0000\u0000\u0125\u0126\u0005+\u0000\u0000\u0126\u0127\u0005"+
+		"5\u0000\u0000\u0127\u0128\u0005\f\u0000\u0000\u0128\u013c\u0005\u000e"+
+		"\u0000\u0000\u0129\u012a\u00055\u0000\u0000\u012a\u0133\u0005\f\u0000"+
+		"\u0000\u012b\u0130\u0003,\u0016\u0000\u012c\u012d\u0005\u0007\u0000\u0000"+
+		"\u012d\u012f\u0003,\u0016\u0000\u012e\u012c\u0001\u0000\u0000\u0000\u012f"+
+		"\u0132\u0001\u0000\u0000\u0000\u0130\u012e\u0001\u0000\u0000\u0000\u0130"+
+		"\u0131\u0001\u0000\u0000\u0000\u0131\u0134\u0001\u0000\u0000\u0000\u0132"+
+		"\u0130\u0001\u0000\u0000\u0000\u0133\u012b\u0001\u0000\u0000\u0000\u0133"+
+		"\u0134\u0001\u0000\u0000\u0000\u0134\u0135\u0001\u0000\u0000\u0000\u0135"+
+		"\u013c\u0005\u000e\u0000\u0000\u0136\u013c\u00055\u0000\u0000\u0137\u0138"+
+		"\u0005\f\u0000\u0000\u0138\u0139\u0003,\u0016\u0000\u0139\u013a\u0005"+
+		"\u000e\u0000\u0000\u013a\u013c\u0001\u0000\u0000\u0000\u013b\u0117\u0001"+
+		"\u0000\u0000\u0000\u013b\u011a\u0001\u0000\u0000\u0000\u013b\u011b\u0001"+
+		"\u0000\u0000\u0000\u013b\u011c\u0001\u0000\u0000\u0000\u013b\u011d\u0001"+
+		"\u0000\u0000\u0000\u013b\u011e\u0001\u0000\u0000\u0000\u013b\u011f\u0001"+
+		"\u0000\u0000\u0000\u013b\u0125\u0001\u0000\u0000\u0000\u013b\u0129\u0001"+
+		"\u0000\u0000\u0000\u013b\u0136\u0001\u0000\u0000\u0000\u013b\u0137\u0001"+
+		"\u0000\u0000\u0000\u013c\u0168\u0001\u0000\u0000\u0000\u013d\u013e\n\u0010"+
+		"\u0000\u0000\u013e\u013f\u0007\u0002\u0000\u0000\u013f\u0167\u0003,\u0016"+
+		"\u0011\u0140\u0141\n\u000f\u0000\u0000\u0141\u0142\u0007\u0003\u0000\u0000"+
+		"\u0142\u0167\u0003,\u0016\u0010\u0143\u0144\n\u000e\u0000\u0000\u0144"+
+		"\u0145\u0007\u0004\u0000\u0000\u0145\u0167\u0003,\u0016\u000f\u0146\u0147"+
+		"\n\r\u0000\u0000\u0147\u0148\u0007\u0005\u0000\u0000\u0148\u0167\u0003"+
+		",\u0016\u000e\u0149\u014a\n\f\u0000\u0000\u014a\u014b\u0005\u001d\u0000"+
+		"\u0000\u014b\u0167\u0003,\u0016\r\u014c\u014d\n\u000b\u0000\u0000\u014d"+
+		"\u014e\u0005\u001c\u0000\u0000\u014e\u0167\u0003,\u0016\f\u014f\u0150"+
+		"\n\u0014\u0000\u0000\u0150\u0151\u0005(\u0000\u0000\u0151\u0152\u0005"+
+		"5\u0000\u0000\u0152\u015b\u0005\f\u0000\u0000\u0153\u0158\u0003,\u0016"+
+		"\u0000\u0154\u0155\u0005\u0007\u0000\u0000\u0155\u0157\u0003,\u0016\u0000"+
+		"\u0156\u0154\u0001\u0000\u0000\u0000\u0157\u015a\u0001\u0000\u0000\u0000"+
+		"\u0158\u0156\u0001\u0000\u0000\u0000\u0158\u0159\u0001\u0000\u0000\u0000"+
+		"\u0159\u015c\u0001\u0000\u0000\u0000\u015a\u0158\u0001\u0000\u0000\u0000"+
+		"\u015b\u0153\u0001\u0000\u0000\u0000\u015b\u015c\u0001\u0000\u0000\u0000"+
+		"\u015c\u015d\u0001\u0000\u0000\u0000\u015d\u0167\u0005\u000e\u0000\u0000"+
+		"\u015e\u015f\n\u0013\u0000\u0000\u015f\u0160\u0005(\u0000\u0000\u0160"+
+		"\u0167\u00055\u0000\u0000\u0161\u0162\n\u0012\u0000\u0000\u0162\u0163"+
+		"\u0005)\u0000\u0000\u0163\u0164\u0003,\u0016\u0000\u0164\u0165\u0005*"+
+		"\u0000\u0000\u0165\u0167\u0001\u0000\u0000\u0000\u0166\u013d\u0001\u0000"+
+		"\u0000\u0000\u0166\u0140\u0001\u0000\u0000\u0000\u0166\u0143\u0001\u0000"+
+		"\u0000\u0000\u0166\u0146\u0001\u0000\u0000\u0000\u0166\u0149\u0001\u0000"+
+		"\u0000\u0000\u0166\u014c\u0001\u0000\u0000\u0000\u0166\u014f\u0001\u0000"+
+		"\u0000\u0000\u0166\u015e\u0001\u0000\u0000\u0000\u0166\u0161\u0001\u0000"+
+		"\u0000\u0000\u0167\u016a\u0001\u0000\u0000\u0000\u0168\u0166\u0001\u0000"+
+		"\u0000\u0000\u0168\u0169\u0001\u0000\u0000\u0000\u0169-\u0001\u0000\u0000"+
+		"\u0000\u016a\u0168\u0001\u0000\u0000\u0000\u016b\u016e\u00030\u0018\u0000"+
+		"\u016c\u016d\u0005)\u0000\u0000\u016d\u016f\u0005*\u0000\u0000\u016e\u016c"+
+		"\u0001\u0000\u0000\u0000\u016e\u016f\u0001\u0000\u0000\u0000\u016f/\u0001"+
+		"\u0000\u0000\u0000\u0170\u0175\u0005/\u0000\u0000\u0171\u0175\u00050\u0000"+
+		"\u0000\u0172\u0175\u00051\u0000\u0000\u0173\u0175\u00055\u0000\u0000\u0174"+
+		"\u0170\u0001\u0000\u0000\u0000\u0174\u0171\u0001\u0000\u0000\u0000\u0174"+
+		"\u0172\u0001\u0000\u0000\u0000\u0174\u0173\u0001\u0000\u0000\u0000\u0175"+
+		"1\u0001\u0000\u0000\u0000\u001e5<BHMOXagux\u0081\u0091\u00a0\u00b9\u00cf"+
+		"\u00d5\u00d9\u00dd\u00e9\u00f0\u0130\u0133\u013b\u0158\u015b\u0166\u0168"+
+		"\u016e\u0174";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file